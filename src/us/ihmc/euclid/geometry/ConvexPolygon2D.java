@@ -9,15 +9,19 @@ import us.ihmc.euclid.geometry.exceptions.EmptyPolygonException;
 import us.ihmc.euclid.geometry.exceptions.OutdatedPolygonException;
 import us.ihmc.euclid.geometry.interfaces.ConvexPolygon2DBasics;
 import us.ihmc.euclid.geometry.interfaces.ConvexPolygon2DReadOnly;
+import us.ihmc.euclid.geometry.interfaces.Pose2DBasics;
 import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
 import us.ihmc.euclid.geometry.interfaces.Vertex3DSupplier;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryIOTools;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.ConvexHullMethod;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryRandomTools;
 import us.ihmc.euclid.interfaces.GeometryObject;
 import us.ihmc.euclid.tuple2D.Point2D;
+import us.ihmc.euclid.tuple2D.Vector2D;
 import us.ihmc.euclid.tuple2D.interfaces.Point2DBasics;
 import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
+import us.ihmc.euclid.tuple2D.interfaces.Vector2DBasics;
 
 /**
  * Describes a planar convex polygon defined in the XY-plane.
@@ -84,6 +88,26 @@ public class ConvexPolygon2D implements ConvexPolygon2DBasics, GeometryObject<Co
     * </p>
     */
    private double area;
+   /**
+    * This field is used to know whether the diameter, minimum width and minimum-area bounding
+    * rectangle of this polygon have been computed since the last time this polygon was updated.
+    * <p>
+    * These properties are computed with the rotating calipers at the first query following an
+    * update, and are outdated in the methods {@link #clear()} and {@link #updateCentroidAndArea()}
+    * which is itself called in {@link #update()}.
+    * </p>
+    */
+   private boolean areCaliperPropertiesUpToDate = false;
+   /** The largest distance between two vertices of this polygon. */
+   private double diameter;
+   /** The smallest distance between two parallel lines enclosing this polygon. */
+   private double minimumWidth;
+   /** The pose of the center of the rectangle of minimum area enclosing this polygon. */
+   private final Pose2D minimumAreaBoundingRectanglePose = new Pose2D();
+   /** The size of the rectangle of minimum area enclosing this polygon. */
+   private final Vector2D minimumAreaBoundingRectangleSize = new Vector2D();
+   /** The area of the rectangle of minimum area enclosing this polygon. */
+   private double minimumAreaBoundingRectangleArea;
    /**
     * This field is used to know whether the method {@link #update()} has been called since the last
     * time the vertices of this polygon have been modified.
@@ -92,6 +116,11 @@ public class ConvexPolygon2D implements ConvexPolygon2DBasics, GeometryObject<Co
     * </p>
     */
    private boolean isUpToDate = false;
+   /**
+    * The algorithm used in {@link #update()} to compute the convex hull of the vertices, selected
+    * according to the number of vertices by default.
+    */
+   private ConvexHullMethod convexHullMethod = ConvexHullMethod.AUTOMATIC;
 
    /**
     * Creates an empty convex polygon.
@@ -187,6 +216,7 @@ public class ConvexPolygon2D implements ConvexPolygon2DBasics, GeometryObject<Co
       centroid.setToNaN();
       boundingBox.setToNaN();
       isUpToDate = false;
+      areCaliperPropertiesUpToDate = false;
    }
 
    /** {@inheritDoc} */
@@ -244,7 +274,17 @@ public class ConvexPolygon2D implements ConvexPolygon2DBasics, GeometryObject<Co
       if (isUpToDate)
          return;
 
-      numberOfVertices = EuclidGeometryPolygonTools.inPlaceGiftWrapConvexHull2D(vertexBuffer, numberOfVertices);
+      numberOfVertices = EuclidGeometryPolygonTools.inPlaceConvexHull2D(vertexBuffer, numberOfVertices, convexHullMethod);
+      isUpToDate = true;
+
+      updateCentroidAndArea();
+      updateBoundingBox();
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void updateAssumingConvexHull()
+   {
       isUpToDate = true;
 
       updateCentroidAndArea();
@@ -276,6 +316,7 @@ public class ConvexPolygon2D implements ConvexPolygon2DBasics, GeometryObject<Co
    public void updateCentroidAndArea()
    {
       area = EuclidGeometryPolygonTools.computeConvexPolyong2DArea(vertexBuffer, numberOfVertices, clockwiseOrdered, centroid);
+      areCaliperPropertiesUpToDate = false;
    }
 
    @Override
@@ -302,6 +343,49 @@ public class ConvexPolygon2D implements ConvexPolygon2DBasics, GeometryObject<Co
       return centroid;
    }
 
+   /** {@inheritDoc} */
+   @Override
+   public double getDiameter()
+   {
+      checkIfUpToDate();
+      updateCaliperProperties();
+      return diameter;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getMinimumWidth()
+   {
+      checkIfUpToDate();
+      updateCaliperProperties();
+      return minimumWidth;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public double getMinimumAreaBoundingRectangle(Pose2DBasics rectanglePoseToPack, Vector2DBasics rectangleSizeToPack)
+   {
+      checkIfUpToDate();
+      updateCaliperProperties();
+      rectanglePoseToPack.set(minimumAreaBoundingRectanglePose);
+      rectangleSizeToPack.set(minimumAreaBoundingRectangleSize);
+      return minimumAreaBoundingRectangleArea;
+   }
+
+   private void updateCaliperProperties()
+   {
+      if (areCaliperPropertiesUpToDate)
+         return;
+
+      diameter = EuclidGeometryPolygonTools.diameterOfConvexPolygon2D(vertexBuffer, numberOfVertices, clockwiseOrdered);
+      minimumWidth = EuclidGeometryPolygonTools.minimumWidthOfConvexPolygon2D(vertexBuffer, numberOfVertices, clockwiseOrdered);
+      minimumAreaBoundingRectangleArea = EuclidGeometryPolygonTools.minimumAreaBoundingRectangleOfConvexPolygon2D(vertexBuffer, numberOfVertices,
+                                                                                                                  clockwiseOrdered,
+                                                                                                                  minimumAreaBoundingRectanglePose,
+                                                                                                                  minimumAreaBoundingRectangleSize);
+      areCaliperPropertiesUpToDate = true;
+   }
+
    /** {@inheritDoc} */
    @Override
    public BoundingBox2D getBoundingBox()
@@ -340,6 +424,36 @@ public class ConvexPolygon2D implements ConvexPolygon2DBasics, GeometryObject<Co
       return isUpToDate;
    }
 
+   /**
+    * Sets the algorithm used in {@link #update()} to compute the convex hull of the vertices of this
+    * polygon.
+    * <p>
+    * Note that this polygon is marked as being out-of-date. The method {@link #update()} has to be
+    * called afterward before being able to perform operations with this polygon.
+    * </p>
+    *
+    * @param convexHullMethod the new algorithm to use. Not modified.
+    */
+   public void setConvexHullMethod(ConvexHullMethod convexHullMethod)
+   {
+      if (convexHullMethod == null)
+         throw new IllegalArgumentException("The convex hull method cannot be null.");
+
+      this.convexHullMethod = convexHullMethod;
+      notifyVerticesChanged();
+   }
+
+   /**
+    * Gets the algorithm used in {@link #update()} to compute the convex hull of the vertices of this
+    * polygon.
+    *
+    * @return the convex hull algorithm, {@link ConvexHullMethod#AUTOMATIC} by default.
+    */
+   public ConvexHullMethod getConvexHullMethod()
+   {
+      return convexHullMethod;
+   }
+
    @Override
    public void notifyVerticesChanged()
    {
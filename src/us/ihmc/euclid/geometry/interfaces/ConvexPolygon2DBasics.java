@@ -1,8 +1,11 @@
 package us.ihmc.euclid.geometry.interfaces;
 
+import java.util.List;
+
 import us.ihmc.euclid.exceptions.NotAMatrix2DException;
 import us.ihmc.euclid.geometry.exceptions.EmptyPolygonException;
 import us.ihmc.euclid.geometry.exceptions.OutdatedPolygonException;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools;
 import us.ihmc.euclid.interfaces.Clearable;
 import us.ihmc.euclid.interfaces.Transformable;
 import us.ihmc.euclid.transform.interfaces.Transform;
@@ -90,6 +93,26 @@ public interface ConvexPolygon2DBasics extends ConvexPolygon2DReadOnly, Clearabl
     */
    void update();
 
+   /**
+    * Updates this polygon assuming that its vertices already represent a clockwise convex polygon
+    * starting with its min-x max-y vertex, such that the convex hull does not have to be computed.
+    * <p>
+    * Note that this also updates centroid, area and the bounding box of this polygon.
+    * </p>
+    * <p>
+    * WARNING: The vertices are not checked, prefer using {@link #update()} unless the vertices have
+    * been computed by an algorithm that guarantees their ordering.
+    * </p>
+    * <p>
+    * The default implementation falls back to {@link #update()}, implementations should override it
+    * to skip the convex hull computation.
+    * </p>
+    */
+   default void updateAssumingConvexHull()
+   {
+      update();
+   }
+
    /**
     * Updates the bounding box properties.
     */
@@ -261,6 +284,11 @@ public interface ConvexPolygon2DBasics extends ConvexPolygon2DReadOnly, Clearabl
     * Sets this polygon such that it represents the smallest convex hull that contains all the vertices
     * supplied by the two suppliers.
     * <p>
+    * When both suppliers are up-to-date convex polygons, other than this polygon, their union is
+    * computed in linear time by merging their vertices, see
+    * {@link EuclidGeometryPolygonTools#convexHullOfTwoConvexPolygon2Ds(List, int, boolean, List, int, boolean, ConvexPolygon2DBasics)}.
+    * </p>
+    * <p>
     * Note that the resulting polygon is ready to be used for any operations, no need to call
     * {@link #update()}.
     * </p>
@@ -270,6 +298,20 @@ public interface ConvexPolygon2DBasics extends ConvexPolygon2DReadOnly, Clearabl
     */
    default void set(Vertex2DSupplier firstVertex2DSupplier, Vertex2DSupplier secondVertex2DSupplier)
    {
+      if (firstVertex2DSupplier instanceof ConvexPolygon2DReadOnly && secondVertex2DSupplier instanceof ConvexPolygon2DReadOnly)
+      {
+         ConvexPolygon2DReadOnly firstPolygon = (ConvexPolygon2DReadOnly) firstVertex2DSupplier;
+         ConvexPolygon2DReadOnly secondPolygon = (ConvexPolygon2DReadOnly) secondVertex2DSupplier;
+
+         if (firstPolygon != this && secondPolygon != this && firstPolygon.isUpToDate() && secondPolygon.isUpToDate())
+         {
+            EuclidGeometryPolygonTools.convexHullOfTwoConvexPolygon2Ds(firstPolygon.getVertexBufferView(), firstPolygon.getNumberOfVertices(),
+                                                                       firstPolygon.isClockwiseOrdered(), secondPolygon.getVertexBufferView(),
+                                                                       secondPolygon.getNumberOfVertices(), secondPolygon.isClockwiseOrdered(), this);
+            return;
+         }
+      }
+
       clear();
       addVertices(firstVertex2DSupplier);
       addVertices(secondVertex2DSupplier);
@@ -363,6 +405,30 @@ public interface ConvexPolygon2DBasics extends ConvexPolygon2DReadOnly, Clearabl
       updateCentroidAndArea();
    }
 
+   /**
+    * Offsets this polygon by moving each of its edges by {@code distance} along its outward normal.
+    * <p>
+    * A positive distance grows this polygon, a negative distance shrinks it, for instance by a safety
+    * margin. When shrinking, the edges that collapse are removed and this polygon becomes empty if
+    * the distance exceeds the radius of its largest inscribed circle.
+    * </p>
+    * <p>
+    * The offset is computed in linear time without generating garbage and this polygon remains
+    * up-to-date, see
+    * {@link EuclidGeometryPolygonTools#inPlaceOffsetConvexPolygon2D(double, ConvexPolygon2DBasics)}.
+    * </p>
+    *
+    * @param distance the distance to move the edges by, positive to grow this polygon.
+    * @return {@code true} if this polygon is not empty after the offset, {@code false} otherwise.
+    * @throws OutdatedPolygonException if {@link #update()} has not been called since last time this
+    *            polygon's vertices were edited.
+    */
+   default boolean offset(double distance)
+   {
+      checkIfUpToDate();
+      return EuclidGeometryPolygonTools.inPlaceOffsetConvexPolygon2D(distance, this);
+   }
+
    /**
     * Transforms this convex polygon using the given homogeneous transformation matrix.
     *
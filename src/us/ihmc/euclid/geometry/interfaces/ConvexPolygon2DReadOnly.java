@@ -12,6 +12,7 @@ import us.ihmc.euclid.tuple2D.Point2D;
 import us.ihmc.euclid.tuple2D.interfaces.Point2DBasics;
 import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
 import us.ihmc.euclid.tuple2D.interfaces.Tuple2DReadOnly;
+import us.ihmc.euclid.tuple2D.interfaces.Vector2DBasics;
 
 /**
  * Read-only interface for a convex polygon defined in the XY-plane.
@@ -364,6 +365,60 @@ public interface ConvexPolygon2DReadOnly extends Vertex2DSupplier
     */
    BoundingBox2DReadOnly getBoundingBox();
 
+   /**
+    * Gets the diameter of this polygon, i.e. the largest distance between two of its vertices.
+    * <p>
+    * The diameter is computed in linear time using the rotating calipers.
+    * </p>
+    *
+    * @return the diameter of this polygon, {@link Double#NaN} if this polygon is empty.
+    * @throws OutdatedPolygonException if {@link ConvexPolygon2DBasics#update()} has not been called
+    *            since last time this polygon's vertices were edited.
+    */
+   default double getDiameter()
+   {
+      checkIfUpToDate();
+      return EuclidGeometryPolygonTools.diameterOfConvexPolygon2D(getVertexBufferView(), getNumberOfVertices(), isClockwiseOrdered());
+   }
+
+   /**
+    * Gets the minimum width of this polygon, i.e. the smallest distance between two parallel lines
+    * enclosing this polygon.
+    * <p>
+    * The minimum width is computed in linear time using the rotating calipers.
+    * </p>
+    *
+    * @return the minimum width of this polygon, {@link Double#NaN} if this polygon is empty.
+    * @throws OutdatedPolygonException if {@link ConvexPolygon2DBasics#update()} has not been called
+    *            since last time this polygon's vertices were edited.
+    */
+   default double getMinimumWidth()
+   {
+      checkIfUpToDate();
+      return EuclidGeometryPolygonTools.minimumWidthOfConvexPolygon2D(getVertexBufferView(), getNumberOfVertices(), isClockwiseOrdered());
+   }
+
+   /**
+    * Gets the rectangle of minimum area enclosing this polygon.
+    * <p>
+    * The rectangle is described by the pose of its center, its first axis being aligned with one of
+    * the edges of this polygon, and by its size along its first and second axes. It is computed in
+    * linear time using the rotating calipers.
+    * </p>
+    *
+    * @param rectanglePoseToPack the pose of the rectangle center. Modified.
+    * @param rectangleSizeToPack the size of the rectangle along its first and second axes. Modified.
+    * @return the area of the rectangle, {@link Double#NaN} if this polygon is empty.
+    * @throws OutdatedPolygonException if {@link ConvexPolygon2DBasics#update()} has not been called
+    *            since last time this polygon's vertices were edited.
+    */
+   default double getMinimumAreaBoundingRectangle(Pose2DBasics rectanglePoseToPack, Vector2DBasics rectangleSizeToPack)
+   {
+      checkIfUpToDate();
+      return EuclidGeometryPolygonTools.minimumAreaBoundingRectangleOfConvexPolygon2D(getVertexBufferView(), getNumberOfVertices(), isClockwiseOrdered(),
+                                                                                      rectanglePoseToPack, rectangleSizeToPack);
+   }
+
    /**
     * Gets the size along the x-axis of this polygon's bounding box.
     *
@@ -720,6 +775,29 @@ public interface ConvexPolygon2DReadOnly extends Vertex2DSupplier
                                                                                    isClockwiseOrdered());
    }
 
+   /**
+    * Calculates the minimum distance between this polygon and {@code other}.
+    * <p>
+    * Note that if the two polygons intersect, this method returns 0.0.
+    * </p>
+    * <p>
+    * The distance is computed in linear time by walking the Minkowski difference of the two polygons.
+    * </p>
+    *
+    * @param other the other convex polygon. Not modified.
+    * @return the distance between the two polygons, {@link Double#NaN} if any of them is empty.
+    * @throws OutdatedPolygonException if {@link ConvexPolygon2DBasics#update()} has not been called
+    *            since last time the vertices of either polygon were edited.
+    */
+   default double distance(ConvexPolygon2DReadOnly other)
+   {
+      checkIfUpToDate();
+      other.checkIfUpToDate();
+      return EuclidGeometryPolygonTools.distanceBetweenTwoConvexPolygon2Ds(getVertexBufferView(), getNumberOfVertices(), isClockwiseOrdered(),
+                                                                           other.getVertexBufferView(), other.getNumberOfVertices(),
+                                                                           other.isClockwiseOrdered());
+   }
+
    /**
     * Computes the orthogonal projection of a 2D point on this 2D convex polygon.
     * <p>
@@ -1301,6 +1379,185 @@ public interface ConvexPolygon2DReadOnly extends Vertex2DSupplier
                                                                                            isClockwiseOrdered());
    }
 
+   /**
+    * Computes the intersection between this convex polygon and another convex polygon.
+    * <p>
+    * The intersection is computed in linear time and without generating garbage as long as
+    * {@code intersectionToPack} can hold the vertices of the intersection without growing.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>If the polygons do not intersect, {@code intersectionToPack} is empty and this method
+    * returns {@code false}.
+    * <li>If the polygons are only touching, {@code intersectionToPack} is a point or a line segment.
+    * </ul>
+    * </p>
+    *
+    * @param other the other convex polygon. Not modified.
+    * @param intersectionToPack the polygon in which the intersection is stored. Modified.
+    * @return {@code true} if the polygons intersect, {@code false} otherwise.
+    * @throws OutdatedPolygonException if {@link ConvexPolygon2DBasics#update()} has not been called
+    *            since last time the vertices of either polygon were edited.
+    * @throws IllegalArgumentException if {@code intersectionToPack} is either this polygon or
+    *            {@code other}.
+    */
+   default boolean intersectionWith(ConvexPolygon2DReadOnly other, ConvexPolygon2DBasics intersectionToPack)
+   {
+      checkIfUpToDate();
+      other.checkIfUpToDate();
+      checkNotAliased(other, intersectionToPack);
+      return EuclidGeometryPolygonTools.intersectionBetweenTwoConvexPolygon2Ds(getVertexBufferView(), getNumberOfVertices(), isClockwiseOrdered(),
+                                                                              other.getVertexBufferView(), other.getNumberOfVertices(),
+                                                                              other.isClockwiseOrdered(), intersectionToPack);
+   }
+
+   /**
+    * Computes the Minkowski sum of this convex polygon and another convex polygon, i.e. the convex
+    * polygon formed by all the sums <tt>p + q</tt> of a point <tt>p</tt> of this polygon and a point
+    * <tt>q</tt> of {@code other}.
+    * <p>
+    * The sum is computed in linear time and without generating garbage as long as {@code sumToPack}
+    * can hold the vertices of the sum without growing.
+    * </p>
+    *
+    * @param other the other convex polygon. Not modified.
+    * @param sumToPack the polygon in which the Minkowski sum is stored. Modified.
+    * @throws OutdatedPolygonException if {@link ConvexPolygon2DBasics#update()} has not been called
+    *            since last time the vertices of either polygon were edited.
+    * @throws IllegalArgumentException if {@code sumToPack} is either this polygon or {@code other}.
+    */
+   default void minkowskiSum(ConvexPolygon2DReadOnly other, ConvexPolygon2DBasics sumToPack)
+   {
+      checkIfUpToDate();
+      other.checkIfUpToDate();
+      checkNotAliased(other, sumToPack);
+      EuclidGeometryPolygonTools.minkowskiSumOfTwoConvexPolygon2Ds(getVertexBufferView(), getNumberOfVertices(), isClockwiseOrdered(),
+                                                                   other.getVertexBufferView(), other.getNumberOfVertices(), other.isClockwiseOrdered(),
+                                                                   sumToPack);
+   }
+
+   /**
+    * Computes the Minkowski difference of this convex polygon and another convex polygon, i.e. the
+    * convex polygon formed by all the differences <tt>p - q</tt> of a point <tt>p</tt> of this
+    * polygon and a point <tt>q</tt> of {@code other}.
+    * <p>
+    * The two polygons intersect if and only if their Minkowski difference contains the origin.
+    * </p>
+    * <p>
+    * The difference is computed in linear time and without generating garbage as long as
+    * {@code differenceToPack} can hold the vertices of the difference without growing.
+    * </p>
+    *
+    * @param other the other convex polygon. Not modified.
+    * @param differenceToPack the polygon in which the Minkowski difference is stored. Modified.
+    * @throws OutdatedPolygonException if {@link ConvexPolygon2DBasics#update()} has not been called
+    *            since last time the vertices of either polygon were edited.
+    * @throws IllegalArgumentException if {@code differenceToPack} is either this polygon or
+    *            {@code other}.
+    */
+   default void minkowskiDifference(ConvexPolygon2DReadOnly other, ConvexPolygon2DBasics differenceToPack)
+   {
+      checkIfUpToDate();
+      other.checkIfUpToDate();
+      checkNotAliased(other, differenceToPack);
+      EuclidGeometryPolygonTools.minkowskiDifferenceOfTwoConvexPolygon2Ds(getVertexBufferView(), getNumberOfVertices(), isClockwiseOrdered(),
+                                                                          other.getVertexBufferView(), other.getNumberOfVertices(),
+                                                                          other.isClockwiseOrdered(), differenceToPack);
+   }
+
+   /**
+    * Computes the polygon obtained by moving each edge of this polygon by {@code distance} along its
+    * outward normal.
+    * <p>
+    * A positive distance grows the polygon, a negative distance shrinks it. When shrinking, the edges
+    * that collapse are removed and the offset polygon is empty if the distance exceeds the radius of
+    * the largest inscribed circle of this polygon.
+    * </p>
+    *
+    * @param distance the distance to move the edges by, positive to grow the polygon.
+    * @param offsetPolygonToPack the polygon in which the offset polygon is stored. It can be this
+    *           polygon. Modified.
+    * @return {@code true} if the offset polygon is not empty, {@code false} otherwise.
+    * @throws OutdatedPolygonException if {@link ConvexPolygon2DBasics#update()} has not been called
+    *            since last time this polygon's vertices were edited.
+    * @see ConvexPolygon2DBasics#offset(double)
+    */
+   default boolean offset(double distance, ConvexPolygon2DBasics offsetPolygonToPack)
+   {
+      checkIfUpToDate();
+
+      if (offsetPolygonToPack != this)
+      {
+         if (isClockwiseOrdered() && offsetPolygonToPack.isClockwiseOrdered())
+         {
+            // The vertices of this polygon are already ordered, there is no need to recompute the convex hull.
+            offsetPolygonToPack.clear();
+
+            for (int i = 0; i < getNumberOfVertices(); i++)
+               offsetPolygonToPack.addVertex(getVertex(i));
+
+            offsetPolygonToPack.updateAssumingConvexHull();
+         }
+         else
+         {
+            offsetPolygonToPack.set(this);
+         }
+      }
+
+      return EuclidGeometryPolygonTools.inPlaceOffsetConvexPolygon2D(distance, offsetPolygonToPack);
+   }
+
+   /**
+    * Computes the polygons obtained by moving each edge of this polygon by each of the given
+    * distances along its outward normal, for instance to get the support polygon shrunk by several
+    * safety margins at once.
+    * <p>
+    * The {@code i}<sup>th</sup> offset polygon is computed from this polygon and
+    * {@code distances[i]}, see {@link #offset(double, ConvexPolygon2DBasics)}.
+    * </p>
+    *
+    * @param distances the distances to move the edges by, positive to grow the polygon. Not
+    *           modified.
+    * @param offsetPolygonsToPack the polygons in which the offset polygons are stored. Modified.
+    * @throws OutdatedPolygonException if {@link ConvexPolygon2DBasics#update()} has not been called
+    *            since last time this polygon's vertices were edited.
+    * @throws IllegalArgumentException if the two arrays have different lengths or if one of the
+    *            polygons to pack is this polygon.
+    */
+   default void offset(double[] distances, ConvexPolygon2DBasics[] offsetPolygonsToPack)
+   {
+      checkIfUpToDate();
+
+      if (distances.length != offsetPolygonsToPack.length)
+         throw new IllegalArgumentException("The number of distances (" + distances.length + ") and polygons to pack (" + offsetPolygonsToPack.length
+               + ") differ.");
+
+      for (ConvexPolygon2DBasics offsetPolygonToPack : offsetPolygonsToPack)
+      {
+         if (offsetPolygonToPack == this)
+            throw new IllegalArgumentException("The polygons to pack cannot include this polygon.");
+      }
+
+      for (int i = 0; i < distances.length; i++)
+         offset(distances[i], offsetPolygonsToPack[i]);
+   }
+
+   /**
+    * Asserts that the given polygon to pack is neither this polygon nor {@code other}, as the result
+    * of an operation between two polygons cannot be written in any of them.
+    *
+    * @param other the other operand. Not modified.
+    * @param polygonToPack the polygon in which the result is to be stored. Not modified.
+    * @throws IllegalArgumentException if {@code polygonToPack} is either this polygon or
+    *            {@code other}.
+    */
+   default void checkNotAliased(ConvexPolygon2DReadOnly other, ConvexPolygon2DReadOnly polygonToPack)
+   {
+      if (polygonToPack == this || polygonToPack == other)
+         throw new IllegalArgumentException("The polygon to pack cannot be one of the operands.");
+   }
+
    /**
     * Finds the index of the closest edge to the query.
     * <p>
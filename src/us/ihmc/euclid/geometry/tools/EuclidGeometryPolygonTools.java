@@ -14,6 +14,7 @@ import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.intersectionBetw
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.isPoint2DInFrontOfRay2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.isPoint2DOnLeftSideOfLine2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.isPoint2DOnLine2D;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.isPoint2DOnRightSideOfLine2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.isPoint2DOnSideOfLine2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.orthogonalProjectionOnLineSegment2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.percentageOfIntersectionBetweenTwoLine2Ds;
@@ -23,6 +24,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Random;
 
+import us.ihmc.euclid.geometry.interfaces.ConvexPolygon2DBasics;
+import us.ihmc.euclid.geometry.interfaces.Pose2DBasics;
 import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
 import us.ihmc.euclid.tuple2D.Point2D;
 import us.ihmc.euclid.tuple2D.interfaces.Point2DBasics;
@@ -74,6 +77,39 @@ public class EuclidGeometryPolygonTools
       abstract boolean isFirstBetter(double first, double second);
    };
 
+   /**
+    * Maximum number of vertices for which {@link ConvexHullMethod#AUTOMATIC} uses the gift wrapping
+    * algorithm.
+    */
+   public static final int GIFT_WRAP_MAX_NUMBER_OF_VERTICES = 16;
+
+   /**
+    * Enum used to select the algorithm computing the convex hull of a set of points.
+    *
+    * @see EuclidGeometryPolygonTools#inPlaceConvexHull2D(List, int, ConvexHullMethod)
+    */
+   public static enum ConvexHullMethod
+   {
+      /**
+       * Selects the gift wrapping algorithm for small sets of points, up to
+       * {@link EuclidGeometryPolygonTools#GIFT_WRAP_MAX_NUMBER_OF_VERTICES}, and Andrew's monotone
+       * chain algorithm otherwise.
+       */
+      AUTOMATIC,
+      /**
+       * Refers to {@link EuclidGeometryPolygonTools#inPlaceGiftWrapConvexHull2D(List, int)}.
+       */
+      GIFT_WRAP,
+      /**
+       * Refers to {@link EuclidGeometryPolygonTools#inPlaceGrahamScanConvexHull2D(List, int)}.
+       */
+      GRAHAM_SCAN,
+      /**
+       * Refers to {@link EuclidGeometryPolygonTools#inPlaceAndrewMonotoneChainConvexHull2D(List, int)}.
+       */
+      MONOTONE_CHAIN
+   };
+
    /**
     * Tests if the polygon defined by the given {@code vertices} is convex at the vertex defined by
     * the given {@code vertexIndex}.
@@ -335,6 +371,115 @@ public class EuclidGeometryPolygonTools
       return numberOfVertices;
    }
 
+   /**
+    * In-place and garbage free implementation of
+    * <a href="https://en.wikibooks.org/wiki/Algorithm_Implementation/Geometry/Convex_hull/Monotone_chain">Andrew's
+    * monotone chain algorithm</a> for computing the convex hull 2D of a set of points.
+    * <p>
+    * The given list {@code vertices} is reordered such that the vertices of the clockwise convex
+    * hull are positioned first. The method returns the number of vertices that compose the convex
+    * hull.
+    * </p>
+    *
+    * @param vertices the 2D point cloud from which the convex hull is to be computed. Modified.
+    * @return the size of the convex hull.
+    * @throws IllegalArgumentException if {@code numberOfVertices} is negative or greater than the
+    *            size of the given list of vertices.
+    */
+   public static int inPlaceAndrewMonotoneChainConvexHull2D(List<? extends Point2DReadOnly> vertices)
+   {
+      return inPlaceAndrewMonotoneChainConvexHull2D(vertices, vertices.size());
+   }
+
+   /**
+    * In-place and garbage free implementation of
+    * <a href="https://en.wikibooks.org/wiki/Algorithm_Implementation/Geometry/Convex_hull/Monotone_chain">Andrew's
+    * monotone chain algorithm</a> for computing the convex hull 2D of a set of points.
+    * <p>
+    * The given list {@code vertices} is reordered such that the vertices of the clockwise convex
+    * hull are positioned first. The method returns the number of vertices that compose the convex
+    * hull.
+    * </p>
+    * <p>
+    * This algorithm runs in O(n log(n)) regardless of the size of the hull, which makes it the
+    * preferred algorithm for large point clouds. As for the other algorithms, duplicate vertices are
+    * removed. Vertices lying on an edge of the hull are also removed.
+    * </p>
+    *
+    * @param vertices the 2D point cloud from which the convex hull is to be computed. Modified.
+    * @param numberOfVertices specifies the number of relevant points in the list. The algorithm
+    *           will only process the points &in; [0; {@code numberOfVertices}[.
+    * @return the size of the convex hull.
+    * @throws IllegalArgumentException if {@code numberOfVertices} is negative or greater than the
+    *            size of the given list of vertices.
+    */
+   public static int inPlaceAndrewMonotoneChainConvexHull2D(List<? extends Point2DReadOnly> vertices, int numberOfVertices)
+   {
+      if (numberOfVertices == 0)
+         return 0;
+
+      checkNumberOfVertices(vertices, numberOfVertices);
+
+      // Sorting the vertices from the min-x max-y vertex to the max-x min-y vertex.
+      heapSortMinXMaxYFirst(vertices, 0, numberOfVertices, false);
+      // Upper chain going clockwise from the first vertex to the last vertex.
+      int upperChainEndIndex = buildClockwiseMonotoneChain(vertices, 0, 0, numberOfVertices);
+
+      // The vertices that are not part of the upper chain have been shuffled, sorting them back in reverse order.
+      heapSortMinXMaxYFirst(vertices, upperChainEndIndex, numberOfVertices, true);
+      // Lower chain going clockwise from the last vertex of the upper chain back to the first vertex.
+      int hullEndIndex = buildClockwiseMonotoneChain(vertices, upperChainEndIndex - 1, upperChainEndIndex, numberOfVertices);
+
+      // Closing the hull: the end of the lower chain has to be convex with respect to the first vertex.
+      Point2DReadOnly firstVertex = vertices.get(0);
+
+      while (hullEndIndex > upperChainEndIndex)
+      {
+         Point2DReadOnly lastVertex = vertices.get(hullEndIndex - 1);
+
+         if (!lastVertex.epsilonEquals(firstVertex, EPSILON) && isPoint2DOnRightSideOfLine2D(firstVertex, vertices.get(hullEndIndex - 2), lastVertex))
+            break;
+
+         hullEndIndex--;
+      }
+
+      return hullEndIndex;
+   }
+
+   /**
+    * Computes in place the convex hull 2D of a set of points using the given algorithm.
+    * <p>
+    * The given list {@code vertices} is reordered such that the vertices of the clockwise convex
+    * hull are positioned first. The method returns the number of vertices that compose the convex
+    * hull.
+    * </p>
+    *
+    * @param vertices the 2D point cloud from which the convex hull is to be computed. Modified.
+    * @param numberOfVertices specifies the number of relevant points in the list. The algorithm
+    *           will only process the points &in; [0; {@code numberOfVertices}[.
+    * @param method the algorithm to use.
+    * @return the size of the convex hull.
+    * @throws IllegalArgumentException if {@code numberOfVertices} is negative or greater than the
+    *            size of the given list of vertices.
+    */
+   public static int inPlaceConvexHull2D(List<? extends Point2DReadOnly> vertices, int numberOfVertices, ConvexHullMethod method)
+   {
+      switch (method)
+      {
+      case GIFT_WRAP:
+         return inPlaceGiftWrapConvexHull2D(vertices, numberOfVertices);
+      case GRAHAM_SCAN:
+         return inPlaceGrahamScanConvexHull2D(vertices, numberOfVertices);
+      case MONOTONE_CHAIN:
+         return inPlaceAndrewMonotoneChainConvexHull2D(vertices, numberOfVertices);
+      default:
+         if (numberOfVertices <= GIFT_WRAP_MAX_NUMBER_OF_VERTICES)
+            return inPlaceGiftWrapConvexHull2D(vertices, numberOfVertices);
+         else
+            return inPlaceAndrewMonotoneChainConvexHull2D(vertices, numberOfVertices);
+      }
+   }
+
    /**
     * Computes the area and centroid (optional) of a convex polygon defined by its size
     * {@code numberOfVertices} and vertices {@code convexPolygon2D}.
@@ -503,7 +648,11 @@ public class EuclidGeometryPolygonTools
     * or if the query is at a distance from the polygon's only edge that is greater than
     * {@code epsilon}, returns {@code true} otherwise.
     * </ul>
-    *
+    * <p>
+    * This method runs in O(log(n)) using a binary search among the triangles fanning out from the
+    * first vertex, except for a negative {@code epsilon} where the distance to every edge has to be
+    * evaluated when the query is inside the polygon.
+    * </p>
     *
     * @param pointX the x-coordinate of the query.
     * @param pointY the y-coordinate of the query.
@@ -520,7 +669,29 @@ public class EuclidGeometryPolygonTools
    public static boolean isPoint2DInsideConvexPolygon2D(double pointX, double pointY, List<? extends Point2DReadOnly> convexPolygon2D, int numberOfVertices,
                                                         boolean clockwiseOrdered, double epsilon)
    {
-      return signedDistanceFromPoint2DToConvexPolygon2D(pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered) <= epsilon;
+      checkNumberOfVertices(convexPolygon2D, numberOfVertices);
+
+      if (numberOfVertices < 3)
+         return signedDistanceFromPoint2DToConvexPolygon2D(pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered) <= epsilon;
+
+      int wedgeIndex = fanWedgeIndexContainingPoint2D(pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+
+      if (isPoint2DClearlyOutsideFanWedge(pointX, pointY, wedgeIndex, convexPolygon2D, numberOfVertices, clockwiseOrdered))
+      {
+         if (epsilon <= 0.0)
+            return false;
+
+         return Math.sqrt(distanceSquaredFromOutsidePoint2DToConvexPolygon2D(pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered,
+                                                                             wedgeIndex)) <= epsilon;
+      }
+      else if (epsilon >= 0.0 && isPoint2DInsideFanWedge(pointX, pointY, wedgeIndex, convexPolygon2D, clockwiseOrdered))
+      {
+         return true;
+      }
+      else
+      {
+         return signedDistanceFromPoint2DToConvexPolygon2D(pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered) <= epsilon;
+      }
    }
 
    /**
@@ -1104,6 +1275,10 @@ public class EuclidGeometryPolygonTools
     * the distance and the line segment defined by the polygon's two vertices.
     * </ul>
     * </p>
+    * <p>
+    * When the query is outside the polygon, this method runs in O(log(n)) by only searching the
+    * closest edge among the edges that can be seen from the query.
+    * </p>
     *
     * @param pointX the x-coordinate of the query.
     * @param pointY the y-coordinate of the query.
@@ -1130,6 +1305,13 @@ public class EuclidGeometryPolygonTools
       if (numberOfVertices == 2)
          return distanceFromPoint2DToLineSegment2D(pointX, pointY, convexPolygon2D.get(0), convexPolygon2D.get(1));
 
+      int wedgeIndex = fanWedgeIndexContainingPoint2D(pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+
+      if (isPoint2DClearlyOutsideFanWedge(pointX, pointY, wedgeIndex, convexPolygon2D, numberOfVertices, clockwiseOrdered))
+      {
+         return Math.sqrt(distanceSquaredFromOutsidePoint2DToConvexPolygon2D(pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered, wedgeIndex));
+      }
+
       boolean isQueryOutsidePolygon = false;
       double minDistance = Double.POSITIVE_INFINITY;
 
@@ -1530,6 +1712,11 @@ public class EuclidGeometryPolygonTools
     * <li>If the polygon has one or no vertices, this method fails and returns {@code -1}.
     * </ul>
     * </p>
+    * <p>
+    * When the query is outside the polygon, this method runs in O(log(n)): the edges that can be
+    * seen from the query are first bounded using the fan triangulation of the polygon, then the
+    * closest of these edges is found with a binary search.
+    * </p>
     *
     * @param pointX the x-coordinate of the query.
     * @param pointY the y-coordinate of the query.
@@ -1549,6 +1736,14 @@ public class EuclidGeometryPolygonTools
       if (numberOfVertices <= 1)
          return -1;
 
+      if (numberOfVertices >= 3)
+      {
+         int wedgeIndex = fanWedgeIndexContainingPoint2D(pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+
+         if (isPoint2DClearlyOutsideFanWedge(pointX, pointY, wedgeIndex, convexPolygon2D, numberOfVertices, clockwiseOrdered))
+            return closestVisibleEdgeIndexToPoint2D(pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered, wedgeIndex);
+      }
+
       boolean isQueryOutsidePolygon = false;
       int insideIndex = -1;
       int outsideIndex = -1;
@@ -2197,125 +2392,1254 @@ public class EuclidGeometryPolygonTools
    }
 
    /**
-    * Sorts the vertices to complete the first step of the Graham scan algorithm.
+    * Computes the intersection between two convex polygons.
     * <p>
-    * First the vertex located at the lowest x-coordinate is found and used as the reference P.
+    * WARNING: This method assumes that the given vertices already form two convex polygons.
     * </p>
     * <p>
-    * Then the vertices are sorted in increasing order of the angle they and the reference P make
-    * with the y-axis.
+    * The intersection is computed in linear time by advancing along the edges of both polygons at
+    * the same time, see O'Rourke, <i>Computational Geometry in C</i>, 1998.
     * </p>
     * <p>
-    * The <a href="https://en.wikipedia.org/wiki/Quicksort#Choice_of_pivot">Quicksort algorithm</a>
-    * is adapted to the Graham scan application to prevent garbage generation.
+    * This method does not generate garbage as long as {@code intersectionToPack} can hold the
+    * vertices of the intersection without growing.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>If the polygons do not intersect, {@code intersectionToPack} is empty and this method
+    * returns {@code false}.
+    * <li>If the polygons are only touching, {@code intersectionToPack} is a point or a line segment.
+    * <li>If any of the two polygons has less than three vertices, or if the polygons have vertices
+    * lying on each other's edges, the intersection is computed by testing every pair of edges.
+    * </ul>
     * </p>
     *
-    * @param vertices the list of vertices to be sorted. Modified.
-    * @param numberOfVertices specifies the number of relevant points in the list. The algorithm
-    *           will only process the points &in; [0; {@code numberOfVertices}[.
+    * @param firstConvexPolygon2D the list containing in [0, {@code firstNumberOfVertices}[ the
+    *           vertices of the first convex polygon. Not modified.
+    * @param firstNumberOfVertices the number of vertices that belong to the first convex polygon.
+    * @param firstClockwiseOrdered whether the vertices of the first polygon are clockwise or
+    *           counter-clockwise ordered.
+    * @param secondConvexPolygon2D the list containing in [0, {@code secondNumberOfVertices}[ the
+    *           vertices of the second convex polygon. Not modified.
+    * @param secondNumberOfVertices the number of vertices that belong to the second convex polygon.
+    * @param secondClockwiseOrdered whether the vertices of the second polygon are clockwise or
+    *           counter-clockwise ordered.
+    * @param intersectionToPack the polygon in which the intersection is stored. Modified.
+    * @return {@code true} if the polygons intersect, {@code false} otherwise.
+    * @throws IllegalArgumentException if any of the two numbers of vertices is negative or greater
+    *            than the size of the corresponding list of vertices.
     */
-   static void grahamScanAngleSort(List<? extends Point2DReadOnly> vertices, int numberOfVertices)
+   public static boolean intersectionBetweenTwoConvexPolygon2Ds(List<? extends Point2DReadOnly> firstConvexPolygon2D, int firstNumberOfVertices,
+                                                                boolean firstClockwiseOrdered, List<? extends Point2DReadOnly> secondConvexPolygon2D,
+                                                                int secondNumberOfVertices, boolean secondClockwiseOrdered,
+                                                                ConvexPolygon2DBasics intersectionToPack)
    {
-      Point2DReadOnly minXMaxYVertex = vertices.get(findMinXMaxYVertexIndex(vertices, numberOfVertices));
-      grahamScanAngleSortRecursive(vertices, minXMaxYVertex, 0, numberOfVertices - 1);
+      checkNumberOfVertices(firstConvexPolygon2D, firstNumberOfVertices);
+      checkNumberOfVertices(secondConvexPolygon2D, secondNumberOfVertices);
+
+      intersectionToPack.clear();
+
+      boolean success = false;
+
+      if (firstNumberOfVertices >= 3 && secondNumberOfVertices >= 3)
+      {
+         success = addIntersectionVerticesByAdvancingEdges(firstConvexPolygon2D, firstNumberOfVertices, firstClockwiseOrdered, secondConvexPolygon2D,
+                                                           secondNumberOfVertices, secondClockwiseOrdered, intersectionToPack);
+      }
+
+      if (success)
+      { // The vertices have been added counter-clockwise.
+         updateConvexPolygon2DFromOrderedVertices(intersectionToPack, false);
+      }
+      else
+      { // The vertices are unordered, the convex hull has to be computed.
+         intersectionToPack.clear();
+         addIntersectionVerticesExhaustively(firstConvexPolygon2D, firstNumberOfVertices, firstClockwiseOrdered, secondConvexPolygon2D,
+                                             secondNumberOfVertices, secondClockwiseOrdered, intersectionToPack);
+         intersectionToPack.update();
+      }
+
+      return !intersectionToPack.isEmpty();
    }
 
    /**
-    * Recursive step of the sorting algorithm for the Graham scan.
+    * Computes the Minkowski sum of two convex polygons, i.e. the convex polygon formed by all the
+    * sums <tt>p + q</tt> of a point <tt>p</tt> of the first polygon and a point <tt>q</tt> of the
+    * second polygon.
+    * <p>
+    * WARNING: This method assumes that the given vertices already form two convex polygons.
+    * </p>
+    * <p>
+    * The sum is computed in linear time by merging the edges of both polygons sorted by angle.
+    * This method does not generate garbage as long as {@code sumToPack} can hold the vertices of the
+    * sum without growing.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>If any of the two polygons is empty, {@code sumToPack} is empty.
+    * </ul>
+    * </p>
+    *
+    * @param firstConvexPolygon2D the list containing in [0, {@code firstNumberOfVertices}[ the
+    *           vertices of the first convex polygon. Not modified.
+    * @param firstNumberOfVertices the number of vertices that belong to the first convex polygon.
+    * @param firstClockwiseOrdered whether the vertices of the first polygon are clockwise or
+    *           counter-clockwise ordered.
+    * @param secondConvexPolygon2D the list containing in [0, {@code secondNumberOfVertices}[ the
+    *           vertices of the second convex polygon. Not modified.
+    * @param secondNumberOfVertices the number of vertices that belong to the second convex polygon.
+    * @param secondClockwiseOrdered whether the vertices of the second polygon are clockwise or
+    *           counter-clockwise ordered.
+    * @param sumToPack the polygon in which the Minkowski sum is stored. Modified.
+    * @throws IllegalArgumentException if any of the two numbers of vertices is negative or greater
+    *            than the size of the corresponding list of vertices.
     */
-   private static void grahamScanAngleSortRecursive(List<? extends Point2DReadOnly> vertices, Point2DReadOnly minXMaxYVertex, int startIndex, int endIndex)
+   public static void minkowskiSumOfTwoConvexPolygon2Ds(List<? extends Point2DReadOnly> firstConvexPolygon2D, int firstNumberOfVertices,
+                                                        boolean firstClockwiseOrdered, List<? extends Point2DReadOnly> secondConvexPolygon2D,
+                                                        int secondNumberOfVertices, boolean secondClockwiseOrdered, ConvexPolygon2DBasics sumToPack)
    {
-      if (endIndex <= startIndex)
-         return;
-
-      // Choose the pivot randomly
-      int pivotIndex = random.nextInt(endIndex - startIndex) + startIndex;
-
-      /*
-       * Partitioning:
-       * @formatter:off
-       * +------------------------+
-       *  | <= pivot | > pivot |
-       * +------------------------+
-       *             ^
-       *             |
-       *         pivotIndex
-       * @formatter:on
-       */
-      pivotIndex = grahamScanAnglePartition(vertices, minXMaxYVertex, startIndex, endIndex, pivotIndex);
-      // Recurse on each side of the pivot
-      grahamScanAngleSortRecursive(vertices, minXMaxYVertex, startIndex, pivotIndex - 1);
-      grahamScanAngleSortRecursive(vertices, minXMaxYVertex, pivotIndex + 1, endIndex);
+      minkowskiSumOfTwoConvexPolygon2Ds(firstConvexPolygon2D, firstNumberOfVertices, firstClockwiseOrdered, secondConvexPolygon2D, secondNumberOfVertices,
+                                        secondClockwiseOrdered, false, sumToPack);
    }
 
    /**
-    * Partition the list around the pivot:
+    * Computes the Minkowski difference of two convex polygons, i.e. the convex polygon formed by all
+    * the differences <tt>p - q</tt> of a point <tt>p</tt> of the first polygon and a point
+    * <tt>q</tt> of the second polygon.
+    * <p>
+    * The two polygons intersect if and only if their Minkowski difference contains the origin, and
+    * the distance between two disjoint polygons is the distance from the origin to their Minkowski
+    * difference.
+    * </p>
+    * <p>
+    * WARNING: This method assumes that the given vertices already form two convex polygons.
+    * </p>
+    * <p>
+    * The difference is computed in linear time by merging the edges of both polygons sorted by
+    * angle. This method does not generate garbage as long as {@code differenceToPack} can hold the
+    * vertices of the difference without growing.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>If any of the two polygons is empty, {@code differenceToPack} is empty.
+    * </ul>
+    * </p>
     *
-    * <pre>
-    * +------------------------+
-    * |  <= pivot  |  > pivot  |
-    * +------------------------+
-    *              ^
-    *              |
-    *          pivotIndex
-    * </pre>
+    * @param firstConvexPolygon2D the list containing in [0, {@code firstNumberOfVertices}[ the
+    *           vertices of the first convex polygon. Not modified.
+    * @param firstNumberOfVertices the number of vertices that belong to the first convex polygon.
+    * @param firstClockwiseOrdered whether the vertices of the first polygon are clockwise or
+    *           counter-clockwise ordered.
+    * @param secondConvexPolygon2D the list containing in [0, {@code secondNumberOfVertices}[ the
+    *           vertices of the second convex polygon. Not modified.
+    * @param secondNumberOfVertices the number of vertices that belong to the second convex polygon.
+    * @param secondClockwiseOrdered whether the vertices of the second polygon are clockwise or
+    *           counter-clockwise ordered.
+    * @param differenceToPack the polygon in which the Minkowski difference is stored. Modified.
+    * @throws IllegalArgumentException if any of the two numbers of vertices is negative or greater
+    *            than the size of the corresponding list of vertices.
     */
-   private static int grahamScanAnglePartition(List<? extends Point2DReadOnly> list, Point2DReadOnly minXMaxYVertex, int startIndex, int endIndex,
-                                               int pivotIndex)
+   public static void minkowskiDifferenceOfTwoConvexPolygon2Ds(List<? extends Point2DReadOnly> firstConvexPolygon2D, int firstNumberOfVertices,
+                                                               boolean firstClockwiseOrdered, List<? extends Point2DReadOnly> secondConvexPolygon2D,
+                                                               int secondNumberOfVertices, boolean secondClockwiseOrdered,
+                                                               ConvexPolygon2DBasics differenceToPack)
    {
-      Point2DReadOnly pivot = list.get(pivotIndex);
-      // Push the pivot to the endIndex
-      Collections.swap(list, pivotIndex, endIndex);
-      // Index where the array is partitioned between smaller and larger elements than the pivot
-      int partitionIndex = startIndex;
-
-      for (int i = startIndex; i < endIndex; i++)
-      {
-         if (grahamScanAngleCompare(minXMaxYVertex, list.get(i), pivot) <= 0)
-         { // Element is lower or equal to the pivot: it is part of the first partition.
-            Collections.swap(list, i, partitionIndex);
-            partitionIndex++;
-         }
-      }
-
-      // Move the pivot back to the partition index.
-      Collections.swap(list, endIndex, partitionIndex);
-      return partitionIndex;
+      minkowskiSumOfTwoConvexPolygon2Ds(firstConvexPolygon2D, firstNumberOfVertices, firstClockwiseOrdered, secondConvexPolygon2D, secondNumberOfVertices,
+                                        secondClockwiseOrdered, true, differenceToPack);
    }
 
-   static int grahamScanAngleCompare(Point2DReadOnly minXMaxYVertex, Point2DReadOnly vertex1, Point2DReadOnly vertex2)
+   /**
+    * Computes the convex hull of two convex polygons, i.e. the smallest convex polygon containing
+    * both polygons.
+    * <p>
+    * WARNING: This method assumes that the given vertices already form two convex polygons.
+    * </p>
+    * <p>
+    * The hull is computed in linear time by merging the upper and lower chains of both polygons,
+    * which are already sorted along the x-axis, and building the hull as in Andrew's monotone chain
+    * algorithm. This method does not generate garbage as long as {@code hullToPack} can hold the
+    * vertices of both polygons without growing.
+    * </p>
+    *
+    * @param firstConvexPolygon2D the list containing in [0, {@code firstNumberOfVertices}[ the
+    *           vertices of the first convex polygon. Not modified.
+    * @param firstNumberOfVertices the number of vertices that belong to the first convex polygon.
+    * @param firstClockwiseOrdered whether the vertices of the first polygon are clockwise or
+    *           counter-clockwise ordered.
+    * @param secondConvexPolygon2D the list containing in [0, {@code secondNumberOfVertices}[ the
+    *           vertices of the second convex polygon. Not modified.
+    * @param secondNumberOfVertices the number of vertices that belong to the second convex polygon.
+    * @param secondClockwiseOrdered whether the vertices of the second polygon are clockwise or
+    *           counter-clockwise ordered.
+    * @param hullToPack the polygon in which the convex hull is stored. Modified.
+    * @throws IllegalArgumentException if any of the two numbers of vertices is negative or greater
+    *            than the size of the corresponding list of vertices.
+    */
+   public static void convexHullOfTwoConvexPolygon2Ds(List<? extends Point2DReadOnly> firstConvexPolygon2D, int firstNumberOfVertices,
+                                                      boolean firstClockwiseOrdered, List<? extends Point2DReadOnly> secondConvexPolygon2D,
+                                                      int secondNumberOfVertices, boolean secondClockwiseOrdered, ConvexPolygon2DBasics hullToPack)
    {
-      if (vertex1 == minXMaxYVertex)
-         return -1;
-      if (vertex2 == minXMaxYVertex)
-         return 1;
-      if (vertex1.epsilonEquals(vertex2, EPSILON))
-         return 0;
-      if (isPoint2DOnLeftSideOfLine2D(vertex1, minXMaxYVertex, vertex2))
-         return -1;
-      return 1;
+      checkNumberOfVertices(firstConvexPolygon2D, firstNumberOfVertices);
+      checkNumberOfVertices(secondConvexPolygon2D, secondNumberOfVertices);
+
+      hullToPack.clear();
+
+      int firstMinXMaxYIndex = findMinXMaxYVertexIndex(firstConvexPolygon2D, firstNumberOfVertices);
+      int firstMaxXMinYIndex = findMaxXMinYVertexIndex(firstConvexPolygon2D, firstNumberOfVertices);
+      int secondMinXMaxYIndex = findMinXMaxYVertexIndex(secondConvexPolygon2D, secondNumberOfVertices);
+      int secondMaxXMinYIndex = findMaxXMinYVertexIndex(secondConvexPolygon2D, secondNumberOfVertices);
+      // Both polygons are walked clockwise.
+      int firstStep = firstClockwiseOrdered ? 1 : -1;
+      int secondStep = secondClockwiseOrdered ? 1 : -1;
+
+      // Upper half of the hull, from the min-x max-y vertex to the max-x min-y vertex.
+      addHalfHullOfTwoConvexPolygon2Ds(firstConvexPolygon2D, firstNumberOfVertices, firstMinXMaxYIndex, firstMaxXMinYIndex, firstStep,
+                                       secondConvexPolygon2D, secondNumberOfVertices, secondMinXMaxYIndex, secondMaxXMinYIndex, secondStep, true,
+                                       hullToPack);
+      // Lower half of the hull, going back to the min-x max-y vertex.
+      addHalfHullOfTwoConvexPolygon2Ds(firstConvexPolygon2D, firstNumberOfVertices, firstMaxXMinYIndex, firstMinXMaxYIndex, firstStep,
+                                       secondConvexPolygon2D, secondNumberOfVertices, secondMaxXMinYIndex, secondMinXMaxYIndex, secondStep, false,
+                                       hullToPack);
+
+      // The lower half ends where the upper half starts.
+      if (hullToPack.getNumberOfVertices() > 1)
+         hullToPack.removeVertex(hullToPack.getNumberOfVertices() - 1);
+
+      updateConvexPolygon2DFromOrderedVertices(hullToPack, true);
    }
 
    /**
-    * Moves the element located at {@code indexOfElementToShift} to {@code listSize - 1} and shifts
-    * all the elements located in [{@code indexToRemove + 1}; {@code listSize - 1}] by {@code -1}.
+    * Offsets in place the given convex polygon by moving each of its edges by {@code distance} along
+    * its outward normal, as computed in {@link #edgeNormal(int, List, int, boolean, Vector2DBasics)},
+    * and intersecting the lines of the adjacent edges.
+    * <p>
+    * A positive distance grows the polygon, a negative distance shrinks it. When shrinking, the edges
+    * that collapse are removed and the polygon vanishes altogether when the distance exceeds the
+    * radius of its largest inscribed circle.
+    * </p>
+    * <p>
+    * The offset polygon is computed in linear time as the intersection of the half-planes bounded by
+    * the offset edge lines, which are already sorted by angle. The vertices of the polygon are used as
+    * working memory such that this method does not generate garbage.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>If the polygon has less than three vertices, it has no edge normal to move along: it is
+    * cleared if {@code distance < 0.0} and left unchanged otherwise.
+    * <li>If the polygon vanishes, it is cleared and this method returns {@code false}.
+    * </ul>
+    * </p>
+    * <p>
+    * The polygon remains up-to-date, no need to call {@link ConvexPolygon2DBasics#update()}.
+    * </p>
     *
-    * @param list the list from which the element is to be moved. Modified.
-    * @param indexOfElementToMove the index of the element to move to the end of the list.
-    * @param listSize the actual size of the list with relevant information.
+    * @param distance the distance to move the edges by, positive to grow the polygon.
+    * @param convexPolygon2D the polygon to offset. Modified.
+    * @return {@code true} if the offset polygon is not empty, {@code false} otherwise.
     */
-   static <T> void moveElementToEnd(List<T> list, int indexOfElementToMove, int listSize)
+   public static boolean inPlaceOffsetConvexPolygon2D(double distance, ConvexPolygon2DBasics convexPolygon2D)
    {
-      T elementToMove = list.get(indexOfElementToMove);
+      int numberOfVertices = convexPolygon2D.getNumberOfVertices();
 
-      while (indexOfElementToMove < listSize - 1)
-         list.set(indexOfElementToMove, list.get(++indexOfElementToMove));
+      if (numberOfVertices < 3)
+      { // A point or a line segment has no interior to shrink and no well-defined edge normals to grow along.
+         if (distance < 0.0)
+            convexPolygon2D.clearAndUpdate();
+         return !convexPolygon2D.isEmpty();
+      }
 
-      list.set(indexOfElementToMove, elementToMove);
-   }
+      boolean clockwiseOrdered = convexPolygon2D.isClockwiseOrdered();
 
-   /**
-    * Finds the index of the vertex with the lowest x-coordinate. If the lowest x-coordinate exists
+      // The edge lines are expressed with respect to the vertex average which is strictly inside the polygon.
+      double centerX = 0.0;
+      double centerY = 0.0;
+
+      for (int i = 0; i < numberOfVertices; i++)
+      {
+         Point2DReadOnly vertex = convexPolygon2D.getVertexUnsafe(i);
+         centerX += vertex.getX();
+         centerY += vertex.getY();
+      }
+
+      centerX /= numberOfVertices;
+      centerY /= numberOfVertices;
+
+      /*
+       * Each vertex is replaced with the foot of the perpendicular from the center to the line of the
+       * edge starting at this vertex. The foot alone describes the line: its direction from the center is
+       * the edge outward normal and its norm is the distance from the center to the edge.
+       */
+      Point2DReadOnly firstVertex = convexPolygon2D.getVertexUnsafe(0);
+      double firstX = firstVertex.getX() - centerX;
+      double firstY = firstVertex.getY() - centerY;
+      double edgeStartX = firstX;
+      double edgeStartY = firstY;
+
+      for (int i = 0; i < numberOfVertices; i++)
+      {
+         double edgeEndX, edgeEndY;
+
+         if (i == numberOfVertices - 1)
+         {
+            edgeEndX = firstX;
+            edgeEndY = firstY;
+         }
+         else
+         {
+            Point2DReadOnly edgeEnd = convexPolygon2D.getVertexUnsafe(i + 1);
+            edgeEndX = edgeEnd.getX() - centerX;
+            edgeEndY = edgeEnd.getY() - centerY;
+         }
+
+         // Same convention as edgeNormal(...), the normalization is deferred to the projection.
+         double normalX = edgeStartY - edgeEndY;
+         double normalY = edgeEndX - edgeStartX;
+
+         if (!clockwiseOrdered)
+         {
+            normalX = -normalX;
+            normalY = -normalY;
+         }
+
+         double scale = (normalX * edgeStartX + normalY * edgeStartY) / (normalX * normalX + normalY * normalY);
+         convexPolygon2D.getVertexUnsafe(i).set(scale * normalX, scale * normalY);
+         edgeStartX = edgeEndX;
+         edgeStartY = edgeEndY;
+      }
+
+      /*
+       * Intersection of the half-planes bounded by the offset edge lines. The edges are already sorted
+       * by the angle of their normal, so the lines that still bound the intersection are kept in a
+       * deque stored in the slots [head, tail[ of the vertices which have already been processed.
+       */
+      int head = 0;
+      int tail = 0;
+
+      for (int i = 0; i < numberOfVertices; i++)
+      {
+         Point2DBasics foot = convexPolygon2D.getVertexUnsafe(i);
+
+         while (tail - head >= 2 && isBackIntersectionOutside(convexPolygon2D, tail, foot, distance))
+            tail--;
+         while (tail - head >= 2 && isFrontIntersectionOutside(convexPolygon2D, head, foot, distance))
+            head++;
+
+         if (tail - head >= 1 && !isTurningLessThanHalfATurn(convexPolygon2D.getVertexUnsafe(tail - 1), foot, clockwiseOrdered))
+         { // There is a gap of half a turn or more between the normals of the remaining lines, nothing is left.
+            convexPolygon2D.clearAndUpdate();
+            return false;
+         }
+
+         convexPolygon2D.getVertexUnsafe(tail).set(foot);
+         tail++;
+      }
+
+      // Closing the deque: its front and back lines are adjacent too.
+      while (tail - head >= 3 && isBackIntersectionOutside(convexPolygon2D, tail, convexPolygon2D.getVertexUnsafe(head), distance))
+         tail--;
+      while (tail - head >= 3 && isFrontIntersectionOutside(convexPolygon2D, head, convexPolygon2D.getVertexUnsafe(tail - 1), distance))
+         head++;
+
+      if (tail - head < 3
+            || !isTurningLessThanHalfATurn(convexPolygon2D.getVertexUnsafe(tail - 1), convexPolygon2D.getVertexUnsafe(head), clockwiseOrdered))
+      {
+         convexPolygon2D.clearAndUpdate();
+         return false;
+      }
+
+      // Each offset vertex is the intersection of the line of the previous edge with the line of its edge.
+      int numberOfOffsetVertices = tail - head;
+      Point2DReadOnly lastFoot = convexPolygon2D.getVertexUnsafe(tail - 1);
+      double previousFootX = lastFoot.getX();
+      double previousFootY = lastFoot.getY();
+
+      for (int i = 0; i < numberOfOffsetVertices; i++)
+      {
+         Point2DBasics vertex = convexPolygon2D.getVertexUnsafe(head + i);
+         double footX = vertex.getX();
+         double footY = vertex.getY();
+         double previousNorm = Math.sqrt(previousFootX * previousFootX + previousFootY * previousFootY);
+         double norm = Math.sqrt(footX * footX + footY * footY);
+         double previousNormalX = previousFootX / previousNorm;
+         double previousNormalY = previousFootY / previousNorm;
+         double normalX = footX / norm;
+         double normalY = footY / norm;
+         double previousOffset = previousNorm + distance;
+         double offset = norm + distance;
+         double determinant = previousNormalX * normalY - previousNormalY * normalX;
+         vertex.set(centerX + (previousOffset * normalY - offset * previousNormalY) / determinant,
+                    centerY + (previousNormalX * offset - normalX * previousOffset) / determinant);
+         previousFootX = footX;
+         previousFootY = footY;
+      }
+
+      for (int i = 0; i < numberOfOffsetVertices && head > 0; i++)
+         convexPolygon2D.getVertexUnsafe(i).set(convexPolygon2D.getVertexUnsafe(head + i));
+
+      // Rotating the vertices such that the polygon starts again with its min-x max-y vertex.
+      int minXMaxYVertexIndex = findMinXMaxYVertexIndex(convexPolygon2D.getVertexBufferView(), numberOfOffsetVertices);
+      reverseVertices(convexPolygon2D, 0, minXMaxYVertexIndex - 1);
+      reverseVertices(convexPolygon2D, minXMaxYVertexIndex, numberOfOffsetVertices - 1);
+      reverseVertices(convexPolygon2D, 0, numberOfOffsetVertices - 1);
+
+      while (convexPolygon2D.getNumberOfVertices() > numberOfOffsetVertices)
+         convexPolygon2D.removeVertex(convexPolygon2D.getNumberOfVertices() - 1);
+
+      if (convexPolygon2D.isUpToDate())
+      {
+         convexPolygon2D.updateBoundingBox();
+         convexPolygon2D.updateCentroidAndArea();
+      }
+      else
+      {
+         convexPolygon2D.update();
+      }
+
+      return true;
+   }
+
+   /**
+    * Computes the diameter of a convex polygon, i.e. the largest distance between two of its
+    * vertices.
+    * <p>
+    * WARNING: This method assumes that the given vertices already form a convex polygon.
+    * </p>
+    * <p>
+    * The diameter is computed in linear time using the rotating calipers: for each edge, the vertices
+    * are walked until reaching the vertex the farthest from the edge line, such that only the pairs of
+    * antipodal vertices are considered.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>If the polygon is empty, this method returns {@link Double#NaN}.
+    * <li>If the polygon has one vertex, this method returns {@code 0.0}.
+    * </ul>
+    * </p>
+    *
+    * @param convexPolygon2D the list containing in [0, {@code numberOfVertices}[ the vertices of the
+    *           convex polygon. Not modified.
+    * @param numberOfVertices the number of vertices that belong to the convex polygon.
+    * @param clockwiseOrdered whether the vertices are clockwise or counter-clockwise ordered.
+    * @return the diameter of the polygon.
+    * @throws IllegalArgumentException if {@code numberOfVertices} is negative or greater than the
+    *            size of the given list of vertices.
+    */
+   public static double diameterOfConvexPolygon2D(List<? extends Point2DReadOnly> convexPolygon2D, int numberOfVertices, boolean clockwiseOrdered)
+   {
+      checkNumberOfVertices(convexPolygon2D, numberOfVertices);
+
+      if (numberOfVertices == 0)
+         return Double.NaN;
+
+      double interiorSide = clockwiseOrdered ? -1.0 : 1.0;
+      double maxDistanceSquared = 0.0;
+      // Starting with the vertex the farthest from the last edge, each vertex is then antipodal to all the vertices the caliper goes through.
+      Point2DReadOnly lastVertex = convexPolygon2D.get(numberOfVertices - 1);
+      Point2DReadOnly firstVertex = convexPolygon2D.get(0);
+      double lastEdgeX = firstVertex.getX() - lastVertex.getX();
+      double lastEdgeY = firstVertex.getY() - lastVertex.getY();
+      int farthestIndex = advanceCaliper(convexPolygon2D, numberOfVertices, 0, lastEdgeX, lastEdgeY);
+      farthestIndex = advanceCaliper(convexPolygon2D, numberOfVertices, farthestIndex, -interiorSide * lastEdgeY, interiorSide * lastEdgeX);
+
+      for (int edgeIndex = 0; edgeIndex < numberOfVertices; edgeIndex++)
+      {
+         Point2DReadOnly edgeStart = convexPolygon2D.get(edgeIndex);
+         Point2DReadOnly edgeEnd = convexPolygon2D.get(next(edgeIndex, numberOfVertices));
+         double normalX = -interiorSide * (edgeEnd.getY() - edgeStart.getY());
+         double normalY = interiorSide * (edgeEnd.getX() - edgeStart.getX());
+
+         while (true)
+         {
+            Point2DReadOnly farthestVertex = convexPolygon2D.get(farthestIndex);
+            int nextIndex = next(farthestIndex, numberOfVertices);
+            Point2DReadOnly nextVertex = convexPolygon2D.get(nextIndex);
+            maxDistanceSquared = Math.max(maxDistanceSquared, distanceSquaredBetweenPoint2Ds(edgeStart, farthestVertex));
+            maxDistanceSquared = Math.max(maxDistanceSquared, distanceSquaredBetweenPoint2Ds(edgeEnd, farthestVertex));
+
+            if ((nextVertex.getX() - farthestVertex.getX()) * normalX + (nextVertex.getY() - farthestVertex.getY()) * normalY <= 0.0)
+            {
+               // The next vertex is also antipodal when it is on an edge parallel to the current edge.
+               maxDistanceSquared = Math.max(maxDistanceSquared, distanceSquaredBetweenPoint2Ds(edgeStart, nextVertex));
+               maxDistanceSquared = Math.max(maxDistanceSquared, distanceSquaredBetweenPoint2Ds(edgeEnd, nextVertex));
+               break;
+            }
+
+            farthestIndex = nextIndex;
+         }
+      }
+
+      return Math.sqrt(maxDistanceSquared);
+   }
+
+   /**
+    * Computes the minimum width of a convex polygon, i.e. the smallest distance between two parallel
+    * lines enclosing the polygon.
+    * <p>
+    * WARNING: This method assumes that the given vertices already form a convex polygon.
+    * </p>
+    * <p>
+    * The minimum width is always attained with one of the two lines supporting an edge of the polygon.
+    * It is computed in linear time using the rotating calipers: the vertex the farthest from the
+    * current edge line only moves forward when going from one edge to the next.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>If the polygon is empty, this method returns {@link Double#NaN}.
+    * <li>If the polygon has less than three vertices, this method returns {@code 0.0}.
+    * </ul>
+    * </p>
+    *
+    * @param convexPolygon2D the list containing in [0, {@code numberOfVertices}[ the vertices of the
+    *           convex polygon. Not modified.
+    * @param numberOfVertices the number of vertices that belong to the convex polygon.
+    * @param clockwiseOrdered whether the vertices are clockwise or counter-clockwise ordered.
+    * @return the minimum width of the polygon.
+    * @throws IllegalArgumentException if {@code numberOfVertices} is negative or greater than the
+    *            size of the given list of vertices.
+    */
+   public static double minimumWidthOfConvexPolygon2D(List<? extends Point2DReadOnly> convexPolygon2D, int numberOfVertices, boolean clockwiseOrdered)
+   {
+      checkNumberOfVertices(convexPolygon2D, numberOfVertices);
+
+      if (numberOfVertices == 0)
+         return Double.NaN;
+      if (numberOfVertices < 3)
+         return 0.0;
+
+      // The interior of the polygon is on the right of its edges when clockwise ordered, on their left otherwise.
+      double interiorSide = clockwiseOrdered ? -1.0 : 1.0;
+      double minimumWidth = Double.POSITIVE_INFINITY;
+      int farthestIndex = 1;
+
+      for (int edgeIndex = 0; edgeIndex < numberOfVertices; edgeIndex++)
+      {
+         Point2DReadOnly edgeStart = convexPolygon2D.get(edgeIndex);
+         Point2DReadOnly edgeEnd = convexPolygon2D.get(next(edgeIndex, numberOfVertices));
+         double edgeX = edgeEnd.getX() - edgeStart.getX();
+         double edgeY = edgeEnd.getY() - edgeStart.getY();
+
+         // Going first to the extreme vertex along the edge such that the caliper starts before the farthest vertex.
+         if (edgeIndex == 0)
+            farthestIndex = advanceCaliper(convexPolygon2D, numberOfVertices, farthestIndex, edgeX, edgeY);
+         farthestIndex = advanceCaliper(convexPolygon2D, numberOfVertices, farthestIndex, -interiorSide * edgeY, interiorSide * edgeX);
+
+         Point2DReadOnly farthestVertex = convexPolygon2D.get(farthestIndex);
+         double height = interiorSide * (edgeX * (farthestVertex.getY() - edgeStart.getY()) - edgeY * (farthestVertex.getX() - edgeStart.getX()));
+         minimumWidth = Math.min(minimumWidth, height / Math.sqrt(edgeX * edgeX + edgeY * edgeY));
+      }
+
+      return minimumWidth;
+   }
+
+   /**
+    * Computes the rectangle of minimum area enclosing a convex polygon.
+    * <p>
+    * WARNING: This method assumes that the given vertices already form a convex polygon.
+    * </p>
+    * <p>
+    * The minimum-area enclosing rectangle always has a side supporting an edge of the polygon. It is
+    * computed in linear time using the rotating calipers: for each edge, the extreme vertices along the
+    * edge direction and away from the edge line only move forward when going from one edge to the
+    * next.
+    * </p>
+    * <p>
+    * The rectangle is described by its pose, i.e. the position of its center and the orientation of
+    * its first axis, and its size, i.e. its length along its first and second axes. Its first axis is
+    * aligned with the polygon edge it supports.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>If the polygon is empty, the pose and size are set to {@link Double#NaN} and this method
+    * returns {@link Double#NaN}.
+    * <li>If the polygon has one vertex, the rectangle is centered at the vertex, has a zero yaw and a
+    * zero size.
+    * <li>If the polygon has two vertices, the rectangle is the line segment between the two vertices.
+    * </ul>
+    * </p>
+    *
+    * @param convexPolygon2D the list containing in [0, {@code numberOfVertices}[ the vertices of the
+    *           convex polygon. Not modified.
+    * @param numberOfVertices the number of vertices that belong to the convex polygon.
+    * @param clockwiseOrdered whether the vertices are clockwise or counter-clockwise ordered.
+    * @param rectanglePoseToPack the pose of the rectangle center. Modified.
+    * @param rectangleSizeToPack the size of the rectangle along its first and second axes. Modified.
+    * @return the area of the rectangle.
+    * @throws IllegalArgumentException if {@code numberOfVertices} is negative or greater than the
+    *            size of the given list of vertices.
+    */
+   public static double minimumAreaBoundingRectangleOfConvexPolygon2D(List<? extends Point2DReadOnly> convexPolygon2D, int numberOfVertices,
+                                                                      boolean clockwiseOrdered, Pose2DBasics rectanglePoseToPack,
+                                                                      Vector2DBasics rectangleSizeToPack)
+   {
+      checkNumberOfVertices(convexPolygon2D, numberOfVertices);
+
+      if (numberOfVertices == 0)
+      {
+         rectanglePoseToPack.setToNaN();
+         rectangleSizeToPack.setToNaN();
+         return Double.NaN;
+      }
+
+      if (numberOfVertices == 1)
+      {
+         Point2DReadOnly vertex = convexPolygon2D.get(0);
+         rectanglePoseToPack.set(vertex.getX(), vertex.getY(), 0.0);
+         rectangleSizeToPack.setToZero();
+         return 0.0;
+      }
+
+      double interiorSide = clockwiseOrdered ? -1.0 : 1.0;
+      double minimumArea = Double.POSITIVE_INFINITY;
+      int forwardIndex = 1;
+      int farthestIndex = 1;
+      int backwardIndex = 1;
+
+      for (int edgeIndex = 0; edgeIndex < numberOfVertices; edgeIndex++)
+      {
+         Point2DReadOnly edgeStart = convexPolygon2D.get(edgeIndex);
+         Point2DReadOnly edgeEnd = convexPolygon2D.get(next(edgeIndex, numberOfVertices));
+         double edgeX = edgeEnd.getX() - edgeStart.getX();
+         double edgeY = edgeEnd.getY() - edgeStart.getY();
+         double normalX = -interiorSide * edgeY;
+         double normalY = interiorSide * edgeX;
+
+         // The calipers are initialized in order such that they all start before their extreme vertex.
+         forwardIndex = advanceCaliper(convexPolygon2D, numberOfVertices, forwardIndex, edgeX, edgeY);
+         if (edgeIndex == 0)
+            farthestIndex = forwardIndex;
+         farthestIndex = advanceCaliper(convexPolygon2D, numberOfVertices, farthestIndex, normalX, normalY);
+         if (edgeIndex == 0)
+            backwardIndex = farthestIndex;
+         backwardIndex = advanceCaliper(convexPolygon2D, numberOfVertices, backwardIndex, -edgeX, -edgeY);
+
+         Point2DReadOnly forwardVertex = convexPolygon2D.get(forwardIndex);
+         Point2DReadOnly farthestVertex = convexPolygon2D.get(farthestIndex);
+         Point2DReadOnly backwardVertex = convexPolygon2D.get(backwardIndex);
+         double forward = edgeX * (forwardVertex.getX() - edgeStart.getX()) + edgeY * (forwardVertex.getY() - edgeStart.getY());
+         double backward = edgeX * (backwardVertex.getX() - edgeStart.getX()) + edgeY * (backwardVertex.getY() - edgeStart.getY());
+         double height = normalX * (farthestVertex.getX() - edgeStart.getX()) + normalY * (farthestVertex.getY() - edgeStart.getY());
+         double edgeLengthSquared = edgeX * edgeX + edgeY * edgeY;
+         double area = (forward - backward) * height / edgeLengthSquared;
+
+         if (area < minimumArea)
+         {
+            minimumArea = area;
+            // All the projections are scaled by the edge length.
+            double alongEdge = 0.5 * (forward + backward) / edgeLengthSquared;
+            double alongNormal = 0.5 * height / edgeLengthSquared;
+            double centerX = edgeStart.getX() + alongEdge * edgeX + alongNormal * normalX;
+            double centerY = edgeStart.getY() + alongEdge * edgeY + alongNormal * normalY;
+            double edgeLength = Math.sqrt(edgeLengthSquared);
+            rectanglePoseToPack.set(centerX, centerY, Math.atan2(edgeY, edgeX));
+            rectangleSizeToPack.set((forward - backward) / edgeLength, height / edgeLength);
+         }
+      }
+
+      return minimumArea;
+   }
+
+   /**
+    * Computes the distance between two convex polygons, i.e. the smallest distance between a point of
+    * the first polygon and a point of the second polygon.
+    * <p>
+    * WARNING: This method assumes that the given vertices already form two convex polygons.
+    * </p>
+    * <p>
+    * The distance between the two polygons is the distance from the origin to their Minkowski
+    * difference, see
+    * {@link #minkowskiDifferenceOfTwoConvexPolygon2Ds(List, int, boolean, List, int, boolean, ConvexPolygon2DBasics)}.
+    * It is computed in linear time by walking the edges of the difference without storing it, such
+    * that this method does not generate garbage.
+    * </p>
+    * <p>
+    * Edge cases:
+    * <ul>
+    * <li>If any of the two polygons is empty, this method returns {@link Double#NaN}.
+    * <li>If the two polygons intersect, this method returns {@code 0.0}.
+    * </ul>
+    * </p>
+    *
+    * @param firstConvexPolygon2D the list containing in [0, {@code firstNumberOfVertices}[ the
+    *           vertices of the first convex polygon. Not modified.
+    * @param firstNumberOfVertices the number of vertices that belong to the first convex polygon.
+    * @param firstClockwiseOrdered whether the vertices of the first polygon are clockwise or
+    *           counter-clockwise ordered.
+    * @param secondConvexPolygon2D the list containing in [0, {@code secondNumberOfVertices}[ the
+    *           vertices of the second convex polygon. Not modified.
+    * @param secondNumberOfVertices the number of vertices that belong to the second convex polygon.
+    * @param secondClockwiseOrdered whether the vertices of the second polygon are clockwise or
+    *           counter-clockwise ordered.
+    * @return the distance between the two polygons.
+    * @throws IllegalArgumentException if any of the two numbers of vertices is negative or greater
+    *            than the size of the corresponding list of vertices.
+    */
+   public static double distanceBetweenTwoConvexPolygon2Ds(List<? extends Point2DReadOnly> firstConvexPolygon2D, int firstNumberOfVertices,
+                                                           boolean firstClockwiseOrdered, List<? extends Point2DReadOnly> secondConvexPolygon2D,
+                                                           int secondNumberOfVertices, boolean secondClockwiseOrdered)
+   {
+      checkNumberOfVertices(firstConvexPolygon2D, firstNumberOfVertices);
+      checkNumberOfVertices(secondConvexPolygon2D, secondNumberOfVertices);
+
+      if (firstNumberOfVertices == 0 || secondNumberOfVertices == 0)
+         return Double.NaN;
+
+      // Same walk as for the Minkowski difference, the previous vertex is enough to get the current edge.
+      int firstStartIndex = findMinXMaxYVertexIndex(firstConvexPolygon2D, firstNumberOfVertices);
+      int secondStartIndex = findMaxXMinYVertexIndex(secondConvexPolygon2D, secondNumberOfVertices);
+      int secondStep = firstClockwiseOrdered == secondClockwiseOrdered ? 1 : -1;
+
+      Point2DReadOnly firstVertex = firstConvexPolygon2D.get(firstStartIndex);
+      Point2DReadOnly secondVertex = secondConvexPolygon2D.get(secondStartIndex);
+      double vertexX = firstVertex.getX() - secondVertex.getX();
+      double vertexY = firstVertex.getY() - secondVertex.getY();
+
+      double minDistanceSquared = Double.POSITIVE_INFINITY;
+      boolean isOriginInside = true;
+      int i = 0;
+      int j = 0;
+
+      while (i < firstNumberOfVertices || j < secondNumberOfVertices)
+      {
+         if (i == firstNumberOfVertices)
+         {
+            j++;
+         }
+         else if (j == secondNumberOfVertices)
+         {
+            i++;
+         }
+         else
+         {
+            Point2DReadOnly firstNextVertex = firstConvexPolygon2D.get(wrap(firstStartIndex + i + 1, firstNumberOfVertices));
+            Point2DReadOnly secondNextVertex = secondConvexPolygon2D.get(wrap(secondStartIndex + secondStep * (j + 1), secondNumberOfVertices));
+            double order = compareMinkowskiSumEdges(firstNextVertex.getX() - firstVertex.getX(), firstNextVertex.getY() - firstVertex.getY(),
+                                                    secondVertex.getX() - secondNextVertex.getX(), secondVertex.getY() - secondNextVertex.getY(),
+                                                    firstClockwiseOrdered);
+
+            if (order >= 0.0)
+               i++;
+            if (order <= 0.0)
+               j++;
+         }
+
+         firstVertex = firstConvexPolygon2D.get(wrap(firstStartIndex + i, firstNumberOfVertices));
+         secondVertex = secondConvexPolygon2D.get(wrap(secondStartIndex + secondStep * j, secondNumberOfVertices));
+         double nextVertexX = firstVertex.getX() - secondVertex.getX();
+         double nextVertexY = firstVertex.getY() - secondVertex.getY();
+
+         minDistanceSquared = Math.min(minDistanceSquared, distanceSquaredFromPoint2DToLineSegment2D(0.0, 0.0, vertexX, vertexY, nextVertexX, nextVertexY));
+
+         // The origin has to be strictly on the interior side of every edge of the difference.
+         double crossProduct = (nextVertexY - vertexY) * vertexX - (nextVertexX - vertexX) * vertexY;
+
+         if (firstClockwiseOrdered)
+            crossProduct = -crossProduct;
+         if (crossProduct <= 0.0)
+            isOriginInside = false;
+
+         vertexX = nextVertexX;
+         vertexY = nextVertexY;
+      }
+
+      return isOriginInside ? 0.0 : Math.sqrt(minDistanceSquared);
+   }
+
+   /**
+    * Sorts the vertices to complete the first step of the Graham scan algorithm.
+    * <p>
+    * First the vertex located at the lowest x-coordinate is found and used as the reference P.
+    * </p>
+    * <p>
+    * Then the vertices are sorted in increasing order of the angle they and the reference P make
+    * with the y-axis.
+    * </p>
+    * <p>
+    * The <a href="https://en.wikipedia.org/wiki/Quicksort#Choice_of_pivot">Quicksort algorithm</a>
+    * is adapted to the Graham scan application to prevent garbage generation.
+    * </p>
+    *
+    * @param vertices the list of vertices to be sorted. Modified.
+    * @param numberOfVertices specifies the number of relevant points in the list. The algorithm
+    *           will only process the points &in; [0; {@code numberOfVertices}[.
+    */
+   static void grahamScanAngleSort(List<? extends Point2DReadOnly> vertices, int numberOfVertices)
+   {
+      Point2DReadOnly minXMaxYVertex = vertices.get(findMinXMaxYVertexIndex(vertices, numberOfVertices));
+      grahamScanAngleSortRecursive(vertices, minXMaxYVertex, 0, numberOfVertices - 1);
+   }
+
+   /**
+    * Recursive step of the sorting algorithm for the Graham scan.
+    */
+   private static void grahamScanAngleSortRecursive(List<? extends Point2DReadOnly> vertices, Point2DReadOnly minXMaxYVertex, int startIndex, int endIndex)
+   {
+      if (endIndex <= startIndex)
+         return;
+
+      // Choose the pivot randomly
+      int pivotIndex = random.nextInt(endIndex - startIndex) + startIndex;
+
+      /*
+       * Partitioning:
+       * @formatter:off
+       * +------------------------+
+       *  | <= pivot | > pivot |
+       * +------------------------+
+       *             ^
+       *             |
+       *         pivotIndex
+       * @formatter:on
+       */
+      pivotIndex = grahamScanAnglePartition(vertices, minXMaxYVertex, startIndex, endIndex, pivotIndex);
+      // Recurse on each side of the pivot
+      grahamScanAngleSortRecursive(vertices, minXMaxYVertex, startIndex, pivotIndex - 1);
+      grahamScanAngleSortRecursive(vertices, minXMaxYVertex, pivotIndex + 1, endIndex);
+   }
+
+   /**
+    * Partition the list around the pivot:
+    *
+    * <pre>
+    * +------------------------+
+    * |  <= pivot  |  > pivot  |
+    * +------------------------+
+    *              ^
+    *              |
+    *          pivotIndex
+    * </pre>
+    */
+   private static int grahamScanAnglePartition(List<? extends Point2DReadOnly> list, Point2DReadOnly minXMaxYVertex, int startIndex, int endIndex,
+                                               int pivotIndex)
+   {
+      Point2DReadOnly pivot = list.get(pivotIndex);
+      // Push the pivot to the endIndex
+      Collections.swap(list, pivotIndex, endIndex);
+      // Index where the array is partitioned between smaller and larger elements than the pivot
+      int partitionIndex = startIndex;
+
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         if (grahamScanAngleCompare(minXMaxYVertex, list.get(i), pivot) <= 0)
+         { // Element is lower or equal to the pivot: it is part of the first partition.
+            Collections.swap(list, i, partitionIndex);
+            partitionIndex++;
+         }
+      }
+
+      // Move the pivot back to the partition index.
+      Collections.swap(list, endIndex, partitionIndex);
+      return partitionIndex;
+   }
+
+   /**
+    * Finds with a binary search the triangle, among the triangles fanning out from the first vertex
+    * of the polygon, that contains the given point when only considering the two edges of the
+    * triangle that start at the first vertex.
+    * <p>
+    * The k<sup>th</sup> triangle is formed by the vertices 0, k, and k + 1, with k &in; [1,
+    * {@code numberOfVertices} - 2].
+    * </p>
+    *
+    * @return the index k of the triangle, or {@code -1} if the point is outside the angle formed by
+    *         the polygon at its first vertex.
+    */
+   private static int fanWedgeIndexContainingPoint2D(double pointX, double pointY, List<? extends Point2DReadOnly> convexPolygon2D, int numberOfVertices,
+                                                     boolean clockwiseOrdered)
+   {
+      Point2DReadOnly firstVertex = convexPolygon2D.get(0);
+
+      if (isPoint2DOnSideOfLine2D(pointX, pointY, firstVertex, convexPolygon2D.get(1), clockwiseOrdered))
+         return -1;
+      if (isPoint2DOnSideOfLine2D(pointX, pointY, convexPolygon2D.get(numberOfVertices - 1), firstVertex, clockwiseOrdered))
+         return -1;
+
+      int low = 1;
+      int high = numberOfVertices - 1;
+
+      while (high - low > 1)
+      {
+         int mid = (low + high) >>> 1;
+
+         if (isPoint2DOnSideOfLine2D(pointX, pointY, firstVertex, convexPolygon2D.get(mid), clockwiseOrdered))
+            high = mid;
+         else
+            low = mid;
+      }
+
+      return low;
+   }
+
+   private static boolean isPoint2DInsideFanWedge(double pointX, double pointY, int wedgeIndex, List<? extends Point2DReadOnly> convexPolygon2D,
+                                                  boolean clockwiseOrdered)
+   {
+      if (wedgeIndex == -1)
+         return false;
+      else
+         return !isPoint2DOnSideOfLine2D(pointX, pointY, convexPolygon2D.get(wedgeIndex), convexPolygon2D.get(wedgeIndex + 1), clockwiseOrdered);
+   }
+
+   /**
+    * Tests whether the query is outside the polygon by more than {@value EuclidGeometryTools#ONE_TRILLIONTH}
+    * with respect to one of the edges that bound the fan triangle the query was found in.
+    * <p>
+    * When the query is closer to the boundary of the polygon and the polygon has collinear
+    * vertices, numerical errors can make the query see edges that are aligned with the edge it lies
+    * on, which breaks the assumptions of the binary searches. The exhaustive search should then be
+    * used instead.
+    * </p>
+    */
+   private static boolean isPoint2DClearlyOutsideFanWedge(double pointX, double pointY, int wedgeIndex, List<? extends Point2DReadOnly> convexPolygon2D,
+                                                          int numberOfVertices, boolean clockwiseOrdered)
+   {
+      if (wedgeIndex != -1)
+      {
+         return isPoint2DOutsideEdgeByMargin(pointX, pointY, convexPolygon2D.get(wedgeIndex), convexPolygon2D.get(wedgeIndex + 1), clockwiseOrdered);
+      }
+      else
+      {
+         Point2DReadOnly firstVertex = convexPolygon2D.get(0);
+         return isPoint2DOutsideEdgeByMargin(pointX, pointY, firstVertex, convexPolygon2D.get(1), clockwiseOrdered)
+               || isPoint2DOutsideEdgeByMargin(pointX, pointY, convexPolygon2D.get(numberOfVertices - 1), firstVertex, clockwiseOrdered);
+      }
+   }
+
+   private static boolean isPoint2DOutsideEdgeByMargin(double pointX, double pointY, Point2DReadOnly edgeStart, Point2DReadOnly edgeEnd,
+                                                       boolean clockwiseOrdered)
+   {
+      double edgeDirectionX = edgeEnd.getX() - edgeStart.getX();
+      double edgeDirectionY = edgeEnd.getY() - edgeStart.getY();
+      double crossProduct = edgeDirectionX * (pointY - edgeStart.getY()) - (pointX - edgeStart.getX()) * edgeDirectionY;
+
+      // The outside of an edge is on its left side when the polygon is clockwise ordered.
+      if (!clockwiseOrdered)
+         crossProduct = -crossProduct;
+
+      if (crossProduct <= 0.0)
+         return false;
+
+      // Comparing the distance from the query to the line supporting the edge to the margin.
+      double edgeLengthSquared = edgeDirectionX * edgeDirectionX + edgeDirectionY * edgeDirectionY;
+      return crossProduct * crossProduct > ONE_TRILLIONTH * ONE_TRILLIONTH * edgeLengthSquared;
+   }
+
+   /**
+    * Finds the index of the closest edge to a query located outside the polygon.
+    * <p>
+    * The edges that can be seen from the query form a chain along which the closest edge can be
+    * found with a binary search. To do so, this method first determines a range of edges in which
+    * the chain does not wrap around and one edge of the chain.
+    * </p>
+    *
+    * @param wedgeIndex the result of
+    *           {@link #fanWedgeIndexContainingPoint2D(double, double, List, int, boolean)} for the
+    *           query.
+    * @return the index of the closest edge.
+    */
+   private static int closestVisibleEdgeIndexToPoint2D(double pointX, double pointY, List<? extends Point2DReadOnly> convexPolygon2D, int numberOfVertices,
+                                                       boolean clockwiseOrdered, int wedgeIndex)
+   {
+      int firstEdgeIndex;
+      int lastEdgeIndex;
+      int visibleEdgeIndex;
+
+      if (wedgeIndex != -1)
+      { // The query is within the angle at the first vertex, the two edges adjacent to the first vertex cannot be seen.
+         firstEdgeIndex = 1;
+         lastEdgeIndex = numberOfVertices - 2;
+         visibleEdgeIndex = wedgeIndex;
+      }
+      else
+      {
+         Point2DReadOnly firstVertex = convexPolygon2D.get(0);
+
+         if (isPoint2DOnSideOfLine2D(pointX, pointY, firstVertex, convexPolygon2D.get(1), clockwiseOrdered))
+            visibleEdgeIndex = 0;
+         else
+            visibleEdgeIndex = numberOfVertices - 1;
+
+         // The edge hit by the ray going from the query through the first vertex cannot be seen.
+         double mirrorX = 2.0 * firstVertex.getX() - pointX;
+         double mirrorY = 2.0 * firstVertex.getY() - pointY;
+         int hiddenEdgeIndex = fanWedgeIndexContainingPoint2D(mirrorX, mirrorY, convexPolygon2D, numberOfVertices, clockwiseOrdered);
+
+         if (hiddenEdgeIndex == -1)
+         { // The line going through the query and the first vertex is tangent to the polygon, one of the two edges adjacent to the first vertex cannot be seen.
+            hiddenEdgeIndex = visibleEdgeIndex == 0 ? numberOfVertices - 1 : 0;
+         }
+
+         firstEdgeIndex = hiddenEdgeIndex + 1;
+         lastEdgeIndex = hiddenEdgeIndex + numberOfVertices - 1;
+
+         if (visibleEdgeIndex < firstEdgeIndex)
+            visibleEdgeIndex += numberOfVertices;
+      }
+
+      int closestEdgeIndex;
+
+      if (isClosestVisibleEdgeAfter(pointX, pointY, visibleEdgeIndex, convexPolygon2D, numberOfVertices, clockwiseOrdered))
+      { // Searching for the first edge in ]visibleEdgeIndex, lastEdgeIndex] that does not satisfy the condition.
+         int low = visibleEdgeIndex;
+         int high = lastEdgeIndex + 1;
+
+         while (high - low > 1)
+         {
+            int mid = (low + high) >>> 1;
+
+            if (isClosestVisibleEdgeAfter(pointX, pointY, mid, convexPolygon2D, numberOfVertices, clockwiseOrdered))
+               low = mid;
+            else
+               high = mid;
+         }
+
+         closestEdgeIndex = high;
+
+         // The query is beyond the end of the visible edges, the last of them is the closest.
+         if (!canObserverSeeEdge(wrap(closestEdgeIndex, numberOfVertices), pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered))
+            closestEdgeIndex = low;
+      }
+      else
+      { // Searching for the last edge in [firstEdgeIndex, visibleEdgeIndex] such that the closest edge does not come before.
+         int low = firstEdgeIndex - 1;
+         int high = visibleEdgeIndex + 1;
+
+         while (high - low > 1)
+         {
+            int mid = (low + high) >>> 1;
+
+            if (isClosestVisibleEdgeBefore(pointX, pointY, mid, convexPolygon2D, numberOfVertices, clockwiseOrdered))
+               high = mid;
+            else
+               low = mid;
+         }
+
+         closestEdgeIndex = low;
+
+         // The query is before the start of the visible edges, the first of them is the closest.
+         if (!canObserverSeeEdge(wrap(closestEdgeIndex, numberOfVertices), pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered))
+            closestEdgeIndex = high;
+      }
+
+      closestEdgeIndex = wrap(closestEdgeIndex, numberOfVertices);
+
+      /*
+       * When the query is closest to a vertex, the two adjacent edges are at the same distance. The
+       * tie is resolved as when iterating through all the edges: the edge with the lowest index wins.
+       */
+      int bestEdgeIndex = closestEdgeIndex;
+      double bestDistanceSquared = Double.POSITIVE_INFINITY;
+
+      for (int offset = -1; offset <= 1; offset++)
+      {
+         int edgeIndex = wrap(closestEdgeIndex + offset, numberOfVertices);
+         Point2DReadOnly edgeStart = convexPolygon2D.get(edgeIndex);
+         Point2DReadOnly edgeEnd = convexPolygon2D.get(next(edgeIndex, numberOfVertices));
+
+         if (edgeIndex != closestEdgeIndex && !canObserverSeeEdge(edgeIndex, pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered))
+            continue;
+
+         double distanceSquared = distanceSquaredFromPoint2DToLineSegment2D(pointX, pointY, edgeStart, edgeEnd);
+
+         if (distanceSquared < bestDistanceSquared || distanceSquared == bestDistanceSquared && edgeIndex < bestEdgeIndex)
+         {
+            bestEdgeIndex = edgeIndex;
+            bestDistanceSquared = distanceSquared;
+         }
+      }
+
+      return bestEdgeIndex;
+   }
+
+   /**
+    * Computes the square of the distance from a query located outside the polygon to the polygon.
+    *
+    * @param wedgeIndex the result of
+    *           {@link #fanWedgeIndexContainingPoint2D(double, double, List, int, boolean)} for the
+    *           query.
+    * @return the square of the distance to the polygon.
+    */
+   private static double distanceSquaredFromOutsidePoint2DToConvexPolygon2D(double pointX, double pointY, List<? extends Point2DReadOnly> convexPolygon2D,
+                                                                           int numberOfVertices, boolean clockwiseOrdered, int wedgeIndex)
+   {
+      int closestEdgeIndex = closestVisibleEdgeIndexToPoint2D(pointX, pointY, convexPolygon2D, numberOfVertices, clockwiseOrdered, wedgeIndex);
+      double minDistanceSquared = Double.POSITIVE_INFINITY;
+
+      /*
+       * The adjacent edges are also considered: when the query lies on the boundary of a polygon with
+       * collinear vertices, numerical errors can make the query see edges that are aligned with an
+       * edge the query lies on.
+       */
+      for (int offset = -1; offset <= 1; offset++)
+      {
+         int edgeIndex = wrap(closestEdgeIndex + offset, numberOfVertices);
+         Point2DReadOnly edgeStart = convexPolygon2D.get(edgeIndex);
+         Point2DReadOnly edgeEnd = convexPolygon2D.get(next(edgeIndex, numberOfVertices));
+         minDistanceSquared = Math.min(minDistanceSquared, distanceSquaredFromPoint2DToLineSegment2D(pointX, pointY, edgeStart, edgeEnd));
+      }
+
+      return minDistanceSquared;
+   }
+
+   /**
+    * Tests whether the query can see the given edge and is located beyond the end of the edge,
+    * i.e. the closest edge to the query comes after the given edge.
+    */
+   private static boolean isClosestVisibleEdgeAfter(double pointX, double pointY, int edgeIndex, List<? extends Point2DReadOnly> convexPolygon2D,
+                                                    int numberOfVertices, boolean clockwiseOrdered)
+   {
+      Point2DReadOnly edgeStart = convexPolygon2D.get(wrap(edgeIndex, numberOfVertices));
+      Point2DReadOnly edgeEnd = convexPolygon2D.get(wrap(edgeIndex + 1, numberOfVertices));
+
+      if (!isPoint2DOnSideOfLine2D(pointX, pointY, edgeStart, edgeEnd, clockwiseOrdered))
+         return false;
+
+      double edgeDirectionX = edgeEnd.getX() - edgeStart.getX();
+      double edgeDirectionY = edgeEnd.getY() - edgeStart.getY();
+      return (pointX - edgeEnd.getX()) * edgeDirectionX + (pointY - edgeEnd.getY()) * edgeDirectionY > 0.0;
+   }
+
+   /**
+    * Tests whether the query can see the given edge and is located before the start of the edge,
+    * i.e. the closest edge to the query comes before the given edge.
+    */
+   private static boolean isClosestVisibleEdgeBefore(double pointX, double pointY, int edgeIndex, List<? extends Point2DReadOnly> convexPolygon2D,
+                                                     int numberOfVertices, boolean clockwiseOrdered)
+   {
+      Point2DReadOnly edgeStart = convexPolygon2D.get(wrap(edgeIndex, numberOfVertices));
+      Point2DReadOnly edgeEnd = convexPolygon2D.get(wrap(edgeIndex + 1, numberOfVertices));
+
+      if (!isPoint2DOnSideOfLine2D(pointX, pointY, edgeStart, edgeEnd, clockwiseOrdered))
+         return false;
+
+      double edgeDirectionX = edgeEnd.getX() - edgeStart.getX();
+      double edgeDirectionY = edgeEnd.getY() - edgeStart.getY();
+      return (pointX - edgeStart.getX()) * edgeDirectionX + (pointY - edgeStart.getY()) * edgeDirectionY < 0.0;
+   }
+
+   /**
+    * Builds in place a clockwise monotone chain for the monotone chain algorithm.
+    * <p>
+    * The chain starts with the vertex at {@code chainStartIndex} and is built from the vertices in
+    * [{@code startIndex}, {@code endIndex}[ that are assumed to be sorted. The vertices of the chain
+    * are moved to [{@code chainStartIndex}, returned index[, the other vertices are moved after.
+    * </p>
+    *
+    * @return the index following the last vertex of the chain.
+    */
+   private static int buildClockwiseMonotoneChain(List<? extends Point2DReadOnly> vertices, int chainStartIndex, int startIndex, int endIndex)
+   {
+      int chainEndIndex = startIndex;
+
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         Point2DReadOnly vertex = vertices.get(i);
+
+         if (chainEndIndex > chainStartIndex && vertex.epsilonEquals(vertices.get(chainEndIndex - 1), EPSILON))
+            continue; // Duplicate vertex, it is left out of the chain.
+
+         while (chainEndIndex - chainStartIndex >= 2
+               && !isPoint2DOnRightSideOfLine2D(vertex, vertices.get(chainEndIndex - 2), vertices.get(chainEndIndex - 1)))
+            chainEndIndex--; // The last vertex of the chain would make it concave.
+
+         Collections.swap(vertices, chainEndIndex, i);
+         chainEndIndex++;
+      }
+
+      return chainEndIndex;
+   }
+
+   /**
+    * Garbage free heap sort of the vertices in [{@code startIndex}, {@code endIndex}[ by increasing
+    * x-coordinate and, for equal x-coordinates, by decreasing y-coordinate, or in the reverse order
+    * when {@code reverse} is {@code true}.
+    */
+   private static void heapSortMinXMaxYFirst(List<? extends Point2DReadOnly> vertices, int startIndex, int endIndex, boolean reverse)
+   {
+      int size = endIndex - startIndex;
+
+      for (int i = size / 2 - 1; i >= 0; i--)
+         minXMaxYFirstSiftDown(vertices, startIndex, i, size, reverse);
+
+      for (int lastIndex = size - 1; lastIndex > 0; lastIndex--)
+      {
+         Collections.swap(vertices, startIndex, startIndex + lastIndex);
+         minXMaxYFirstSiftDown(vertices, startIndex, 0, lastIndex, reverse);
+      }
+   }
+
+   private static void minXMaxYFirstSiftDown(List<? extends Point2DReadOnly> vertices, int offset, int rootIndex, int heapSize, boolean reverse)
+   {
+      while (true)
+      {
+         int childIndex = 2 * rootIndex + 1;
+
+         if (childIndex >= heapSize)
+            return;
+
+         if (childIndex + 1 < heapSize && minXMaxYFirstCompare(vertices.get(offset + childIndex), vertices.get(offset + childIndex + 1), reverse) < 0)
+            childIndex++;
+
+         if (minXMaxYFirstCompare(vertices.get(offset + rootIndex), vertices.get(offset + childIndex), reverse) >= 0)
+            return;
+
+         Collections.swap(vertices, offset + rootIndex, offset + childIndex);
+         rootIndex = childIndex;
+      }
+   }
+
+   private static int minXMaxYFirstCompare(Point2DReadOnly vertex1, Point2DReadOnly vertex2, boolean reverse)
+   {
+      int result;
+
+      if (vertex1.getX() != vertex2.getX())
+         result = vertex1.getX() < vertex2.getX() ? -1 : 1;
+      else if (vertex1.getY() != vertex2.getY())
+         result = vertex1.getY() > vertex2.getY() ? -1 : 1;
+      else
+         result = 0;
+
+      return reverse ? -result : result;
+   }
+
+   static int grahamScanAngleCompare(Point2DReadOnly minXMaxYVertex, Point2DReadOnly vertex1, Point2DReadOnly vertex2)
+   {
+      if (vertex1 == minXMaxYVertex)
+         return -1;
+      if (vertex2 == minXMaxYVertex)
+         return 1;
+      if (vertex1.epsilonEquals(vertex2, EPSILON))
+         return 0;
+      if (isPoint2DOnLeftSideOfLine2D(vertex1, minXMaxYVertex, vertex2))
+         return -1;
+      return 1;
+   }
+
+   /**
+    * Moves the element located at {@code indexOfElementToShift} to {@code listSize - 1} and shifts
+    * all the elements located in [{@code indexToRemove + 1}; {@code listSize - 1}] by {@code -1}.
+    *
+    * @param list the list from which the element is to be moved. Modified.
+    * @param indexOfElementToMove the index of the element to move to the end of the list.
+    * @param listSize the actual size of the list with relevant information.
+    */
+   static <T> void moveElementToEnd(List<T> list, int indexOfElementToMove, int listSize)
+   {
+      T elementToMove = list.get(indexOfElementToMove);
+
+      while (indexOfElementToMove < listSize - 1)
+         list.set(indexOfElementToMove, list.get(++indexOfElementToMove));
+
+      list.set(indexOfElementToMove, elementToMove);
+   }
+
+   /**
+    * Finds the index of the vertex with the lowest x-coordinate. If the lowest x-coordinate exists
     * in more than one vertex in the list, the vertex with the highest y-coordinate out of the
     * candidates is chosen.
     *
@@ -2351,6 +3675,633 @@ public class EuclidGeometryPolygonTools
       return minXMaxYIndex;
    }
 
+   private static final int NO_INTERSECTION = 0;
+   private static final int PROPER_INTERSECTION = 1;
+   private static final int INTERSECTION_AT_ENDPOINT = 2;
+   private static final int COLLINEAR_OVERLAP = 3;
+
+   private static final int INSIDE_UNKNOWN = 0;
+   private static final int INSIDE_FIRST = 1;
+   private static final int INSIDE_SECOND = 2;
+
+   private static void addIntersectionVerticesExhaustively(List<? extends Point2DReadOnly> firstConvexPolygon2D, int firstNumberOfVertices,
+                                                           boolean firstClockwiseOrdered, List<? extends Point2DReadOnly> secondConvexPolygon2D,
+                                                           int secondNumberOfVertices, boolean secondClockwiseOrdered,
+                                                           ConvexPolygon2DBasics intersectionToPack)
+   {
+      for (int i = 0; i < firstNumberOfVertices; i++)
+      {
+         Point2DReadOnly vertex = firstConvexPolygon2D.get(i);
+         if (isPoint2DInsideConvexPolygon2D(vertex, secondConvexPolygon2D, secondNumberOfVertices, secondClockwiseOrdered, 0.0))
+            intersectionToPack.addVertex(vertex);
+      }
+
+      for (int j = 0; j < secondNumberOfVertices; j++)
+      {
+         Point2DReadOnly vertex = secondConvexPolygon2D.get(j);
+         if (isPoint2DInsideConvexPolygon2D(vertex, firstConvexPolygon2D, firstNumberOfVertices, firstClockwiseOrdered, 0.0))
+            intersectionToPack.addVertex(vertex);
+      }
+
+      if (firstNumberOfVertices < 2 || secondNumberOfVertices < 2)
+         return;
+
+      for (int i = 0; i < firstNumberOfVertices; i++)
+      {
+         Point2DReadOnly firstEdgeStart = firstConvexPolygon2D.get(i);
+         Point2DReadOnly firstEdgeEnd = firstConvexPolygon2D.get(next(i, firstNumberOfVertices));
+
+         for (int j = 0; j < secondNumberOfVertices; j++)
+         {
+            Point2DReadOnly secondEdgeStart = secondConvexPolygon2D.get(j);
+            Point2DReadOnly secondEdgeEnd = secondConvexPolygon2D.get(next(j, secondNumberOfVertices));
+            addIntersectionBetweenTwoEdges(firstEdgeStart, firstEdgeEnd, secondEdgeStart, secondEdgeEnd, intersectionToPack);
+         }
+      }
+   }
+
+   /**
+    * Performs O'Rourke's algorithm, the vertices of the intersection are added counter-clockwise to
+    * {@code intersectionToPack} as they are found.
+    *
+    * @return {@code false} if the polygons are touching, or have overlapping edges or vertices lying
+    *         on the other polygon's edges, in which case the result is unreliable.
+    */
+   private static boolean addIntersectionVerticesByAdvancingEdges(List<? extends Point2DReadOnly> firstConvexPolygon2D, int firstNumberOfVertices,
+                                                               boolean firstClockwiseOrdered, List<? extends Point2DReadOnly> secondConvexPolygon2D,
+                                                               int secondNumberOfVertices, boolean secondClockwiseOrdered,
+                                                               ConvexPolygon2DBasics intersectionToPack)
+   {
+      // Indices of the end of the current edges, the vertices are visited counter-clockwise.
+      int firstIndex = 0;
+      int secondIndex = 0;
+      int firstAdvances = 0;
+      int secondAdvances = 0;
+      int inside = INSIDE_UNKNOWN;
+      boolean foundIntersection = false;
+
+      do
+      {
+         Point2DReadOnly firstEdgeStart = getCounterClockwiseVertex(firstIndex - 1, firstConvexPolygon2D, firstNumberOfVertices, firstClockwiseOrdered);
+         Point2DReadOnly firstEdgeEnd = getCounterClockwiseVertex(firstIndex, firstConvexPolygon2D, firstNumberOfVertices, firstClockwiseOrdered);
+         Point2DReadOnly secondEdgeStart = getCounterClockwiseVertex(secondIndex - 1, secondConvexPolygon2D, secondNumberOfVertices, secondClockwiseOrdered);
+         Point2DReadOnly secondEdgeEnd = getCounterClockwiseVertex(secondIndex, secondConvexPolygon2D, secondNumberOfVertices, secondClockwiseOrdered);
+
+         double firstEdgeX = firstEdgeEnd.getX() - firstEdgeStart.getX();
+         double firstEdgeY = firstEdgeEnd.getY() - firstEdgeStart.getY();
+         double secondEdgeX = secondEdgeEnd.getX() - secondEdgeStart.getX();
+         double secondEdgeY = secondEdgeEnd.getY() - secondEdgeStart.getY();
+         double zeroThreshold = ONE_TRILLIONTH * (firstEdgeX * firstEdgeX + firstEdgeY * firstEdgeY + secondEdgeX * secondEdgeX + secondEdgeY * secondEdgeY);
+         double crossProduct = snapToZero(firstEdgeX * secondEdgeY - firstEdgeY * secondEdgeX, zeroThreshold);
+         // Positive when the end of an edge is on the inner side of the other edge.
+         double firstEndSide = secondEdgeX * (firstEdgeEnd.getY() - secondEdgeStart.getY()) - secondEdgeY * (firstEdgeEnd.getX() - secondEdgeStart.getX());
+         firstEndSide = snapToZero(firstEndSide, zeroThreshold);
+         double secondEndSide = firstEdgeX * (secondEdgeEnd.getY() - firstEdgeStart.getY()) - firstEdgeY * (secondEdgeEnd.getX() - firstEdgeStart.getX());
+         secondEndSide = snapToZero(secondEndSide, zeroThreshold);
+
+         if (firstEndSide == 0.0 || secondEndSide == 0.0)
+            return false;
+
+         int intersectionType = addIntersectionBetweenTwoEdges(firstEdgeStart, firstEdgeEnd, secondEdgeStart, secondEdgeEnd, intersectionToPack);
+
+         if (intersectionType == INTERSECTION_AT_ENDPOINT || intersectionType == COLLINEAR_OVERLAP)
+            return false;
+
+         if (intersectionType == PROPER_INTERSECTION)
+         {
+            if (!foundIntersection)
+            { // Going around both polygons once more from the first intersection.
+               firstAdvances = 0;
+               secondAdvances = 0;
+               foundIntersection = true;
+            }
+
+            if (firstEndSide > 0.0)
+               inside = INSIDE_FIRST;
+            else if (secondEndSide > 0.0)
+               inside = INSIDE_SECOND;
+         }
+
+         if (crossProduct == 0.0 && firstEndSide < 0.0 && secondEndSide < 0.0)
+            return true; // The edges are parallel and each is outside the other: the polygons are disjoint.
+
+         boolean advanceFirst;
+
+         if (crossProduct >= 0.0)
+            advanceFirst = secondEndSide > 0.0;
+         else
+            advanceFirst = firstEndSide <= 0.0;
+
+         if (advanceFirst)
+         {
+            if (inside == INSIDE_FIRST)
+               intersectionToPack.addVertex(firstEdgeEnd);
+            firstIndex++;
+            firstAdvances++;
+         }
+         else
+         {
+            if (inside == INSIDE_SECOND)
+               intersectionToPack.addVertex(secondEdgeEnd);
+            secondIndex++;
+            secondAdvances++;
+         }
+      }
+      while ((firstAdvances < firstNumberOfVertices || secondAdvances < secondNumberOfVertices) && firstAdvances < 2 * firstNumberOfVertices
+            && secondAdvances < 2 * secondNumberOfVertices);
+
+      if (!foundIntersection)
+      { // The boundaries do not cross: either one polygon contains the other or they are disjoint.
+         boolean overlap = isVertexAverageInsideConvexPolygon2D(firstConvexPolygon2D, firstNumberOfVertices, secondConvexPolygon2D, secondNumberOfVertices,
+                                                                secondClockwiseOrdered)
+               || isVertexAverageInsideConvexPolygon2D(secondConvexPolygon2D, secondNumberOfVertices, firstConvexPolygon2D, firstNumberOfVertices,
+                                                       firstClockwiseOrdered);
+
+         if (!overlap)
+            return true;
+
+         // The smaller polygon is the one contained in the other.
+         if (computeConvexPolyong2DArea(firstConvexPolygon2D, firstNumberOfVertices, firstClockwiseOrdered,
+                                        null) <= computeConvexPolyong2DArea(secondConvexPolygon2D, secondNumberOfVertices, secondClockwiseOrdered, null))
+         {
+            for (int i = 0; i < firstNumberOfVertices; i++)
+               intersectionToPack.addVertex(getCounterClockwiseVertex(i, firstConvexPolygon2D, firstNumberOfVertices, firstClockwiseOrdered));
+         }
+         else
+         {
+            for (int j = 0; j < secondNumberOfVertices; j++)
+               intersectionToPack.addVertex(getCounterClockwiseVertex(j, secondConvexPolygon2D, secondNumberOfVertices, secondClockwiseOrdered));
+         }
+      }
+
+      return true;
+   }
+
+   private static double snapToZero(double value, double zeroThreshold)
+   {
+      return Math.abs(value) <= zeroThreshold ? 0.0 : value;
+   }
+
+   private static Point2DReadOnly getCounterClockwiseVertex(int index, List<? extends Point2DReadOnly> convexPolygon2D, int numberOfVertices,
+                                                            boolean clockwiseOrdered)
+   {
+      index = wrap(index, numberOfVertices);
+      return convexPolygon2D.get(clockwiseOrdered ? wrap(numberOfVertices - index, numberOfVertices) : index);
+   }
+
+   private static boolean isVertexAverageInsideConvexPolygon2D(List<? extends Point2DReadOnly> vertices, int numberOfVertices,
+                                                               List<? extends Point2DReadOnly> convexPolygon2D, int numberOfPolygonVertices,
+                                                               boolean clockwiseOrdered)
+   {
+      double averageX = 0.0;
+      double averageY = 0.0;
+
+      for (int i = 0; i < numberOfVertices; i++)
+      {
+         averageX += vertices.get(i).getX();
+         averageY += vertices.get(i).getY();
+      }
+
+      averageX /= numberOfVertices;
+      averageY /= numberOfVertices;
+      return isPoint2DInsideConvexPolygon2D(averageX, averageY, convexPolygon2D, numberOfPolygonVertices, clockwiseOrdered, 0.0);
+   }
+
+   /**
+    * Adds to {@code intersectionToPack} the intersection between two line segments: one vertex when
+    * they cross, and the two ends of the overlap when they are collinear and overlapping.
+    */
+   private static int addIntersectionBetweenTwoEdges(Point2DReadOnly firstEdgeStart, Point2DReadOnly firstEdgeEnd, Point2DReadOnly secondEdgeStart,
+                                                     Point2DReadOnly secondEdgeEnd, ConvexPolygon2DBasics intersectionToPack)
+   {
+      double ax = firstEdgeStart.getX();
+      double ay = firstEdgeStart.getY();
+      double bx = firstEdgeEnd.getX();
+      double by = firstEdgeEnd.getY();
+      double cx = secondEdgeStart.getX();
+      double cy = secondEdgeStart.getY();
+      double dx = secondEdgeEnd.getX();
+      double dy = secondEdgeEnd.getY();
+
+      double denominator = ax * (dy - cy) + bx * (cy - dy) + dx * (by - ay) + cx * (ay - by);
+      double lengthSquaredSum = (bx - ax) * (bx - ax) + (by - ay) * (by - ay) + (dx - cx) * (dx - cx) + (dy - cy) * (dy - cy);
+
+      // Nearly parallel edges are handled as parallel as their intersection is ill-conditioned.
+      if (Math.abs(denominator) <= ONE_TRILLIONTH * lengthSquaredSum)
+         return addOverlapBetweenTwoParallelEdges(ax, ay, bx, by, cx, cy, dx, dy, intersectionToPack);
+
+      double numerator = ax * (dy - cy) + cx * (ay - dy) + dx * (cy - ay);
+      boolean isAtEndpoint = numerator == 0.0 || numerator == denominator;
+      double firstPercentage = numerator / denominator;
+
+      numerator = -(ax * (cy - by) + bx * (ay - cy) + cx * (by - ay));
+      isAtEndpoint |= numerator == 0.0 || numerator == denominator;
+      double secondPercentage = numerator / denominator;
+
+      if (firstPercentage < 0.0 || firstPercentage > 1.0 || secondPercentage < 0.0 || secondPercentage > 1.0)
+         return NO_INTERSECTION;
+
+      intersectionToPack.addVertex(ax + firstPercentage * (bx - ax), ay + firstPercentage * (by - ay));
+      return isAtEndpoint ? INTERSECTION_AT_ENDPOINT : PROPER_INTERSECTION;
+   }
+
+   private static int addOverlapBetweenTwoParallelEdges(double ax, double ay, double bx, double by, double cx, double cy, double dx, double dy,
+                                                        ConvexPolygon2DBasics intersectionToPack)
+   {
+      double abx = bx - ax;
+      double aby = by - ay;
+      double lengthSquared = abx * abx + aby * aby;
+
+      if (lengthSquared == 0.0)
+         return NO_INTERSECTION;
+
+      if (Math.abs(abx * (cy - ay) - aby * (cx - ax)) > ONE_TRILLIONTH * lengthSquared)
+         return NO_INTERSECTION;
+
+      double startPercentage = ((cx - ax) * abx + (cy - ay) * aby) / lengthSquared;
+      double endPercentage = ((dx - ax) * abx + (dy - ay) * aby) / lengthSquared;
+      double overlapStart = Math.max(0.0, Math.min(startPercentage, endPercentage));
+      double overlapEnd = Math.min(1.0, Math.max(startPercentage, endPercentage));
+
+      if (overlapStart > overlapEnd)
+         return NO_INTERSECTION;
+
+      intersectionToPack.addVertex(ax + overlapStart * abx, ay + overlapStart * aby);
+      intersectionToPack.addVertex(ax + overlapEnd * abx, ay + overlapEnd * aby);
+      return COLLINEAR_OVERLAP;
+   }
+
+   private static void minkowskiSumOfTwoConvexPolygon2Ds(List<? extends Point2DReadOnly> firstConvexPolygon2D, int firstNumberOfVertices,
+                                                         boolean firstClockwiseOrdered, List<? extends Point2DReadOnly> secondConvexPolygon2D,
+                                                         int secondNumberOfVertices, boolean secondClockwiseOrdered, boolean negateSecond,
+                                                         ConvexPolygon2DBasics sumToPack)
+   {
+      checkNumberOfVertices(firstConvexPolygon2D, firstNumberOfVertices);
+      checkNumberOfVertices(secondConvexPolygon2D, secondNumberOfVertices);
+
+      sumToPack.clear();
+
+      if (firstNumberOfVertices == 0 || secondNumberOfVertices == 0)
+      {
+         sumToPack.clearAndUpdate();
+         return;
+      }
+
+      double secondSign = negateSecond ? -1.0 : 1.0;
+      // Both polygons are walked from their min-x max-y vertex, which gives the min-x max-y vertex of the sum.
+      int firstStartIndex = findMinXMaxYVertexIndex(firstConvexPolygon2D, firstNumberOfVertices);
+      int secondStartIndex = negateSecond ? findMaxXMinYVertexIndex(secondConvexPolygon2D, secondNumberOfVertices)
+            : findMinXMaxYVertexIndex(secondConvexPolygon2D, secondNumberOfVertices);
+      // The second polygon is walked in the same direction as the first one, negating it does not change its ordering.
+      int secondStep = firstClockwiseOrdered == secondClockwiseOrdered ? 1 : -1;
+
+      int i = 0;
+      int j = 0;
+
+      while (i < firstNumberOfVertices || j < secondNumberOfVertices)
+      {
+         Point2DReadOnly firstVertex = firstConvexPolygon2D.get(wrap(firstStartIndex + i, firstNumberOfVertices));
+         Point2DReadOnly secondVertex = secondConvexPolygon2D.get(wrap(secondStartIndex + secondStep * j, secondNumberOfVertices));
+         sumToPack.addVertex(firstVertex.getX() + secondSign * secondVertex.getX(), firstVertex.getY() + secondSign * secondVertex.getY());
+
+         if (i == firstNumberOfVertices)
+         {
+            j++;
+            continue;
+         }
+
+         if (j == secondNumberOfVertices)
+         {
+            i++;
+            continue;
+         }
+
+         Point2DReadOnly firstNextVertex = firstConvexPolygon2D.get(wrap(firstStartIndex + i + 1, firstNumberOfVertices));
+         Point2DReadOnly secondNextVertex = secondConvexPolygon2D.get(wrap(secondStartIndex + secondStep * (j + 1), secondNumberOfVertices));
+         double firstEdgeX = firstNextVertex.getX() - firstVertex.getX();
+         double firstEdgeY = firstNextVertex.getY() - firstVertex.getY();
+         double secondEdgeX = secondSign * (secondNextVertex.getX() - secondVertex.getX());
+         double secondEdgeY = secondSign * (secondNextVertex.getY() - secondVertex.getY());
+         double crossProduct = compareMinkowskiSumEdges(firstEdgeX, firstEdgeY, secondEdgeX, secondEdgeY, firstClockwiseOrdered);
+
+         // Taking the edge that comes first when going around, both when they are parallel.
+         if (crossProduct > 0.0)
+         {
+            i++;
+         }
+         else if (crossProduct < 0.0)
+         {
+            j++;
+         }
+         else
+         {
+            i++;
+            j++;
+         }
+      }
+
+      // The sum is walked in the same direction as the first polygon.
+      updateConvexPolygon2DFromOrderedVertices(sumToPack, firstClockwiseOrdered);
+   }
+
+   /**
+    * Compares the directions of the current edges of two convex polygons walked in the same direction
+    * from their min-x max-y vertex when computing their Minkowski sum.
+    *
+    * @return a positive value if the edge of the first polygon comes first, a negative value if the
+    *         edge of the second polygon comes first, and {@code 0.0} if both edges are parallel.
+    */
+   private static double compareMinkowskiSumEdges(double firstEdgeX, double firstEdgeY, double secondEdgeX, double secondEdgeY, boolean clockwiseOrdered)
+   {
+      double crossProduct = firstEdgeX * secondEdgeY - firstEdgeY * secondEdgeX;
+
+      if (clockwiseOrdered)
+         crossProduct = -crossProduct;
+
+      // Edges pointing in opposite directions are ordered according to which half-turn they belong to.
+      int firstHalfTurn = edgeHalfTurn(firstEdgeX, firstEdgeY);
+      int secondHalfTurn = edgeHalfTurn(secondEdgeX, secondEdgeY);
+
+      if (firstHalfTurn != secondHalfTurn)
+         crossProduct = firstHalfTurn < secondHalfTurn ? 1.0 : -1.0;
+
+      return crossProduct;
+   }
+
+   /**
+    * When walking a convex polygon from its min-x max-y vertex, the direction of the edges first
+    * covers the half-turn [-pi/2, pi/2[ and then the other half-turn, in either ordering.
+    */
+   private static int edgeHalfTurn(double edgeX, double edgeY)
+   {
+      return edgeX > 0.0 || edgeX == 0.0 && edgeY < 0.0 ? 0 : 1;
+   }
+
+   static int findMaxXMinYVertexIndex(List<? extends Point2DReadOnly> vertices, int numberOfVertices)
+   {
+      if (numberOfVertices == 0)
+         return -1;
+
+      int maxXMinYIndex = 0;
+      Point2DReadOnly maxXMinY = vertices.get(maxXMinYIndex);
+
+      for (int vertexIndex = 1; vertexIndex < numberOfVertices; vertexIndex++)
+      {
+         Point2DReadOnly candidate = vertices.get(vertexIndex);
+
+         if (candidate.getX() > maxXMinY.getX())
+         {
+            maxXMinYIndex = vertexIndex;
+            maxXMinY = candidate;
+         }
+         else if (candidate.getX() == maxXMinY.getX() && candidate.getY() < maxXMinY.getY())
+         {
+            maxXMinYIndex = vertexIndex;
+            maxXMinY = candidate;
+         }
+      }
+
+      return maxXMinYIndex;
+   }
+
+   private static void addHalfHullOfTwoConvexPolygon2Ds(List<? extends Point2DReadOnly> firstConvexPolygon2D, int firstNumberOfVertices,
+                                                        int firstStartIndex, int firstEndIndex, int firstStep,
+                                                        List<? extends Point2DReadOnly> secondConvexPolygon2D, int secondNumberOfVertices,
+                                                        int secondStartIndex, int secondEndIndex, int secondStep, boolean upperHalf,
+                                                        ConvexPolygon2DBasics hullToPack)
+   {
+      // The lower half starts where the upper half ends.
+      if (!upperHalf && hullToPack.getNumberOfVertices() > 0)
+         hullToPack.removeVertex(hullToPack.getNumberOfVertices() - 1);
+
+      int halfHullStartIndex = hullToPack.getNumberOfVertices();
+      int firstChainLength = firstNumberOfVertices == 0 ? 0 : wrap(firstStep * (firstEndIndex - firstStartIndex), firstNumberOfVertices) + 1;
+      int secondChainLength = secondNumberOfVertices == 0 ? 0 : wrap(secondStep * (secondEndIndex - secondStartIndex), secondNumberOfVertices) + 1;
+      int i = 0;
+      int j = 0;
+
+      while (i < firstChainLength || j < secondChainLength)
+      {
+         Point2DReadOnly candidate;
+         Point2DReadOnly firstCandidate = i < firstChainLength ? firstConvexPolygon2D.get(wrap(firstStartIndex + firstStep * i, firstNumberOfVertices)) : null;
+         Point2DReadOnly secondCandidate = j < secondChainLength ? secondConvexPolygon2D.get(wrap(secondStartIndex + secondStep * j, secondNumberOfVertices))
+               : null;
+
+         if (secondCandidate == null || firstCandidate != null && isBeforeInHalfHull(firstCandidate, secondCandidate, upperHalf))
+         {
+            candidate = firstCandidate;
+            i++;
+         }
+         else
+         {
+            candidate = secondCandidate;
+            j++;
+         }
+
+         // Only clockwise turns are kept.
+         while (hullToPack.getNumberOfVertices() - halfHullStartIndex >= 2)
+         {
+            int lastIndex = hullToPack.getNumberOfVertices() - 1;
+            Point2DReadOnly lastVertex = hullToPack.getVertexUnsafe(lastIndex);
+            Point2DReadOnly secondToLastVertex = hullToPack.getVertexUnsafe(lastIndex - 1);
+
+            if (isPoint2DOnRightSideOfLine2D(candidate, secondToLastVertex, lastVertex))
+               break;
+
+            hullToPack.removeVertex(lastIndex);
+         }
+
+         hullToPack.addVertex(candidate);
+      }
+   }
+
+   private static boolean isBeforeInHalfHull(Point2DReadOnly firstVertex, Point2DReadOnly secondVertex, boolean upperHalf)
+   {
+      if (upperHalf)
+         return firstVertex.getX() < secondVertex.getX() || firstVertex.getX() == secondVertex.getX() && firstVertex.getY() > secondVertex.getY();
+      else
+         return firstVertex.getX() > secondVertex.getX() || firstVertex.getX() == secondVertex.getX() && firstVertex.getY() < secondVertex.getY();
+   }
+
+   private static boolean isBackIntersectionOutside(ConvexPolygon2DBasics deque, int tail, Point2DReadOnly foot, double distance)
+   {
+      return isOffsetLinesIntersectionOutside(deque.getVertexUnsafe(tail - 2), deque.getVertexUnsafe(tail - 1), foot, distance);
+   }
+
+   private static boolean isFrontIntersectionOutside(ConvexPolygon2DBasics deque, int head, Point2DReadOnly foot, double distance)
+   {
+      return isOffsetLinesIntersectionOutside(deque.getVertexUnsafe(head), deque.getVertexUnsafe(head + 1), foot, distance);
+   }
+
+   private static boolean isOffsetLinesIntersectionOutside(Point2DReadOnly firstFoot, Point2DReadOnly secondFoot, Point2DReadOnly foot,
+                                                           double distance)
+   {
+      double firstNorm = Math.sqrt(firstFoot.getX() * firstFoot.getX() + firstFoot.getY() * firstFoot.getY());
+      double secondNorm = Math.sqrt(secondFoot.getX() * secondFoot.getX() + secondFoot.getY() * secondFoot.getY());
+      double norm = Math.sqrt(foot.getX() * foot.getX() + foot.getY() * foot.getY());
+      double firstNormalX = firstFoot.getX() / firstNorm;
+      double firstNormalY = firstFoot.getY() / firstNorm;
+      double secondNormalX = secondFoot.getX() / secondNorm;
+      double secondNormalY = secondFoot.getY() / secondNorm;
+      double firstOffset = firstNorm + distance;
+      double secondOffset = secondNorm + distance;
+      double determinant = firstNormalX * secondNormalY - firstNormalY * secondNormalX;
+      double intersectionX = (firstOffset * secondNormalY - secondOffset * firstNormalY) / determinant;
+      double intersectionY = (firstNormalX * secondOffset - secondNormalX * firstOffset) / determinant;
+      // Lines meeting at the same point are also discarded such that the offset polygon has no duplicate vertices.
+      return (foot.getX() * intersectionX + foot.getY() * intersectionY) / norm > norm + distance - ONE_TRILLIONTH;
+   }
+
+   private static boolean isTurningLessThanHalfATurn(Point2DReadOnly firstFoot, Point2DReadOnly secondFoot, boolean clockwiseOrdered)
+   {
+      double cross = firstFoot.getX() * secondFoot.getY() - firstFoot.getY() * secondFoot.getX();
+      return clockwiseOrdered ? cross < 0.0 : cross > 0.0;
+   }
+
+   private static void reverseVertices(ConvexPolygon2DBasics convexPolygon2D, int startIndex, int endIndex)
+   {
+      while (startIndex < endIndex)
+      {
+         Point2DBasics start = convexPolygon2D.getVertexUnsafe(startIndex++);
+         Point2DBasics end = convexPolygon2D.getVertexUnsafe(endIndex--);
+         double x = start.getX();
+         double y = start.getY();
+         start.set(end);
+         end.set(x, y);
+      }
+   }
+
+   /**
+    * Updates in linear time a polygon whose vertices have been added in convex order, such that its
+    * convex hull does not have to be computed.
+    * <p>
+    * The vertices are reordered clockwise starting from the min-x max-y vertex, and the duplicate
+    * vertices and the vertices lying on an edge are removed as when computing the convex hull.
+    * </p>
+    */
+   private static void updateConvexPolygon2DFromOrderedVertices(ConvexPolygon2DBasics convexPolygon2D, boolean clockwiseOrdered)
+   {
+      int numberOfVertices = convexPolygon2D.getNumberOfVertices();
+
+      if (numberOfVertices == 0)
+      {
+         convexPolygon2D.clearAndUpdate();
+         return;
+      }
+
+      if (!clockwiseOrdered)
+         reverseVertices(convexPolygon2D, 0, numberOfVertices - 1);
+
+      // Rotating the vertices such that the polygon starts with its min-x max-y vertex.
+      int minXMaxYVertexIndex = findMinXMaxYVertexIndex(convexPolygon2D.getVertexBufferView(), numberOfVertices);
+      reverseVertices(convexPolygon2D, 0, minXMaxYVertexIndex - 1);
+      reverseVertices(convexPolygon2D, minXMaxYVertexIndex, numberOfVertices - 1);
+      reverseVertices(convexPolygon2D, 0, numberOfVertices - 1);
+
+      // The min-x max-y vertex always belongs to the polygon, the other vertices are filtered as in the monotone chain algorithm.
+      int hullEndIndex = 1;
+
+      for (int i = 1; i < numberOfVertices; i++)
+      {
+         Point2DReadOnly candidate = convexPolygon2D.getVertexUnsafe(i);
+         boolean keepCandidate = true;
+
+         while (true)
+         {
+            Point2DReadOnly lastVertex = convexPolygon2D.getVertexUnsafe(hullEndIndex - 1);
+
+            if (candidate.epsilonEquals(lastVertex, EPSILON))
+            {
+               keepCandidate = false;
+               break;
+            }
+
+            if (hullEndIndex == 1)
+               break;
+
+            Point2DReadOnly secondToLastVertex = convexPolygon2D.getVertexUnsafe(hullEndIndex - 2);
+
+            if (isTurningClockwise(secondToLastVertex, lastVertex, candidate))
+               break;
+
+            /*
+             * The candidate is aligned with the last edge. When going backward, as happens when walking a
+             * degenerate polygon, the candidate is discarded, otherwise it replaces the last vertex.
+             */
+            double edgeX = lastVertex.getX() - secondToLastVertex.getX();
+            double edgeY = lastVertex.getY() - secondToLastVertex.getY();
+
+            if (edgeX * (candidate.getX() - lastVertex.getX()) + edgeY * (candidate.getY() - lastVertex.getY()) <= 0.0)
+            {
+               keepCandidate = false;
+               break;
+            }
+
+            hullEndIndex--;
+         }
+
+         if (keepCandidate)
+         {
+            convexPolygon2D.getVertexUnsafe(hullEndIndex).set(candidate);
+            hullEndIndex++;
+         }
+      }
+
+      // Closing the polygon: the last vertex has to be convex with respect to the first vertex.
+      Point2DReadOnly firstVertex = convexPolygon2D.getVertexUnsafe(0);
+
+      while (hullEndIndex > 1)
+      {
+         Point2DReadOnly lastVertex = convexPolygon2D.getVertexUnsafe(hullEndIndex - 1);
+
+         if (!lastVertex.epsilonEquals(firstVertex, EPSILON)
+               && (hullEndIndex == 2 || isTurningClockwise(convexPolygon2D.getVertexUnsafe(hullEndIndex - 2), lastVertex, firstVertex)))
+            break;
+
+         hullEndIndex--;
+      }
+
+      while (convexPolygon2D.getNumberOfVertices() > hullEndIndex)
+         convexPolygon2D.removeVertex(convexPolygon2D.getNumberOfVertices() - 1);
+
+      convexPolygon2D.updateAssumingConvexHull();
+   }
+
+   /**
+    * Tests whether the path going through the three given vertices turns clockwise, the vertices that
+    * are aligned up to numerical errors being considered as not turning.
+    */
+   private static boolean isTurningClockwise(Point2DReadOnly firstVertex, Point2DReadOnly secondVertex, Point2DReadOnly thirdVertex)
+   {
+      double firstEdgeX = secondVertex.getX() - firstVertex.getX();
+      double firstEdgeY = secondVertex.getY() - firstVertex.getY();
+      double secondEdgeX = thirdVertex.getX() - secondVertex.getX();
+      double secondEdgeY = thirdVertex.getY() - secondVertex.getY();
+      double zeroThreshold = ONE_TRILLIONTH * (firstEdgeX * firstEdgeX + firstEdgeY * firstEdgeY + secondEdgeX * secondEdgeX + secondEdgeY * secondEdgeY);
+      return firstEdgeX * secondEdgeY - firstEdgeY * secondEdgeX < -zeroThreshold;
+   }
+
+   /**
+    * Moves forward the caliper starting at the vertex {@code caliperIndex} as long as the next vertex
+    * is further along {@code (directionX, directionY)}, i.e. until reaching the extreme vertex of the
+    * polygon in this direction.
+    */
+   private static int advanceCaliper(List<? extends Point2DReadOnly> convexPolygon2D, int numberOfVertices, int caliperIndex, double directionX,
+                                     double directionY)
+   {
+      while (true)
+      {
+         Point2DReadOnly vertex = convexPolygon2D.get(caliperIndex);
+         int nextIndex = next(caliperIndex, numberOfVertices);
+         Point2DReadOnly nextVertex = convexPolygon2D.get(nextIndex);
+
+         if ((nextVertex.getX() - vertex.getX()) * directionX + (nextVertex.getY() - vertex.getY()) * directionY <= 0.0)
+            return caliperIndex;
+
+         caliperIndex = nextIndex;
+      }
+   }
+
    /**
     * Finds the index of a vertex in the specified supplier given search criteria.
     * 
@@ -0,0 +1,208 @@
+package us.ihmc.euclid.referenceFrame;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+/**
+ * {@code BufferedReferenceFrameTree} publishes the transforms to root of the frames of a
+ * {@link ReferenceFrameTree} from the thread updating them to any number of reader threads.
+ * <p>
+ * Each call to {@link #publish()} captures the transforms to root of all the frames of the tree,
+ * i.e. a tick. Each reader owns a triple buffer: the writer fills the back buffer and atomically
+ * swaps it with the latest buffer, while the reader swaps the latest buffer with its front buffer
+ * when calling {@link Reader#update()}. As a result:
+ * <ul>
+ * <li>the writer never waits on the readers and the readers never wait on the writer,
+ * <li>a reader always sees the transforms of a single tick until its next update,
+ * <li>neither publishing nor reading generates garbage once the readers are created.
+ * </ul>
+ * </p>
+ * <p>
+ * {@link #publish()} should only be called from the thread updating the frames, typically right
+ * after {@link ReferenceFrameTree#updateAll()}. A {@link Reader} should only be used by a single
+ * thread, each reader thread needs its own reader.
+ * </p>
+ */
+public class BufferedReferenceFrameTree
+{
+   /** Flag set on the index of the latest buffer when it has not been acquired by the reader yet. */
+   private static final int NEW_BUFFER_FLAG = 4;
+   private static final int BUFFER_INDEX_MASK = 3;
+
+   private final ReferenceFrameTree tree;
+   private final Map<ReferenceFrame, Integer> frameIndices = new IdentityHashMap<>();
+   /** Replaced as a whole when a reader is added such that {@link #publish()} does not need to lock. */
+   private volatile Reader[] readers = new Reader[0];
+   private long tick = -1;
+
+   /**
+    * Creates a new buffered tree for publishing the transforms to root of the frames of the given
+    * tree.
+    *
+    * @param tree the frames to publish. Frames created after the snapshot are not published.
+    */
+   public BufferedReferenceFrameTree(ReferenceFrameTree tree)
+   {
+      this.tree = tree;
+
+      for (int i = 0; i < tree.getNumberOfFrames(); i++)
+         frameIndices.put(tree.getFrame(i), i);
+   }
+
+   /**
+    * Creates a new reader of the transforms published by this buffered tree.
+    * <p>
+    * The new reader only sees the ticks published after its creation.
+    * </p>
+    *
+    * @return the new reader.
+    */
+   public synchronized Reader newReader()
+   {
+      Reader reader = new Reader();
+      Reader[] newReaders = Arrays.copyOf(readers, readers.length + 1);
+      newReaders[readers.length] = reader;
+      readers = newReaders;
+      return reader;
+   }
+
+   /**
+    * Publishes the current transforms to root of all the frames as a new tick to all the readers.
+    * <p>
+    * This method should only be called from the thread updating the frames.
+    * </p>
+    */
+   public void publish()
+   {
+      Reader[] readers = this.readers;
+      tick++;
+
+      for (int i = 0; i < tree.getNumberOfFrames(); i++)
+      {
+         RigidBodyTransform transformToRoot = tree.getFrame(i).getTransformToRoot();
+
+         for (Reader reader : readers)
+            reader.buffers[reader.backIndex].transformsToRoot[i].set(transformToRoot);
+      }
+
+      for (Reader reader : readers)
+         reader.swapBackBuffer(tick);
+   }
+
+   /**
+    * Gets the tick of the last publication.
+    *
+    * @return the last published tick, {@code -1} if nothing has been published yet.
+    */
+   public long getTick()
+   {
+      return tick;
+   }
+
+   private class Buffer
+   {
+      private final RigidBodyTransform[] transformsToRoot = new RigidBodyTransform[tree.getNumberOfFrames()];
+      private long tick = -1;
+
+      private Buffer()
+      {
+         for (int i = 0; i < transformsToRoot.length; i++)
+            transformsToRoot[i] = new RigidBodyTransform();
+      }
+   }
+
+   /**
+    * A reader gives access to the transforms published by a {@code BufferedReferenceFrameTree}. It is
+    * confined to a single thread.
+    */
+   public class Reader
+   {
+      private final Buffer[] buffers = {new Buffer(), new Buffer(), new Buffer()};
+      /** Only accessed by the writer. */
+      private int backIndex = 0;
+      /** Exchanged between the writer and the reader. */
+      private final AtomicInteger latestIndex = new AtomicInteger(1);
+      /** Only accessed by the reader. */
+      private int frontIndex = 2;
+      private final RigidBodyTransform transformToDesiredRoot = new RigidBodyTransform();
+
+      private Reader()
+      {
+      }
+
+      private void swapBackBuffer(long tick)
+      {
+         buffers[backIndex].tick = tick;
+         backIndex = latestIndex.getAndSet(backIndex | NEW_BUFFER_FLAG) & BUFFER_INDEX_MASK;
+      }
+
+      /**
+       * Acquires the latest published tick, if any.
+       *
+       * @return {@code true} if a new tick has been acquired, {@code false} if nothing has been
+       *         published since the last update.
+       */
+      public boolean update()
+      {
+         if ((latestIndex.get() & NEW_BUFFER_FLAG) == 0)
+            return false;
+
+         frontIndex = latestIndex.getAndSet(frontIndex) & BUFFER_INDEX_MASK;
+         return true;
+      }
+
+      /**
+       * Gets the tick currently read.
+       *
+       * @return the current tick, {@code -1} if no tick has been acquired yet.
+       */
+      public long getTick()
+      {
+         return buffers[frontIndex].tick;
+      }
+
+      /**
+       * Packs the transform to root of the given frame as of the current tick.
+       *
+       * @param frame the frame of interest. Not modified.
+       * @param transformToPack the transform in which the transform to root is stored. Modified.
+       * @throws IllegalArgumentException if the frame is not part of the published tree.
+       */
+      public void getTransformToRoot(ReferenceFrame frame, RigidBodyTransform transformToPack)
+      {
+         if (frame == tree.getRootFrame())
+            transformToPack.setIdentity();
+         else
+            transformToPack.set(buffers[frontIndex].transformsToRoot[getFrameIndex(frame)]);
+      }
+
+      /**
+       * Packs the transform from {@code frame} to {@code desiredFrame} as of the current tick.
+       *
+       * @param frame the frame the transform starts from. Not modified.
+       * @param transformToPack the transform in which the result is stored. Modified.
+       * @param desiredFrame the frame the transform ends in. Not modified.
+       * @throws IllegalArgumentException if either frame is not part of the published tree.
+       */
+      public void getTransformToDesiredFrame(ReferenceFrame frame, RigidBodyTransform transformToPack, ReferenceFrame desiredFrame)
+      {
+         getTransformToRoot(desiredFrame, transformToDesiredRoot);
+         getTransformToRoot(frame, transformToPack);
+         transformToPack.preMultiplyInvertOther(transformToDesiredRoot);
+      }
+
+      private int getFrameIndex(ReferenceFrame frame)
+      {
+         Integer index = frameIndices.get(frame);
+
+         if (index == null)
+            throw new IllegalArgumentException("The frame " + frame + " is not part of the published tree.");
+
+         return index;
+      }
+   }
+}
@@ -2,7 +2,7 @@ package us.ihmc.euclid.referenceFrame;
 
 import us.ihmc.euclid.interfaces.GeometryObject;
 import us.ihmc.euclid.referenceFrame.exceptions.ReferenceFrameMismatchException;
-import us.ihmc.euclid.referenceFrame.interfaces.ReferenceFrameHolder;
+import us.ihmc.euclid.referenceFrame.interfaces.FrameChangeable;
 import us.ihmc.euclid.transform.interfaces.Transform;
 
 /**
@@ -13,11 +13,16 @@ import us.ihmc.euclid.transform.interfaces.Transform;
  * transformation represents the same geometry object viewed from another reference frame
  * perspective.
  * </p>
+ * <p>
+ * When many frame geometry objects expressed in the same reference frame are to be changed to the
+ * same frame, {@link us.ihmc.euclid.referenceFrame.tools.EuclidFrameChangeTools} resolves the
+ * transform only once and applies it once per object.
+ * </p>
  *
  * @param <F> the final type of the extension of this abstract class.
  * @param <G> the final type of the geometry object to be used with this frame geometry object.
  */
-public abstract class FrameGeometryObject<F extends FrameGeometryObject<F, G>, G extends GeometryObject<G>> implements ReferenceFrameHolder, GeometryObject<F>
+public abstract class FrameGeometryObject<F extends FrameGeometryObject<F, G>, G extends GeometryObject<G>> implements FrameChangeable, GeometryObject<F>
 {
    /** The frameless geometry object that is to be extended with a frame by using this class. */
    private final G geometryObject;
@@ -226,6 +231,13 @@ public abstract class FrameGeometryObject<F extends FrameGeometryObject<F, G>, G
       changeFrame(thisReferenceFrame);
    }
 
+   /** {@inheritDoc} */
+   @Override
+   public final void setReferenceFrame(ReferenceFrame referenceFrame)
+   {
+      this.referenceFrame = referenceFrame;
+   }
+
    /**
     * This is the main feature of a {@code FrameGeometryObject}:
     * <p>
@@ -237,6 +249,7 @@ public abstract class FrameGeometryObject<F extends FrameGeometryObject<F, G>, G
     *
     * @param desiredFrame the reference frame in which the geometry object is to be expressed.
     */
+   @Override
    public void changeFrame(ReferenceFrame desiredFrame)
    {
       referenceFrame.transformFromThisToDesiredFrame(desiredFrame, this);
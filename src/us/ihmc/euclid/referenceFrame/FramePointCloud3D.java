@@ -0,0 +1,623 @@
+package us.ihmc.euclid.referenceFrame;
+
+import java.util.Arrays;
+
+import us.ihmc.euclid.geometry.BoundingBox3D;
+import us.ihmc.euclid.geometry.interfaces.Vertex3DSupplier;
+import us.ihmc.euclid.referenceFrame.exceptions.ReferenceFrameMismatchException;
+import us.ihmc.euclid.referenceFrame.interfaces.FrameChangeable;
+import us.ihmc.euclid.referenceFrame.interfaces.FramePoint3DBasics;
+import us.ihmc.euclid.referenceFrame.interfaces.FramePoint3DReadOnly;
+import us.ihmc.euclid.referenceFrame.interfaces.FrameVertex3DSupplier;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.transform.interfaces.Transform;
+import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DBasics;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+
+/**
+ * {@code FramePointCloud3D} is a collection of 3D points all expressed in the same reference frame.
+ * <p>
+ * The coordinates are stored in three contiguous arrays, one per axis, instead of one object per
+ * point. This reduces the memory footprint of large point clouds, such as lidar scans, and allows
+ * to iterate over the points with a good cache locality. Changing the frame of the cloud computes
+ * the transform to the desired frame once and applies it to all the points in a single pass.
+ * </p>
+ * <p>
+ * A {@code FramePointCloud3D} is also a {@link FrameVertex3DSupplier}. For efficiency, the vertex
+ * returned by {@link #getVertex(int)} is a point owned by this cloud that is overwritten at every
+ * call: it has to be used before calling {@link #getVertex(int)} again.
+ * </p>
+ */
+public class FramePointCloud3D implements FrameChangeable, FrameVertex3DSupplier
+{
+   private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+   /** The reference frame is which the points of this cloud are currently expressed. */
+   private ReferenceFrame referenceFrame;
+   /** The coordinates of the points, only the first {@link #numberOfPoints} are used. */
+   private double[] x, y, z;
+   /** The number of points in this cloud. */
+   private int numberOfPoints = 0;
+
+   /** Point used to implement {@link #getVertex(int)}. */
+   private final FramePoint3D vertex = new FramePoint3D();
+   /** Buffer used for the non-rigid transforms. */
+   private final Point3D pointBuffer = new Point3D();
+   /** Buffer used to compute the transform in {@link #changeFrame(ReferenceFrame)}. */
+   private final RigidBodyTransform transformToDesiredFrame = new RigidBodyTransform();
+
+   /**
+    * Creates a new empty point cloud expressed in {@link ReferenceFrame#getWorldFrame()}.
+    */
+   public FramePointCloud3D()
+   {
+      this(ReferenceFrame.getWorldFrame());
+   }
+
+   /**
+    * Creates a new empty point cloud expressed in the given {@code referenceFrame}.
+    *
+    * @param referenceFrame the initial frame for this point cloud.
+    */
+   public FramePointCloud3D(ReferenceFrame referenceFrame)
+   {
+      this(referenceFrame, DEFAULT_INITIAL_CAPACITY);
+   }
+
+   /**
+    * Creates a new empty point cloud expressed in the given {@code referenceFrame} that can hold
+    * {@code initialCapacity} points before growing.
+    *
+    * @param referenceFrame the initial frame for this point cloud.
+    * @param initialCapacity the number of points to allocate memory for.
+    */
+   public FramePointCloud3D(ReferenceFrame referenceFrame, int initialCapacity)
+   {
+      this.referenceFrame = referenceFrame;
+      x = new double[initialCapacity];
+      y = new double[initialCapacity];
+      z = new double[initialCapacity];
+   }
+
+   /**
+    * Creates a new point cloud and initializes it with the given vertices.
+    *
+    * @param referenceFrame the frame in which the vertices are expressed.
+    * @param vertex3DSupplier the supplier of vertices.
+    */
+   public FramePointCloud3D(ReferenceFrame referenceFrame, Vertex3DSupplier vertex3DSupplier)
+   {
+      this(referenceFrame, Math.max(DEFAULT_INITIAL_CAPACITY, vertex3DSupplier.getNumberOfVertices()));
+      addAll(vertex3DSupplier);
+   }
+
+   /**
+    * Creates a new point cloud and initializes it with the given vertices and their frame.
+    *
+    * @param frameVertex3DSupplier the supplier of vertices.
+    * @throws ReferenceFrameMismatchException if the vertices are not all expressed in the same frame.
+    */
+   public FramePointCloud3D(FrameVertex3DSupplier frameVertex3DSupplier)
+   {
+      this(ReferenceFrame.getWorldFrame(), Math.max(DEFAULT_INITIAL_CAPACITY, frameVertex3DSupplier.getNumberOfVertices()));
+      setIncludingFrame(frameVertex3DSupplier);
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public void setReferenceFrame(ReferenceFrame referenceFrame)
+   {
+      this.referenceFrame = referenceFrame;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public ReferenceFrame getReferenceFrame()
+   {
+      return referenceFrame;
+   }
+
+   /**
+    * Removes all the points of this cloud, the memory is kept for reuse.
+    */
+   public void clear()
+   {
+      numberOfPoints = 0;
+   }
+
+   /**
+    * Removes all the points of this cloud and sets its reference frame.
+    *
+    * @param referenceFrame the new reference frame for this cloud.
+    */
+   public void clear(ReferenceFrame referenceFrame)
+   {
+      clear();
+      setReferenceFrame(referenceFrame);
+   }
+
+   /**
+    * Ensures that this cloud can hold at least {@code capacity} points without having to grow.
+    *
+    * @param capacity the minimum capacity.
+    */
+   public void ensureCapacity(int capacity)
+   {
+      if (capacity <= x.length)
+         return;
+
+      int newCapacity = Math.max(capacity, 2 * x.length);
+      x = Arrays.copyOf(x, newCapacity);
+      y = Arrays.copyOf(y, newCapacity);
+      z = Arrays.copyOf(z, newCapacity);
+   }
+
+   /**
+    * Adds a point to this cloud.
+    *
+    * @param x the x-coordinate of the new point.
+    * @param y the y-coordinate of the new point.
+    * @param z the z-coordinate of the new point.
+    */
+   public void add(double x, double y, double z)
+   {
+      ensureCapacity(numberOfPoints + 1);
+      this.x[numberOfPoints] = x;
+      this.y[numberOfPoints] = y;
+      this.z[numberOfPoints] = z;
+      numberOfPoints++;
+   }
+
+   /**
+    * Adds a point to this cloud.
+    * <p>
+    * The point is assumed to be expressed in the frame of this cloud.
+    * </p>
+    *
+    * @param point the new point. Not modified.
+    */
+   public void add(Point3DReadOnly point)
+   {
+      add(point.getX(), point.getY(), point.getZ());
+   }
+
+   /**
+    * Adds a point to this cloud.
+    *
+    * @param point the new point. Not modified.
+    * @throws ReferenceFrameMismatchException if {@code point} is not expressed in the same frame as
+    *            {@code this}.
+    */
+   public void add(FramePoint3DReadOnly point)
+   {
+      checkReferenceFrameMatch(point);
+      add((Point3DReadOnly) point);
+   }
+
+   /**
+    * Adds all the vertices of the given supplier to this cloud.
+    * <p>
+    * The vertices are assumed to be expressed in the frame of this cloud.
+    * </p>
+    *
+    * @param vertex3DSupplier the supplier of vertices.
+    */
+   public void addAll(Vertex3DSupplier vertex3DSupplier)
+   {
+      ensureCapacity(numberOfPoints + vertex3DSupplier.getNumberOfVertices());
+
+      for (int i = 0; i < vertex3DSupplier.getNumberOfVertices(); i++)
+         add(vertex3DSupplier.getVertex(i));
+   }
+
+   /**
+    * Clears this cloud and adds all the vertices of the given supplier, then sets the frame of this
+    * cloud.
+    *
+    * @param referenceFrame the frame in which the vertices are expressed.
+    * @param vertex3DSupplier the supplier of vertices.
+    */
+   public void setIncludingFrame(ReferenceFrame referenceFrame, Vertex3DSupplier vertex3DSupplier)
+   {
+      clear(referenceFrame);
+      addAll(vertex3DSupplier);
+   }
+
+   /**
+    * Clears this cloud and adds all the vertices of the given supplier, then sets the frame of this
+    * cloud to the frame of the vertices.
+    *
+    * @param frameVertex3DSupplier the supplier of vertices.
+    * @throws ReferenceFrameMismatchException if the vertices are not all expressed in the same frame.
+    */
+   public void setIncludingFrame(FrameVertex3DSupplier frameVertex3DSupplier)
+   {
+      if (frameVertex3DSupplier.getNumberOfVertices() == 0)
+      {
+         clear();
+         return;
+      }
+
+      clear(frameVertex3DSupplier.getVertex(0).getReferenceFrame());
+      ensureCapacity(frameVertex3DSupplier.getNumberOfVertices());
+
+      for (int i = 0; i < frameVertex3DSupplier.getNumberOfVertices(); i++)
+         add(frameVertex3DSupplier.getVertex(i));
+   }
+
+   /**
+    * Sets the coordinates of the {@code index}<sup>th</sup> point.
+    *
+    * @param index the index of the point to modify.
+    * @param x the new x-coordinate.
+    * @param y the new y-coordinate.
+    * @param z the new z-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #getNumberOfPoints()}[.
+    */
+   public void set(int index, double x, double y, double z)
+   {
+      checkIndex(index);
+      this.x[index] = x;
+      this.y[index] = y;
+      this.z[index] = z;
+   }
+
+   /**
+    * Gets the number of points in this cloud.
+    *
+    * @return the number of points.
+    */
+   public int getNumberOfPoints()
+   {
+      return numberOfPoints;
+   }
+
+   /**
+    * Tests whether this cloud has no point.
+    *
+    * @return {@code true} if this cloud is empty, {@code false} otherwise.
+    */
+   public boolean isEmpty()
+   {
+      return numberOfPoints == 0;
+   }
+
+   /**
+    * Gets the x-coordinate of the {@code index}<sup>th</sup> point.
+    *
+    * @param index the index of the point.
+    * @return the x-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #getNumberOfPoints()}[.
+    */
+   public double getX(int index)
+   {
+      checkIndex(index);
+      return x[index];
+   }
+
+   /**
+    * Gets the y-coordinate of the {@code index}<sup>th</sup> point.
+    *
+    * @param index the index of the point.
+    * @return the y-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #getNumberOfPoints()}[.
+    */
+   public double getY(int index)
+   {
+      checkIndex(index);
+      return y[index];
+   }
+
+   /**
+    * Gets the z-coordinate of the {@code index}<sup>th</sup> point.
+    *
+    * @param index the index of the point.
+    * @return the z-coordinate.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #getNumberOfPoints()}[.
+    */
+   public double getZ(int index)
+   {
+      checkIndex(index);
+      return z[index];
+   }
+
+   /**
+    * Packs the coordinates of the {@code index}<sup>th</sup> point.
+    *
+    * @param index the index of the point.
+    * @param pointToPack the point in which the coordinates are stored. Modified.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #getNumberOfPoints()}[.
+    */
+   public void getPoint(int index, Point3DBasics pointToPack)
+   {
+      checkIndex(index);
+      pointToPack.set(x[index], y[index], z[index]);
+   }
+
+   /**
+    * Packs the {@code index}<sup>th</sup> point and sets the frame of {@code pointToPack} to the frame
+    * of this cloud.
+    *
+    * @param index the index of the point.
+    * @param pointToPack the point in which the coordinates and frame are stored. Modified.
+    * @throws IndexOutOfBoundsException if {@code index} is not in [0, {@link #getNumberOfPoints()}[.
+    */
+   public void getPointIncludingFrame(int index, FramePoint3DBasics pointToPack)
+   {
+      checkIndex(index);
+      pointToPack.setIncludingFrame(referenceFrame, x[index], y[index], z[index]);
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * WARNING: the returned point is owned by this cloud and is overwritten at every call of this
+    * method.
+    * </p>
+    */
+   @Override
+   public FramePoint3DReadOnly getVertex(int index)
+   {
+      getPointIncludingFrame(index, vertex);
+      return vertex;
+   }
+
+   /** {@inheritDoc} */
+   @Override
+   public int getNumberOfVertices()
+   {
+      return numberOfPoints;
+   }
+
+   /**
+    * Computes the smallest axis-aligned bounding box containing all the points of this cloud.
+    * <p>
+    * The bounding box is expressed in the frame of this cloud. It is set to {@link Double#NaN} if this
+    * cloud is empty.
+    * </p>
+    *
+    * @param boundingBoxToPack the bounding box in which the result is stored. Modified.
+    */
+   public void getBoundingBox(BoundingBox3D boundingBoxToPack)
+   {
+      if (numberOfPoints == 0)
+      {
+         boundingBoxToPack.setToNaN();
+         return;
+      }
+
+      double minX = x[0], minY = y[0], minZ = z[0];
+      double maxX = minX, maxY = minY, maxZ = minZ;
+
+      for (int i = 1; i < numberOfPoints; i++)
+      {
+         double px = x[i], py = y[i], pz = z[i];
+
+         if (px < minX)
+            minX = px;
+         else if (px > maxX)
+            maxX = px;
+
+         if (py < minY)
+            minY = py;
+         else if (py > maxY)
+            maxY = py;
+
+         if (pz < minZ)
+            minZ = pz;
+         else if (pz > maxZ)
+            maxZ = pz;
+      }
+
+      boundingBoxToPack.set(minX, minY, minZ, maxX, maxY, maxZ);
+   }
+
+   /**
+    * Computes the centroid, i.e. the average, of the points of this cloud.
+    * <p>
+    * The centroid is set to {@link Double#NaN} if this cloud is empty.
+    * </p>
+    *
+    * @param centroidToPack the point in which the centroid and the frame of this cloud are stored.
+    *           Modified.
+    */
+   public void getCentroid(FramePoint3DBasics centroidToPack)
+   {
+      if (numberOfPoints == 0)
+      {
+         centroidToPack.setIncludingFrame(referenceFrame, Double.NaN, Double.NaN, Double.NaN);
+         return;
+      }
+
+      double sumX = 0.0, sumY = 0.0, sumZ = 0.0;
+
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         sumX += x[i];
+         sumY += y[i];
+         sumZ += z[i];
+      }
+
+      double inverseNumberOfPoints = 1.0 / numberOfPoints;
+      centroidToPack.setIncludingFrame(referenceFrame, sumX * inverseNumberOfPoints, sumY * inverseNumberOfPoints, sumZ * inverseNumberOfPoints);
+   }
+
+   /**
+    * Finds the point of this cloud that is the closest to the given query.
+    * <p>
+    * The query is assumed to be expressed in the frame of this cloud.
+    * </p>
+    *
+    * @param query the coordinates of the query. Not modified.
+    * @return the index of the closest point, or {@code -1} if this cloud is empty.
+    */
+   public int findNearestPointIndex(Point3DReadOnly query)
+   {
+      double queryX = query.getX();
+      double queryY = query.getY();
+      double queryZ = query.getZ();
+
+      int nearestIndex = -1;
+      double nearestDistanceSquared = Double.POSITIVE_INFINITY;
+
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         double dx = x[i] - queryX;
+         double dy = y[i] - queryY;
+         double dz = z[i] - queryZ;
+         double distanceSquared = dx * dx + dy * dy + dz * dz;
+
+         if (distanceSquared < nearestDistanceSquared)
+         {
+            nearestDistanceSquared = distanceSquared;
+            nearestIndex = i;
+         }
+      }
+
+      return nearestIndex;
+   }
+
+   /**
+    * Finds the point of this cloud that is the closest to the given query.
+    *
+    * @param query the coordinates of the query. Not modified.
+    * @return the index of the closest point, or {@code -1} if this cloud is empty.
+    * @throws ReferenceFrameMismatchException if {@code query} is not expressed in the same frame as
+    *            {@code this}.
+    */
+   public int findNearestPointIndex(FramePoint3DReadOnly query)
+   {
+      checkReferenceFrameMatch(query);
+      return findNearestPointIndex((Point3DReadOnly) query);
+   }
+
+   /**
+    * {@inheritDoc}
+    * <p>
+    * The transform from the current frame to the {@code desiredFrame} is computed once and applied to
+    * all the points.
+    * </p>
+    */
+   @Override
+   public void changeFrame(ReferenceFrame desiredFrame)
+   {
+      if (desiredFrame == referenceFrame)
+         return;
+
+      referenceFrame.getTransformToDesiredFrame(transformToDesiredFrame, desiredFrame);
+      applyTransform(transformToDesiredFrame);
+      setReferenceFrame(desiredFrame);
+   }
+
+   /**
+    * Transforms all the points of this cloud by the given {@code transform}.
+    * <p>
+    * Rigid-body transforms are applied directly to the coordinate arrays.
+    * </p>
+    *
+    * @param transform the transform to apply. Not modified.
+    */
+   @Override
+   public void applyTransform(Transform transform)
+   {
+      if (transform instanceof RigidBodyTransform)
+      {
+         applyRigidBodyTransform((RigidBodyTransform) transform, false);
+      }
+      else
+      {
+         for (int i = 0; i < numberOfPoints; i++)
+         {
+            pointBuffer.set(x[i], y[i], z[i]);
+            transform.transform(pointBuffer);
+            x[i] = pointBuffer.getX();
+            y[i] = pointBuffer.getY();
+            z[i] = pointBuffer.getZ();
+         }
+      }
+   }
+
+   /**
+    * Transforms all the points of this cloud by the inverse of the given {@code transform}.
+    * <p>
+    * Rigid-body transforms are applied directly to the coordinate arrays.
+    * </p>
+    *
+    * @param transform the transform to apply. Not modified.
+    */
+   @Override
+   public void applyInverseTransform(Transform transform)
+   {
+      if (transform instanceof RigidBodyTransform)
+      {
+         applyRigidBodyTransform((RigidBodyTransform) transform, true);
+      }
+      else
+      {
+         for (int i = 0; i < numberOfPoints; i++)
+         {
+            pointBuffer.set(x[i], y[i], z[i]);
+            transform.inverseTransform(pointBuffer);
+            x[i] = pointBuffer.getX();
+            y[i] = pointBuffer.getY();
+            z[i] = pointBuffer.getZ();
+         }
+      }
+   }
+
+   private void applyRigidBodyTransform(RigidBodyTransform transform, boolean invert)
+   {
+      double m00 = transform.getM00(), m01 = transform.getM01(), m02 = transform.getM02();
+      double m10 = transform.getM10(), m11 = transform.getM11(), m12 = transform.getM12();
+      double m20 = transform.getM20(), m21 = transform.getM21(), m22 = transform.getM22();
+      double tx = transform.getTranslationX(), ty = transform.getTranslationY(), tz = transform.getTranslationZ();
+
+      if (invert)
+      { // p' = R^T (p - t) = R^T p - R^T t
+         double temp;
+         temp = m01;
+         m01 = m10;
+         m10 = temp;
+         temp = m02;
+         m02 = m20;
+         m20 = temp;
+         temp = m12;
+         m12 = m21;
+         m21 = temp;
+
+         double itx = -(m00 * tx + m01 * ty + m02 * tz);
+         double ity = -(m10 * tx + m11 * ty + m12 * tz);
+         double itz = -(m20 * tx + m21 * ty + m22 * tz);
+         tx = itx;
+         ty = ity;
+         tz = itz;
+      }
+
+      for (int i = 0; i < numberOfPoints; i++)
+      {
+         double px = x[i], py = y[i], pz = z[i];
+         x[i] = m00 * px + m01 * py + m02 * pz + tx;
+         y[i] = m10 * px + m11 * py + m12 * pz + ty;
+         z[i] = m20 * px + m21 * py + m22 * pz + tz;
+      }
+   }
+
+   private void checkIndex(int index)
+   {
+      if (index < 0 || index >= numberOfPoints)
+         throw new IndexOutOfBoundsException("Index: " + index + ", number of points: " + numberOfPoints);
+   }
+
+   /**
+    * Provides a {@code String} representation of this point cloud as follows:<br>
+    * point cloud 3D: number of points = 1000, frame = world
+    *
+    * @return the {@code String} representing this point cloud.
+    */
+   @Override
+   public String toString()
+   {
+      return "point cloud 3D: number of points = " + numberOfPoints + ", frame = " + referenceFrame;
+   }
+}
@@ -0,0 +1,161 @@
+package us.ihmc.euclid.referenceFrame;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * {@code NameBasedHashCodeFrameIndex} is an open-addressing hash table mapping name based hash codes
+ * to the reference frames of a tree.
+ * <p>
+ * The frames are weakly referenced such that the index does not prevent unused frames from being
+ * garbage collected. The entries of collected frames are reclaimed when the table is resized.
+ * </p>
+ * <p>
+ * Several frames can be registered with the same hash code, for instance when a frame is discarded
+ * and recreated with the same name. The collision is only reported when looking up a hash code that
+ * is shared by more than one frame still in use.
+ * </p>
+ */
+class NameBasedHashCodeFrameIndex
+{
+   private static final int MIN_CAPACITY = 16;
+   /** Entry left behind by a removed frame to preserve the probe sequences. */
+   private static final WeakReference<ReferenceFrame> REMOVED = new WeakReference<>(null);
+
+   private long[] keys;
+   private WeakReference<ReferenceFrame>[] frames;
+   private int mask;
+   /** The number of non-empty entries, including the removed and garbage collected ones. */
+   private int numberOfUsedEntries = 0;
+
+   NameBasedHashCodeFrameIndex()
+   {
+      allocate(MIN_CAPACITY);
+   }
+
+   @SuppressWarnings("unchecked")
+   private void allocate(int capacity)
+   {
+      keys = new long[capacity];
+      frames = new WeakReference[capacity];
+      mask = capacity - 1;
+      numberOfUsedEntries = 0;
+   }
+
+   /**
+    * Registers the given frame using its name based hash code.
+    *
+    * @param frame the frame to register. Not modified.
+    */
+   synchronized void add(ReferenceFrame frame)
+   {
+      // Keeping the table at most half full to keep the probe sequences short.
+      if (2 * (numberOfUsedEntries + 1) > frames.length)
+         resize();
+
+      put(frame.getNameBasedHashCode(), new WeakReference<>(frame));
+   }
+
+   private void put(long key, WeakReference<ReferenceFrame> frameReference)
+   {
+      int index = indexOf(key);
+
+      while (frames[index] != null && frames[index].get() != null)
+         index = (index + 1) & mask;
+
+      if (frames[index] == null)
+         numberOfUsedEntries++;
+
+      keys[index] = key;
+      frames[index] = frameReference;
+   }
+
+   /**
+    * Unregisters the given frame if it was registered.
+    *
+    * @param frame the frame to unregister. Not modified.
+    */
+   synchronized void remove(ReferenceFrame frame)
+   {
+      int index = indexOf(frame.getNameBasedHashCode());
+
+      while (frames[index] != null)
+      {
+         if (frames[index].get() == frame)
+         {
+            frames[index] = REMOVED;
+            return;
+         }
+
+         index = (index + 1) & mask;
+      }
+   }
+
+   /**
+    * Retrieves the frame registered with the given name based hash code.
+    * <p>
+    * This method does not generate garbage.
+    * </p>
+    *
+    * @param nameBasedHashCode the hash code of the frame to find.
+    * @return the frame with the given hash code, or {@code null} if no frame in use was registered with
+    *         it.
+    * @throws RuntimeException if more than one frame in use has the given hash code.
+    */
+   synchronized ReferenceFrame get(long nameBasedHashCode)
+   {
+      ReferenceFrame result = null;
+      int index = indexOf(nameBasedHashCode);
+
+      while (frames[index] != null)
+      {
+         if (keys[index] == nameBasedHashCode)
+         {
+            ReferenceFrame frame = frames[index].get();
+
+            if (frame != null)
+            {
+               if (result != null && result != frame)
+                  throw new RuntimeException("Name based hash code collision between the frames " + result + " and " + frame + ", hash code: "
+                        + nameBasedHashCode);
+               result = frame;
+            }
+         }
+
+         index = (index + 1) & mask;
+      }
+
+      return result;
+   }
+
+   private void resize()
+   {
+      long[] oldKeys = keys;
+      WeakReference<ReferenceFrame>[] oldFrames = frames;
+
+      int numberOfFramesInUse = 0;
+
+      for (WeakReference<ReferenceFrame> frameReference : oldFrames)
+      {
+         if (frameReference != null && frameReference.get() != null)
+            numberOfFramesInUse++;
+      }
+
+      int capacity = MIN_CAPACITY;
+      while (capacity < 4 * (numberOfFramesInUse + 1))
+         capacity <<= 1;
+
+      allocate(capacity);
+
+      for (int i = 0; i < oldFrames.length; i++)
+      {
+         if (oldFrames[i] != null && oldFrames[i].get() != null)
+            put(oldKeys[i], oldFrames[i]);
+      }
+   }
+
+   private int indexOf(long key)
+   {
+      // Fibonacci hashing to spread the hash codes over the table.
+      return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+   }
+}
@@ -1,9 +1,18 @@
 package us.ihmc.euclid.referenceFrame;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
 import us.ihmc.euclid.exceptions.NotARotationMatrixException;
 import us.ihmc.euclid.interfaces.Transformable;
 import us.ihmc.euclid.referenceFrame.exceptions.ReferenceFrameMismatchException;
+import us.ihmc.euclid.referenceFrame.interfaces.ReferenceFrameChangeListener;
 import us.ihmc.euclid.referenceFrame.interfaces.ReferenceFrameHolder;
+import us.ihmc.euclid.transform.QuaternionBasedTransform;
 import us.ihmc.euclid.transform.RigidBodyTransform;
 import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
 import us.ihmc.euclid.utils.NameBasedHashCodeHolder;
@@ -46,9 +55,46 @@ import us.ihmc.euclid.utils.NameBasedHashCodeTools;
  * allows for avoiding the burden of tracking to what frame a geometry is attached and how to
  * express a geometry in a different frame.
  * </p>
+ * <p>
+ * By default, a tree of reference frames is not thread-safe. When several threads need to query
+ * the same tree while a single thread updates it, the concurrent mode has to be enabled using
+ * {@link #setConcurrentModeEnabled(boolean)}.
+ * </p>
  */
 public abstract class ReferenceFrame implements NameBasedHashCodeHolder
 {
+   /**
+    * Name of the system property used to disable the reference frame checks, i.e. the methods
+    * {@code checkReferenceFrameMatch(...)}, by setting it to {@code false}.
+    * <p>
+    * For instance, run the JVM with {@code -Deuclid.referenceFrame.checks=false}.
+    * </p>
+    */
+   public static final String FRAME_CHECKS_PROPERTY = "euclid.referenceFrame.checks";
+   /**
+    * Whether the reference frame checks are enabled, this is read once from the system property
+    * {@value #FRAME_CHECKS_PROPERTY} when this class is initialized.
+    * <p>
+    * This field being a constant, the JIT compiler removes the checks entirely from the compiled code
+    * when they are disabled. They should only be disabled for applications that have already been
+    * validated with the checks enabled.
+    * </p>
+    */
+   public static final boolean FRAME_CHECKS_ENABLED = Boolean.parseBoolean(System.getProperty(FRAME_CHECKS_PROPERTY, "true"));
+
+   /**
+    * Maximum number of transforms to parent to compose below the common ancestor of two frames when
+    * computing the transform from one to the other, a chain of frames with an unchanging transform to
+    * parent only counts as one.
+    * <p>
+    * For short paths, composing the transforms below the common ancestor is cheaper than going
+    * through the root frame and avoids the loss of precision induced by large transforms to root.
+    * Beyond this number, the cached transforms to root are used instead.
+    * </p>
+    */
+   private static final int MAX_PATH_LENGTH_BELOW_COMMON_ANCESTOR = 4;
+   private static final int MIN_CHILDREN_PRUNING_THRESHOLD = 16;
+
    /** The name of this reference frame. The name should preferably be unique. */
    private final String frameName;
    /**
@@ -61,6 +107,13 @@ public abstract class ReferenceFrame implements NameBasedHashCodeHolder
     * </p>
     */
    private final long nameBasedHashCode;
+   /** Counter used to generate the serial numbers of the reference frames, shared by all the trees. */
+   private static final AtomicLong nextSerialNumber = new AtomicLong(1);
+   /**
+    * Number uniquely identifying this reference frame, unlike {@link #nameBasedHashCode} it differs
+    * between frames that have the same name and parent name.
+    */
+   private final long serialNumber = nextSerialNumber.getAndIncrement();
    /**
     * Additional custom hash code representing this frame.
     * <p>
@@ -83,6 +136,30 @@ public abstract class ReferenceFrame implements NameBasedHashCodeHolder
     * with respect to the root frame.
     */
    private final ReferenceFrame[] framesStartingWithRootEndingWithThis;
+   /**
+    * The frames that have been created with this frame as parent.
+    * <p>
+    * The children are weakly referenced such that frames that are no longer used can be garbage
+    * collected.
+    * </p>
+    */
+   private final List<WeakReference<ReferenceFrame>> children = new ArrayList<>();
+   /**
+    * Immutable copy of {@link #children} republished whenever a child is added or removed.
+    * <p>
+    * Iterating over the children is done with this array such that it can safely run concurrently
+    * with the creation or removal of frames without locking nor generating garbage.
+    * </p>
+    */
+   @SuppressWarnings("unchecked")
+   private volatile WeakReference<ReferenceFrame>[] childrenSnapshot = new WeakReference[0];
+   /**
+    * Size of {@link #children} above which the references to garbage collected children are removed
+    * when adding a new child.
+    */
+   private int childrenPruningThreshold = MIN_CHILDREN_PRUNING_THRESHOLD;
+   /** Whether this frame has been removed from its tree, in which case it cannot be used anymore. */
+   private boolean hasBeenRemoved = false;
 
    /**
     * The pose of this transform with respect to its parent.
@@ -97,9 +174,29 @@ public abstract class ReferenceFrame implements NameBasedHashCodeHolder
     */
    private final RigidBodyTransform transformToParent;
 
-   // These need to be longs instead of integers or they'll role over too soon. With longs, you get at least 100 years of runtime.
+   /**
+    * @deprecated No longer used, each tree of reference frames now has its own counter to generate
+    *             the transform to root IDs.
+    */
+   @Deprecated
    protected static long nextTransformToRootID = 1;
+   /**
+    * Counter used to generate the IDs of the transforms to root for the tree starting off this frame.
+    * Only used when this is a root frame.
+    */
+   // These need to be longs instead of integers or they'll role over too soon. With longs, you get at least 100 years of runtime.
+   private long nextTransformToRootIDInTree = 1;
    private long transformToRootID = Long.MIN_VALUE;
+   /**
+    * Whether {@link #transformToRoot} needs to be recomputed.
+    * <p>
+    * This flag is pushed down the tree when a frame is updated: when a frame's transform to root is
+    * outdated, so are the transforms to root of all its descendants. It is only cleared when the
+    * transform to root is recomputed, such that querying the transform of an up-to-date frame costs
+    * a single test.
+    * </p>
+    */
+   private boolean isTransformToRootOutdated;
    /**
     * The current transform from this reference frame to the root frame.
     * <p>
@@ -114,13 +211,84 @@ public abstract class ReferenceFrame implements NameBasedHashCodeHolder
     * Field initialized at construction time that specifies if this reference frame represents a
     * stationary frame, i.e. a non-moving frame, with respect to the root reference frame.
     */
-   private final boolean isAStationaryFrame; // TODO when isAStationaryFrame == true, transformToParent should be immutable.
+   private final boolean isAStationaryFrame;
+   /**
+    * Whether the transform to parent of this frame cannot change anymore.
+    * <p>
+    * This is the case for the frames created with an unchanging transform to parent and for the
+    * stationary frames once they have been updated. Calls to {@link #update()} are then ignored such
+    * that the transforms to root of this frame and its descendants remain valid until one of their
+    * moving ancestors is updated.
+    * </p>
+    */
+   private boolean isTransformToParentFrozen = false;
+   /**
+    * Index in {@link #framesStartingWithRootEndingWithThis} of the nearest ancestor of this frame that
+    * is not part of its chain of frames with an unchanging transform to parent, i.e. either the root
+    * frame or a frame that can move with respect to its parent.
+    * <p>
+    * Only relevant when {@link #transformToNearestMovingAncestor} is not {@code null}.
+    * </p>
+    */
+   private int nearestMovingAncestorIndex = -1;
+   /**
+    * The constant transform from this frame to its nearest moving ancestor, only available for the
+    * frames created with an unchanging transform to parent, {@code null} otherwise.
+    * <p>
+    * It collapses the chains of fixed frames, such as sensor mounts, that hang from moving frames: the
+    * frames in between are jumped over when computing the transform to root of this frame or its
+    * transform to a nearby frame.
+    * </p>
+    */
+   private RigidBodyTransform transformToNearestMovingAncestor = null;
    /**
     * Field initialized at construction time that specifies if at all time the z-axis of this reference
     * frame remains aligned with the z-axis of the root frame.
     */
    private final boolean isZupFrame;
 
+   /**
+    * Lock used to synchronize the tree starting off this frame when the concurrent mode is enabled,
+    * {@code null} otherwise. Only used when this is a root frame.
+    */
+   private StampedLock treeLock = null;
+   /**
+    * Buffer used in concurrent mode to compute the new transform to parent without holding the lock
+    * of the tree. Only created when needed.
+    */
+   private RigidBodyTransform transformToParentBuffer = null;
+   /**
+    * Optional cache of the transforms between pairs of frames of the tree starting off this frame,
+    * {@code null} when disabled. Only used when this is a root frame.
+    */
+   private TransformToDesiredFrameCache transformToDesiredFrameCache = null;
+   /**
+    * Optional history of the transform to parent of this frame, {@code null} when disabled. New
+    * samples are recorded with {@link #update(long)}.
+    */
+   private TransformToParentHistory transformToParentHistory = null;
+   /**
+    * Optional index of the frames of the tree starting off this frame by name based hash code,
+    * {@code null} when disabled. Only used when this is a root frame.
+    */
+   private NameBasedHashCodeFrameIndex nameBasedHashCodeIndex = null;
+   /**
+    * Copy of the transform to parent at the last detected change, {@code null} when the change
+    * detection is disabled in which case every update is considered as a change.
+    */
+   private RigidBodyTransform lastChangedTransformToParent = null;
+   /** Tolerance used to detect whether the transform to parent has changed. */
+   private double transformChangeEpsilon = 0.0;
+   /** Number of changes of the transform to parent detected since this frame was created. */
+   private volatile long transformToParentVersion = 0;
+   /** The listeners attached to this frame, {@code null} until the first one is added. */
+   private List<ReferenceFrameChangeListener> changeListeners = null;
+   /**
+    * Number of listeners attached to this frame and its descendants, used to only visit the
+    * subtrees with listeners when notifying a change.
+    */
+   private int numberOfChangeListenersInSubtree = 0;
+
    /**
     * {@code worldFrame} is a root reference frame and is most of time the only root reference frame.
     * <p>
@@ -235,10 +403,31 @@ public abstract class ReferenceFrame implements NameBasedHashCodeHolder
          {
          }
       };
+      ret.isTransformToParentFrozen = true;
+      ret.initializeTransformToNearestMovingAncestor();
 
       return ret;
    }
 
+   /**
+    * Precomputes the transform from this frame to its nearest moving ancestor, extending the one of the
+    * parent when the latter also has an unchanging transform to parent.
+    */
+   private void initializeTransformToNearestMovingAncestor()
+   {
+      if (parentFrame.transformToNearestMovingAncestor != null)
+      {
+         nearestMovingAncestorIndex = parentFrame.nearestMovingAncestorIndex;
+         transformToNearestMovingAncestor = new RigidBodyTransform(parentFrame.transformToNearestMovingAncestor);
+         transformToNearestMovingAncestor.multiply(transformToParent);
+      }
+      else
+      {
+         nearestMovingAncestorIndex = framesStartingWithRootEndingWithThis.length - 2;
+         transformToNearestMovingAncestor = new RigidBodyTransform(transformToParent);
+      }
+   }
+
    /**
     * Return the world reference frame that is a root reference frame.
     * <p>
@@ -316,7 +505,10 @@ public abstract class ReferenceFrame implements NameBasedHashCodeHolder
     * @param frameName the name of the new frame.
     * @param parentFrame the parent frame of the new reference frame.
     * @param isAStationaryFrame refers to whether this new frame is stationary with respect to the root
-    *           frame or moving. If {@code true}, the {@code parentFrame} has to also be stationary.
+    *           frame or moving. If {@code true}, the {@code parentFrame} has to also be stationary and
+    *           the transform to parent is frozen after the first call to {@link #update()}: the
+    *           following calls are ignored and {@link #updateTransformToParent(RigidBodyTransform)} is
+    *           not invoked anymore.
     * @param isZupFrame refers to whether this new frame has its z-axis aligned with the root frame at
     *           all time or not.
     * @throws IllegalArgumentException if {@code isAStationaryFrame} is {@code true} and the
@@ -377,7 +569,10 @@ public abstract class ReferenceFrame implements NameBasedHashCodeHolder
     * @param transformToParent the transform that can be used to transform a geometry object the new
     *           frame to its parent frame. Not modified.
     * @param isAStationaryFrame refers to whether this new frame is stationary with respect to the root
-    *           frame or moving. If {@code true}, the {@code parentFrame} has to also be stationary.
+    *           frame or moving. If {@code true}, the {@code parentFrame} has to also be stationary and
+    *           the transform to parent is frozen after the first call to {@link #update()}: the
+    *           following calls are ignored and {@link #updateTransformToParent(RigidBodyTransform)} is
+    *           not invoked anymore.
     * @param isZupFrame refers to whether this new frame has its z-axis aligned with the root frame at
     *           all time or not.
     * @throws IllegalArgumentException if {@code isAStationaryFrame} is {@code true} and the
@@ -385,6 +580,9 @@ public abstract class ReferenceFrame implements NameBasedHashCodeHolder
     */
    public ReferenceFrame(String frameName, ReferenceFrame parentFrame, RigidBodyTransform transformToParent, boolean isAStationaryFrame, boolean isZupFrame)
    {
+      if (parentFrame != null)
+         parentFrame.checkIfRemoved();
+
       this.frameName = frameName;
       this.parentFrame = parentFrame;
       framesStartingWithRootEndingWithThis = constructFramesStartingWithRootEndingWithThis(this);
@@ -392,6 +590,7 @@ public abstract class ReferenceFrame implements NameBasedHashCodeHolder
       if (parentFrame == null)
       { // Setting up this ReferenceFrame as a root frame.
          transformToRootID = 0;
+         isTransformToRootOutdated = false;
          nameBasedHashCode = NameBasedHashCodeTools.computeStringHashCode(frameName);
 
          transformToRoot = null;
@@ -403,6 +602,7 @@ public abstract class ReferenceFrame implements NameBasedHashCodeHolder
       else
       {
          nameBasedHashCode = NameBasedHashCodeTools.combineHashCodes(frameName, parentFrame.getName());
+         isTransformToRootOutdated = true;
 
          transformToRoot = new RigidBodyTransform();
          this.transformToParent = new RigidBodyTransform();
@@ -418,9 +618,40 @@ public abstract class ReferenceFrame implements NameBasedHashCodeHolder
 
          this.isAStationaryFrame = isAStationaryFrame;
          this.isZupFrame = isZupFrame;
+
+         parentFrame.addChild(this);
+
+         NameBasedHashCodeFrameIndex index = getRootFrame().nameBasedHashCodeIndex;
+         if (index != null)
+            index.add(this);
+      }
+   }
+
+   private void addChild(ReferenceFrame child)
+   {
+      synchronized (children)
+      {
+         if (children.size() >= childrenPruningThreshold)
+         {
+            children.removeIf(reference -> reference.get() == null);
+            childrenPruningThreshold = Math.max(MIN_CHILDREN_PRUNING_THRESHOLD, 2 * children.size());
+         }
+
+         children.add(new WeakReference<>(child));
+         updateChildrenSnapshot();
       }
    }
 
+   /**
+    * Republishes {@link #childrenSnapshot}, has to be called while holding the lock on
+    * {@link #children}.
+    */
+   @SuppressWarnings("unchecked")
+   private void updateChildrenSnapshot()
+   {
+      childrenSnapshot = children.toArray(new WeakReference[children.size()]);
+   }
+
    private static ReferenceFrame[] constructFramesStartingWithRootEndingWithThis(ReferenceFrame thisFrame)
    {
       ReferenceFrame parentFrame = thisFrame.parentFrame;
@@ -481,202 +712,1262 @@ public abstract class ReferenceFrame implements NameBasedHashCodeHolder
     * Note that it is not necessary to call update on reference frames with an unchanging transform to
     * parent, even if the parent frame is moving.
     * </p>
+    * <p>
+    * The transform to parent of a stationary frame is frozen after its first update: subsequent calls
+    * to this method are ignored and the transforms to root of the frame and its descendants are not
+    * recomputed. The same applies to the frames created with an unchanging transform to parent.
+    * </p>
+    * <p>
+    * When the concurrent mode is enabled, only one thread should be updating the frames of the tree.
+    * The new transform to parent is computed outside the lock of the tree, such that the
+    * implementation of {@link #updateTransformToParent(RigidBodyTransform)} can still query other
+    * frames of the tree.
+    * </p>
+    * <p>
+    * When the change detection is enabled, a new transform to parent that is within the tolerance of
+    * the transform at the last detected change is discarded. The transforms to root of this frame and
+    * its descendants then remain valid, and the version and listeners are left untouched.
+    * </p>
+    *
+    * @see #enableTransformChangeDetection(double)
+    * @see #addChangeListener(ReferenceFrameChangeListener)
     */
    public void update()
    {
-      if (parentFrame == null)
+      if (parentFrame == null || isTransformToParentFrozen)
       {
          return;
       }
 
-      updateTransformToParent(transformToParent);
-      transformToRootID = Long.MIN_VALUE;
-   }
+      checkIfRemoved();
 
-   /**
-    * Override this method to define how this reference frame should be located with respect to its
-    * parent frame over time by setting the argument {@code transformToParent}.
-    * <p>
-    * The {@code transformFromParent} should describe the pose of this frame expressed in its parent
-    * frame.
-    * </p>
-    *
-    * @param transformToParent the transform to updated according to how this reference frame should
-    *           now positioned with respect to its parent frame. Modified.
-    */
-   protected abstract void updateTransformToParent(RigidBodyTransform transformToParent);
+      StampedLock treeLock = getTreeLock();
+      boolean hasChanged;
 
-   /**
-    * Returns the parent frame of this reference frame.
-    * <p>
-    * Note that a root frame has no parent frame, such that this method returns {@code null} if this is
-    * a root frame.
-    * </p>
-    *
-    * @return the parent frame of this reference frame.
-    */
-   public ReferenceFrame getParent()
+      if (treeLock == null)
+      {
+         updateTransformToParent(transformToParent);
+         hasChanged = !isTransformToParentUnchanged(transformToParent);
+
+         if (hasChanged)
+         {
+            transformToRootID = Long.MIN_VALUE;
+            markSubtreeTransformToRootOutdated();
+         }
+         else
+         {
+            // Discarding the variation such that small variations cannot accumulate over the updates.
+            transformToParent.set(lastChangedTransformToParent);
+         }
+      }
+      else
+      {
+         if (transformToParentBuffer == null)
+            transformToParentBuffer = new RigidBodyTransform();
+
+         // Only the updating thread modifies transformToParent, it is safe to read it without the lock.
+         transformToParentBuffer.set(transformToParent);
+         updateTransformToParent(transformToParentBuffer);
+         hasChanged = !isTransformToParentUnchanged(transformToParentBuffer);
+
+         if (hasChanged)
+         {
+            long stamp = treeLock.writeLock();
+
+            try
+            {
+               transformToParent.set(transformToParentBuffer);
+               transformToRootID = Long.MIN_VALUE;
+               markSubtreeTransformToRootOutdated();
+            }
+            finally
+            {
+               treeLock.unlockWrite(stamp);
+            }
+         }
+      }
+
+      if (isAStationaryFrame)
+         isTransformToParentFrozen = true;
+
+      if (hasChanged)
+      {
+         if (lastChangedTransformToParent != null)
+            lastChangedTransformToParent.set(transformToParent);
+
+         transformToParentVersion++;
+
+         if (numberOfChangeListenersInSubtree > 0)
+            notifySubtreeChangeListeners();
+      }
+   }
+
+   private boolean isTransformToParentUnchanged(RigidBodyTransform newTransformToParent)
    {
-      return parentFrame;
+      return lastChangedTransformToParent != null && lastChangedTransformToParent.epsilonEquals(newTransformToParent, transformChangeEpsilon);
    }
 
-   /**
-    * Retrieves the root frame of the tree of reference frame that this frame belongs to.
-    *
-    * @return the root frame.
-    */
-   public ReferenceFrame getRootFrame()
+   private void notifySubtreeChangeListeners()
    {
-      return framesStartingWithRootEndingWithThis[0];
+      if (changeListeners != null)
+      {
+         for (int i = 0; i < changeListeners.size(); i++)
+            changeListeners.get(i).transformToRootChanged(this);
+      }
+
+      WeakReference<ReferenceFrame>[] currentChildren = childrenSnapshot;
+
+      for (int i = 0; i < currentChildren.length; i++)
+      {
+         ReferenceFrame child = currentChildren[i].get();
+
+         if (child != null && child.numberOfChangeListenersInSubtree > 0)
+            child.notifySubtreeChangeListeners();
+      }
    }
 
    /**
-    * Returns a copy of this reference frame's transform to parent.
+    * Enables the detection of the changes of the transform to parent of this frame.
     * <p>
-    * WARNING: This method generates garbage.
+    * Once enabled, {@link #update()} compares the new transform to parent against the transform at
+    * the last detected change and only considers it as a change when they differ by more than
+    * {@code epsilon}. Otherwise the new transform is discarded, avoiding the recomputation of the
+    * transforms to root of this frame and its descendants, and no listener is notified.
     * </p>
     * <p>
-    * This transform can be applied to a vector defined in this frame in order to obtain the equivalent
-    * vector in the parent frame.
+    * When disabled, which is the default, every call to {@link #update()} is considered as a change.
+    * </p>
+    * <p>
+    * In concurrent mode, this method should be called from the thread updating the frames.
     * </p>
     *
-    * @return a copy of the transform to the parent frame.
+    * @param epsilon the tolerance used to compare the transforms to parent.
+    * @throws IllegalArgumentException if {@code epsilon} is negative.
+    * @throws RuntimeException if this is a root frame.
     */
-   public RigidBodyTransform getTransformToParent()
+   public void enableTransformChangeDetection(double epsilon)
    {
-      RigidBodyTransform transformToReturn = new RigidBodyTransform();
-      getTransformToParent(transformToReturn);
-      return transformToReturn;
+      if (parentFrame == null)
+         throw new RuntimeException("The root frame " + this + " has no transform to parent.");
+      if (epsilon < 0.0)
+         throw new IllegalArgumentException("The epsilon cannot be negative, was: " + epsilon);
+
+      transformChangeEpsilon = epsilon;
+
+      if (lastChangedTransformToParent == null)
+         lastChangedTransformToParent = new RigidBodyTransform(transformToParent);
    }
 
    /**
-    * packs this reference frame's transform to parent into the given transform
-    * {@code transformToPack}.
-    * <p>
-    * This transform can be applied to a vector defined in this frame in order to obtain the equivalent
-    * vector in the parent frame.
-    * </p>
+    * Disables the detection of the changes of the transform to parent of this frame, every call to
+    * {@link #update()} is then considered as a change.
     *
-    * @param transformToPack the transform in which this frame's transform to its parent frame is
-    *           stored. Modified.
+    * @see #enableTransformChangeDetection(double)
     */
-   public void getTransformToParent(RigidBodyTransform transformToPack)
+   public void disableTransformChangeDetection()
    {
-      transformToPack.set(transformToParent);
+      lastChangedTransformToParent = null;
    }
 
    /**
-    * Gets the name of this reference frame.
+    * Gets the version of the transform to parent of this frame.
     * <p>
-    * Reference frames usually have a unique name among the reference frames in the same tree but this
-    * is not guaranteed.
+    * The version is incremented every time {@link #update()} detects a change of the transform to
+    * parent, it can be compared against a previously retrieved value to know whether this frame has
+    * moved with respect to its parent in the meantime.
     * </p>
     *
-    * @return this frame's name.
+    * @return the version of the transform to parent.
+    * @see #enableTransformChangeDetection(double)
     */
-   public String getName()
+   public long getTransformToParentVersion()
    {
-      return frameName;
+      return transformToParentVersion;
    }
 
    /**
-    * Returns the transform that can be used to transform a geometry object defined in this frame to
-    * obtain its equivalent expressed in the {@code desiredFrame}.
+    * Gets the version of the transform to root of this frame.
     * <p>
-    * WARNING: This method generates garbage.
+    * The version is the sum of the versions of the transforms to parent of this frame and all its
+    * ancestors. It changes whenever one of them is updated with a change, such that consumers can
+    * skip their work for the frames that did not move since they last retrieved the version.
     * </p>
     *
-    * @param desiredFrame the goal frame.
-    * @return the transform from this frame to the {@code desiredFrame}.
+    * @return the version of the transform to root.
+    * @see #getTransformToParentVersion()
     */
-   public RigidBodyTransform getTransformToDesiredFrame(ReferenceFrame desiredFrame)
+   public long getTransformToRootVersion()
    {
-      RigidBodyTransform ret = new RigidBodyTransform();
-      getTransformToDesiredFrame(ret, desiredFrame);
+      long version = 0;
 
-      return ret;
+      for (int i = 1; i < framesStartingWithRootEndingWithThis.length; i++)
+         version += framesStartingWithRootEndingWithThis[i].transformToParentVersion;
+
+      return version;
    }
 
    /**
-    * Returns the transform that can be used to transform a geometry object defined in this frame to
-    * obtain its equivalent expressed in {@link #worldFrame}.
+    * Attaches a listener to this frame that is notified when the transform to root of this frame
+    * changes, i.e. when {@link #update()} detects a change of the transform to parent of this frame or
+    * of any of its ancestors.
     * <p>
-    * WARNING: This method generates garbage.
+    * Listeners should be added and removed from the thread updating the frames.
     * </p>
     *
-    * @return the transform from this frame to the {@link #worldFrame}.
+    * @param listener the listener to attach.
+    * @see #enableTransformChangeDetection(double)
     */
-   public RigidBodyTransform getTransformToWorldFrame()
+   public void addChangeListener(ReferenceFrameChangeListener listener)
    {
-      RigidBodyTransform ret = new RigidBodyTransform();
-      getTransformToDesiredFrame(ret, worldFrame);
-      return ret;
+      if (changeListeners == null)
+         changeListeners = new ArrayList<>();
+
+      changeListeners.add(listener);
+
+      for (int i = 0; i < framesStartingWithRootEndingWithThis.length; i++)
+         framesStartingWithRootEndingWithThis[i].numberOfChangeListenersInSubtree++;
    }
 
    /**
-    * Packs the transform that can be used to transform a geometry object defined in this frame to
-    * obtain its equivalent expressed in the {@code desiredFrame} into {@code transformToPack}.
+    * Detaches a listener from this frame.
     *
-    * @param transformToPack the transform in which this frame's transform to the {@code desiredFrame}
-    *           is stored. Modified.
-    * @param desiredFrame the goal frame.
+    * @param listener the listener to detach.
+    * @return {@code true} if the listener was attached to this frame, {@code false} otherwise.
     */
-   public void getTransformToDesiredFrame(RigidBodyTransform transformToPack, ReferenceFrame desiredFrame)
+   public boolean removeChangeListener(ReferenceFrameChangeListener listener)
    {
-      try
-      {
-         verifySameRoots(desiredFrame);
+      if (changeListeners == null || !changeListeners.remove(listener))
+         return false;
 
-         efficientComputeTransform();
-         desiredFrame.efficientComputeTransform();
+      for (int i = 0; i < framesStartingWithRootEndingWithThis.length; i++)
+         framesStartingWithRootEndingWithThis[i].numberOfChangeListenersInSubtree--;
 
-         if (desiredFrame.transformToRoot != null)
-         {
-            if (transformToRoot != null)
-            {
-               transformToPack.setAndInvert(desiredFrame.transformToRoot);
-               transformToPack.multiply(transformToRoot);
-            }
-            else
-            {
-               transformToPack.setAndInvert(desiredFrame.transformToRoot);
-            }
-         }
-         else
-         {
-            if (transformToRoot != null)
-            {
-               transformToPack.set(transformToRoot);
-            }
-            else
-            {
-               transformToPack.setIdentity();
-            }
-         }
-      }
-      catch (NotARotationMatrixException e)
-      {
-         throw new NotARotationMatrixException("Caught exception, this frame: " + frameName + ", other frame: " + desiredFrame.getName() + ", exception:/n"
-               + e.getMessage());
-      }
+      return true;
    }
 
    /**
-    * Test whether the given frame is the parent of this frame.
+    * Tests whether the transform to parent of this frame is frozen, in which case {@link #update()}
+    * has no effect.
     *
-    * @param frame the query.
-    * @return {@code true} if the query is the parent of this frame, {@code false} otherwise.
+    * @return {@code true} if the transform to parent cannot change anymore, {@code false} otherwise.
+    * @see #update()
     */
-   public boolean isParentFrame(ReferenceFrame frame)
+   public boolean isTransformToParentFrozen()
    {
-      return frame == parentFrame;
+      return isTransformToParentFrozen;
    }
 
    /**
-    * Test whether the given frame is a child of this frame.
+    * Updates this frame as with {@link #update()} and records the new transform to parent in the
+    * history of this frame if enabled.
     *
-    * @param frame the query.
-    * @return {@code true} if the query is a child of this frame, {@code false} otherwise.
+    * @param timestamp the time associated with the new transform to parent. It has to be greater or
+    *           equal to the timestamp of the previous update.
+    * @throws IllegalArgumentException if the history is enabled and {@code timestamp} is older than
+    *            the last recorded sample.
+    * @see #enableTransformToParentHistory(int)
+    */
+   public void update(long timestamp)
+   {
+      update();
+
+      TransformToParentHistory history = transformToParentHistory;
+      if (history != null)
+         history.record(timestamp, transformToParent);
+   }
+
+   /**
+    * Marks the transform to root of this frame and of all its descendants as outdated.
+    * <p>
+    * The descendants of an outdated frame are always outdated, except for the frames with an unchanging
+    * transform to parent which transform to root is computed directly from their nearest moving
+    * ancestor. The subtrees of the other already outdated frames are not visited.
+    * </p>
+    */
+   private void markSubtreeTransformToRootOutdated()
+   {
+      isTransformToRootOutdated = true;
+
+      WeakReference<ReferenceFrame>[] currentChildren = childrenSnapshot;
+
+      for (int i = 0; i < currentChildren.length; i++)
+      {
+         ReferenceFrame child = currentChildren[i].get();
+
+         if (child != null && (!child.isTransformToRootOutdated || child.transformToNearestMovingAncestor != null))
+            child.markSubtreeTransformToRootOutdated();
+      }
+   }
+
+   /**
+    * Enables or disables the concurrent mode for the entire tree this frame belongs to.
+    * <p>
+    * When enabled, the transforms of the tree can be queried from several threads while a single
+    * thread is calling {@link #update()} on the frames of the tree. Readers first attempt to use the
+    * cached transforms without locking, validating afterwards that no update happened in the meantime
+    * similar to a seqlock. When the cached transforms are outdated, the first reader refreshes them
+    * while holding the tree's exclusive lock such that the other readers can use them.
+    * </p>
+    * <p>
+    * The concurrent mode should be enabled before sharing the tree among several threads.
+    * </p>
+    *
+    * @param enable whether the concurrent mode should be enabled or disabled.
+    */
+   public void setConcurrentModeEnabled(boolean enable)
+   {
+      ReferenceFrame rootFrame = getRootFrame();
+
+      if (enable)
+      {
+         if (rootFrame.treeLock == null)
+            rootFrame.treeLock = new StampedLock();
+      }
+      else
+      {
+         rootFrame.treeLock = null;
+      }
+   }
+
+   /**
+    * Tests whether the concurrent mode is enabled for the tree this frame belongs to.
+    *
+    * @return {@code true} if the concurrent mode is enabled, {@code false} otherwise.
+    * @see #setConcurrentModeEnabled(boolean)
+    */
+   public boolean isConcurrentModeEnabled()
+   {
+      return getTreeLock() != null;
+   }
+
+   /**
+    * Enables the cache of the transforms between pairs of frames for the entire tree this frame belongs
+    * to.
+    * <p>
+    * Once enabled, the result of
+    * {@link #getTransformToDesiredFrame(RigidBodyTransform, ReferenceFrame)} is memorized such that
+    * repeating the same query costs a version check of the two frames and a copy until either of the
+    * two frames moves. Pairs of frames close in the tree do not use the cache as their transform is
+    * already cheap to compute.
+    * </p>
+    * <p>
+    * The cache is bounded: a pair of frames can evict another pair that is associated with the same
+    * entry. The cache is not used when the concurrent mode is enabled.
+    * </p>
+    *
+    * @param capacity the minimum number of pairs of frames the cache can hold.
+    * @throws IllegalArgumentException if {@code capacity} is not strictly positive.
+    */
+   public void enableTransformToDesiredFrameCache(int capacity)
+   {
+      getRootFrame().transformToDesiredFrameCache = new TransformToDesiredFrameCache(capacity);
+   }
+
+   /**
+    * Disables and clears the cache of the transforms between pairs of frames for the entire tree this
+    * frame belongs to.
+    *
+    * @see #enableTransformToDesiredFrameCache(int)
+    */
+   public void disableTransformToDesiredFrameCache()
+   {
+      getRootFrame().transformToDesiredFrameCache = null;
+   }
+
+   /**
+    * Enables the history of the transform to parent of this frame.
+    * <p>
+    * Once enabled, every call to {@link #update(long)} records the new transform to parent with the
+    * given timestamp. Only the {@code capacity} most recent samples are kept, the memory for them is
+    * allocated by this method such that recording does not generate garbage.
+    * </p>
+    * <p>
+    * The history is used by {@link #getTransformToDesiredFrame(RigidBodyTransform, ReferenceFrame, long)}
+    * to compute transforms as they were at an earlier time.
+    * </p>
+    *
+    * @param capacity the number of samples to keep.
+    * @throws IllegalArgumentException if {@code capacity} is less than 1.
+    * @throws RuntimeException if this is a root frame.
+    */
+   public void enableTransformToParentHistory(int capacity)
+   {
+      if (parentFrame == null)
+         throw new RuntimeException("The root frame " + this + " has no transform to parent.");
+
+      transformToParentHistory = new TransformToParentHistory(capacity);
+   }
+
+   /**
+    * Disables and clears the history of the transform to parent of this frame.
+    *
+    * @see #enableTransformToParentHistory(int)
+    */
+   public void disableTransformToParentHistory()
+   {
+      transformToParentHistory = null;
+   }
+
+   StampedLock getTreeLock()
+   {
+      return framesStartingWithRootEndingWithThis[0].treeLock;
+   }
+
+   /**
+    * Override this method to define how this reference frame should be located with respect to its
+    * parent frame over time by setting the argument {@code transformToParent}.
+    * <p>
+    * The {@code transformFromParent} should describe the pose of this frame expressed in its parent
+    * frame.
+    * </p>
+    *
+    * @param transformToParent the transform to updated according to how this reference frame should
+    *           now positioned with respect to its parent frame. Modified.
+    */
+   protected abstract void updateTransformToParent(RigidBodyTransform transformToParent);
+
+   /**
+    * Returns the parent frame of this reference frame.
+    * <p>
+    * Note that a root frame has no parent frame, such that this method returns {@code null} if this is
+    * a root frame.
+    * </p>
+    *
+    * @return the parent frame of this reference frame.
+    */
+   public ReferenceFrame getParent()
+   {
+      return parentFrame;
+   }
+
+   /**
+    * Gets the number of children of this frame.
+    * <p>
+    * Note that children that are not referenced anymore may still be counted until they are garbage
+    * collected.
+    * </p>
+    *
+    * @return the number of children.
+    */
+   public int getNumberOfChildren()
+   {
+      synchronized (children)
+      {
+         if (children.removeIf(reference -> reference.get() == null))
+            updateChildrenSnapshot();
+         return children.size();
+      }
+   }
+
+   /**
+    * Performs the given {@code action} on each child of this frame.
+    * <p>
+    * This method does not generate garbage.
+    * </p>
+    *
+    * @param action the action to perform on each child.
+    */
+   public void forEachChild(Consumer<? super ReferenceFrame> action)
+   {
+      WeakReference<ReferenceFrame>[] currentChildren = childrenSnapshot;
+
+      for (int i = 0; i < currentChildren.length; i++)
+      {
+         ReferenceFrame child = currentChildren[i].get();
+
+         if (child != null)
+            action.accept(child);
+      }
+   }
+
+   /**
+    * Performs the given {@code action} on this frame and all its descendants.
+    * <p>
+    * The frames are visited in depth-first order, a frame is always visited before its children. This
+    * method does not generate garbage.
+    * </p>
+    *
+    * @param action the action to perform on each frame of the subtree starting off this frame.
+    */
+   public void forEachFrameInSubtree(Consumer<? super ReferenceFrame> action)
+   {
+      action.accept(this);
+
+      WeakReference<ReferenceFrame>[] currentChildren = childrenSnapshot;
+
+      for (int i = 0; i < currentChildren.length; i++)
+      {
+         ReferenceFrame child = currentChildren[i].get();
+
+         if (child != null)
+            child.forEachFrameInSubtree(action);
+      }
+   }
+
+   /**
+    * Removes this frame and all its descendants from the tree.
+    * <p>
+    * This frame is detached from its parent, such that the subtree starting off this frame is not
+    * reachable from the rest of the tree anymore and can be garbage collected once not used elsewhere.
+    * The frames of the removed subtree cannot be used anymore, attempting to compute transforms with
+    * them or to create new children will result in an exception.
+    * </p>
+    */
+   public void remove()
+   {
+      if (parentFrame != null)
+      {
+         synchronized (parentFrame.children)
+         {
+            if (parentFrame.children.removeIf(reference -> reference.get() == this))
+               parentFrame.updateChildrenSnapshot();
+         }
+
+         if (!hasBeenRemoved)
+         {
+            for (int i = 0; i < framesStartingWithRootEndingWithThis.length - 1; i++)
+               framesStartingWithRootEndingWithThis[i].numberOfChangeListenersInSubtree -= numberOfChangeListenersInSubtree;
+         }
+      }
+
+      NameBasedHashCodeFrameIndex index = getRootFrame().nameBasedHashCodeIndex;
+
+      forEachFrameInSubtree(frame ->
+      {
+         frame.hasBeenRemoved = true;
+         if (index != null)
+            index.remove(frame);
+      });
+   }
+
+   /**
+    * Tests whether this frame has been removed from its tree.
+    *
+    * @return {@code true} if this frame has been removed, {@code false} otherwise.
+    * @see #remove()
+    */
+   public boolean hasBeenRemoved()
+   {
+      return hasBeenRemoved;
+   }
+
+   /**
+    * Checks that this frame has not been removed from its tree.
+    *
+    * @throws RuntimeException if this frame has been removed.
+    * @see #remove()
+    */
+   public void checkIfRemoved() throws RuntimeException
+   {
+      if (hasBeenRemoved)
+         throw newRemovedFrameException(this);
+   }
+
+   private static RuntimeException newRemovedFrameException(ReferenceFrame frame)
+   {
+      return new RuntimeException("Frame " + frame + " has been removed from its tree and cannot be used anymore.");
+   }
+
+   /**
+    * Enables the index of the frames by name based hash code for the entire tree this frame belongs
+    * to.
+    * <p>
+    * Once enabled, {@link #findFrameByNameBasedHashCode(long)} performs a constant time lookup that
+    * does not generate garbage instead of searching the entire tree. The frames already in the tree
+    * are indexed when calling this method, frames created afterwards are indexed at construction.
+    * </p>
+    */
+   public void enableNameBasedHashCodeIndex()
+   {
+      ReferenceFrame rootFrame = getRootFrame();
+
+      if (rootFrame.nameBasedHashCodeIndex != null)
+         return;
+
+      NameBasedHashCodeFrameIndex index = new NameBasedHashCodeFrameIndex();
+      rootFrame.forEachFrameInSubtree(index::add);
+      rootFrame.nameBasedHashCodeIndex = index;
+   }
+
+   /**
+    * Searches the tree this frame belongs to for the frame with the given name based hash code.
+    * <p>
+    * The search is a constant time lookup when the index is enabled, see
+    * {@link #enableNameBasedHashCodeIndex()}, and goes through the entire tree otherwise.
+    * </p>
+    *
+    * @param nameBasedHashCode the name based hash code of the frame to find.
+    * @return the frame with the given hash code, or {@code null} if there is no such frame in the
+    *         tree.
+    * @throws RuntimeException if more than one frame of the tree has the given hash code.
+    * @see #getNameBasedHashCode()
+    */
+   public ReferenceFrame findFrameByNameBasedHashCode(long nameBasedHashCode)
+   {
+      ReferenceFrame rootFrame = getRootFrame();
+
+      if (rootFrame.nameBasedHashCodeIndex != null)
+         return rootFrame.nameBasedHashCodeIndex.get(nameBasedHashCode);
+      else
+         return rootFrame.searchSubtreeForNameBasedHashCode(nameBasedHashCode, null);
+   }
+
+   private ReferenceFrame searchSubtreeForNameBasedHashCode(long nameBasedHashCode, ReferenceFrame result)
+   {
+      if (this.nameBasedHashCode == nameBasedHashCode)
+      {
+         if (result != null)
+            throw new RuntimeException("Name based hash code collision between the frames " + result + " and " + this + ", hash code: "
+                  + nameBasedHashCode);
+         result = this;
+      }
+
+      WeakReference<ReferenceFrame>[] currentChildren = childrenSnapshot;
+
+      for (int i = 0; i < currentChildren.length; i++)
+      {
+         ReferenceFrame child = currentChildren[i].get();
+
+         if (child != null)
+            result = child.searchSubtreeForNameBasedHashCode(nameBasedHashCode, result);
+      }
+
+      return result;
+   }
+
+   /**
+    * Retrieves the root frame of the tree of reference frame that this frame belongs to.
+    *
+    * @return the root frame.
+    */
+   public ReferenceFrame getRootFrame()
+   {
+      return framesStartingWithRootEndingWithThis[0];
+   }
+
+   /**
+    * Returns a copy of this reference frame's transform to parent.
+    * <p>
+    * WARNING: This method generates garbage.
+    * </p>
+    * <p>
+    * This transform can be applied to a vector defined in this frame in order to obtain the equivalent
+    * vector in the parent frame.
+    * </p>
+    *
+    * @return a copy of the transform to the parent frame.
+    */
+   public RigidBodyTransform getTransformToParent()
+   {
+      RigidBodyTransform transformToReturn = new RigidBodyTransform();
+      getTransformToParent(transformToReturn);
+      return transformToReturn;
+   }
+
+   /**
+    * packs this reference frame's transform to parent into the given transform
+    * {@code transformToPack}.
+    * <p>
+    * This transform can be applied to a vector defined in this frame in order to obtain the equivalent
+    * vector in the parent frame.
+    * </p>
+    *
+    * @param transformToPack the transform in which this frame's transform to its parent frame is
+    *           stored. Modified.
+    */
+   public void getTransformToParent(RigidBodyTransform transformToPack)
+   {
+      transformToPack.set(transformToParent);
+   }
+
+   /**
+    * Gets the internal reference to this reference frame's transform to parent.
+    * <p>
+    * This method does not generate garbage, the returned transform must not be modified.
+    * </p>
+    *
+    * @return the internal reference to the transform to the parent frame, {@code null} if this is a
+    *         root frame.
+    */
+   public RigidBodyTransform getTransformToParentReference()
+   {
+      return transformToParent;
+   }
+
+   /**
+    * Gets the name of this reference frame.
+    * <p>
+    * Reference frames usually have a unique name among the reference frames in the same tree but this
+    * is not guaranteed.
+    * </p>
+    *
+    * @return this frame's name.
+    */
+   public String getName()
+   {
+      return frameName;
+   }
+
+   /**
+    * Returns the transform that can be used to transform a geometry object defined in this frame to
+    * obtain its equivalent expressed in the {@code desiredFrame}.
+    * <p>
+    * WARNING: This method generates garbage.
+    * </p>
+    *
+    * @param desiredFrame the goal frame.
+    * @return the transform from this frame to the {@code desiredFrame}.
+    */
+   public RigidBodyTransform getTransformToDesiredFrame(ReferenceFrame desiredFrame)
+   {
+      RigidBodyTransform ret = new RigidBodyTransform();
+      getTransformToDesiredFrame(ret, desiredFrame);
+
+      return ret;
+   }
+
+   /**
+    * Returns the transform that can be used to transform a geometry object defined in this frame to
+    * obtain its equivalent expressed in {@link #worldFrame}.
+    * <p>
+    * WARNING: This method generates garbage.
+    * </p>
+    *
+    * @return the transform from this frame to the {@link #worldFrame}.
+    */
+   public RigidBodyTransform getTransformToWorldFrame()
+   {
+      RigidBodyTransform ret = new RigidBodyTransform();
+      getTransformToDesiredFrame(ret, worldFrame);
+      return ret;
+   }
+
+   /**
+    * Packs the transform that can be used to transform a geometry object defined in this frame to
+    * obtain its equivalent expressed in {@link #worldFrame} into {@code transformToPack}.
+    *
+    * @param transformToPack the transform in which this frame's transform to the {@link #worldFrame}
+    *           is stored. Modified.
+    */
+   public void getTransformToWorldFrame(RigidBodyTransform transformToPack)
+   {
+      getTransformToDesiredFrame(transformToPack, worldFrame);
+   }
+
+   /**
+    * Packs the transform that can be used to transform a geometry object defined in this frame to
+    * obtain its equivalent expressed in the {@code desiredFrame} into {@code transformToPack}.
+    * <p>
+    * When this frame and the {@code desiredFrame} are close in the tree, the transform is computed by
+    * only composing the transforms to parent below their lowest common ancestor. Otherwise, the cached
+    * transforms to root of both frames are used.
+    * </p>
+    *
+    * @param transformToPack the transform in which this frame's transform to the {@code desiredFrame}
+    *           is stored. Modified.
+    * @param desiredFrame the goal frame.
+    */
+   public void getTransformToDesiredFrame(RigidBodyTransform transformToPack, ReferenceFrame desiredFrame)
+   {
+      try
+      {
+         checkIfRemoved();
+         desiredFrame.checkIfRemoved();
+         verifySameRoots(desiredFrame);
+
+         int commonAncestorIndex = findNearbyCommonAncestorIndex(desiredFrame);
+         boolean useCommonAncestorPath = commonAncestorIndex >= 0;
+         StampedLock treeLock = getTreeLock();
+
+         if (treeLock == null)
+         {
+            if (useCommonAncestorPath)
+            {
+               composeTransformToDesiredFrameBelowCommonAncestor(transformToPack, desiredFrame, commonAncestorIndex);
+            }
+            else
+            {
+               efficientComputeTransform();
+               desiredFrame.efficientComputeTransform();
+
+               TransformToDesiredFrameCache cache = getRootFrame().transformToDesiredFrameCache;
+
+               if (cache == null)
+               {
+                  packTransformToDesiredFrame(transformToPack, desiredFrame);
+               }
+               else if (!cache.get(this, transformToRootID, desiredFrame, desiredFrame.transformToRootID, transformToPack))
+               {
+                  packTransformToDesiredFrame(transformToPack, desiredFrame);
+                  cache.put(this, transformToRootID, desiredFrame, desiredFrame.transformToRootID, transformToPack);
+               }
+            }
+         }
+         else if (useCommonAncestorPath)
+         {
+            if (!tryOptimisticTransformToDesiredFrameBelowCommonAncestor(treeLock, transformToPack, desiredFrame, commonAncestorIndex))
+            {
+               long stamp = treeLock.readLock();
+
+               try
+               {
+                  composeTransformToDesiredFrameBelowCommonAncestor(transformToPack, desiredFrame, commonAncestorIndex);
+               }
+               finally
+               {
+                  treeLock.unlockRead(stamp);
+               }
+            }
+         }
+         else if (!tryOptimisticTransformToDesiredFrame(treeLock, transformToPack, desiredFrame))
+         {
+            long stamp = readLockWithUpToDateTransforms(treeLock, desiredFrame);
+
+            try
+            {
+               packTransformToDesiredFrame(transformToPack, desiredFrame);
+            }
+            finally
+            {
+               treeLock.unlockRead(stamp);
+            }
+         }
+      }
+      catch (NotARotationMatrixException e)
+      {
+         throw new NotARotationMatrixException("Caught exception, this frame: " + frameName + ", other frame: " + desiredFrame.getName() + ", exception:/n"
+               + e.getMessage());
+      }
+   }
+
+   /**
+    * Packs the transform that can be used to transform a geometry object defined in this frame to
+    * obtain its equivalent expressed in the {@code desiredFrame} into {@code transformToPack}.
+    * <p>
+    * The transforms of the frame chains are composed directly in the quaternion-based representation
+    * such that the result does not need to be converted from a rotation matrix afterwards. The
+    * transform cache enabled with {@link #enableTransformToDesiredFrameCache(int)} is not used by this
+    * method.
+    * </p>
+    *
+    * @param transformToPack the transform in which this frame's transform to the {@code desiredFrame}
+    *           is stored. Modified.
+    * @param desiredFrame the goal frame.
+    */
+   public void getTransformToDesiredFrame(QuaternionBasedTransform transformToPack, ReferenceFrame desiredFrame)
+   {
+      checkIfRemoved();
+      desiredFrame.checkIfRemoved();
+      verifySameRoots(desiredFrame);
+
+      int commonAncestorIndex = findNearbyCommonAncestorIndex(desiredFrame);
+      boolean useCommonAncestorPath = commonAncestorIndex >= 0;
+      StampedLock treeLock = getTreeLock();
+
+      if (treeLock == null)
+      {
+         if (useCommonAncestorPath)
+         {
+            composeTransformToDesiredFrameBelowCommonAncestor(transformToPack, desiredFrame, commonAncestorIndex);
+         }
+         else
+         {
+            efficientComputeTransform();
+            desiredFrame.efficientComputeTransform();
+            packTransformToDesiredFrame(transformToPack, desiredFrame);
+         }
+      }
+      else
+      {
+         long stamp = useCommonAncestorPath ? treeLock.readLock() : readLockWithUpToDateTransforms(treeLock, desiredFrame);
+
+         try
+         {
+            if (useCommonAncestorPath)
+               composeTransformToDesiredFrameBelowCommonAncestor(transformToPack, desiredFrame, commonAncestorIndex);
+            else
+               packTransformToDesiredFrame(transformToPack, desiredFrame);
+         }
+         finally
+         {
+            treeLock.unlockRead(stamp);
+         }
+      }
+   }
+
+   /**
+    * Packs the transform from this frame to the {@code desiredFrame} as it was at the given time.
+    * <p>
+    * The transforms to parent of the frames between this frame and the {@code desiredFrame} are
+    * obtained from their history, see {@link #enableTransformToParentHistory(int)}. The samples
+    * surrounding the {@code timestamp} are interpolated, and the most recent sample is used when the
+    * {@code timestamp} is more recent. Frames with no history or no recorded sample are assumed to have
+    * been fixed with respect to their parent, their current transform to parent is used.
+    * </p>
+    * <p>
+    * This method does not generate garbage and does not modify the cached transforms to root.
+    * </p>
+    *
+    * @param transformToPack the transform in which this frame's transform to the {@code desiredFrame}
+    *           at the given time is stored. Modified.
+    * @param desiredFrame the goal frame.
+    * @param timestamp the time at which the transform is to be evaluated.
+    * @throws IllegalArgumentException if {@code timestamp} is older than the oldest sample of one of
+    *            the histories involved.
+    */
+   public void getTransformToDesiredFrame(RigidBodyTransform transformToPack, ReferenceFrame desiredFrame, long timestamp)
+   {
+      checkIfRemoved();
+      desiredFrame.checkIfRemoved();
+      verifySameRoots(desiredFrame);
+
+      int commonAncestorIndex = findCommonAncestorIndex(desiredFrame);
+      ReferenceFrame[] desiredChain = desiredFrame.framesStartingWithRootEndingWithThis;
+      StampedLock treeLock = getTreeLock();
+      long stamp = treeLock == null ? 0L : treeLock.readLock();
+
+      try
+      {
+         transformToPack.setIdentity();
+
+         for (int i = framesStartingWithRootEndingWithThis.length - 1; i > commonAncestorIndex; i--)
+            framesStartingWithRootEndingWithThis[i].preMultiplyTransformToParent(transformToPack, timestamp);
+
+         for (int i = commonAncestorIndex + 1; i < desiredChain.length; i++)
+            desiredChain[i].preMultiplyInvertTransformToParent(transformToPack, timestamp);
+      }
+      finally
+      {
+         if (treeLock != null)
+            treeLock.unlockRead(stamp);
+      }
+   }
+
+   private void preMultiplyTransformToParent(RigidBodyTransform transformToModify, long timestamp)
+   {
+      TransformToParentHistory history = transformToParentHistory;
+
+      if (history == null || history.isEmpty())
+         transformToModify.preMultiply(transformToParent);
+      else
+         history.preMultiply(timestamp, transformToModify);
+   }
+
+   private void preMultiplyInvertTransformToParent(RigidBodyTransform transformToModify, long timestamp)
+   {
+      TransformToParentHistory history = transformToParentHistory;
+
+      if (history == null || history.isEmpty())
+         transformToModify.preMultiplyInvertOther(transformToParent);
+      else
+         history.preMultiplyInvertOther(timestamp, transformToModify);
+   }
+
+   private void packTransformToDesiredFrame(RigidBodyTransform transformToPack, ReferenceFrame desiredFrame)
+   {
+      if (desiredFrame.transformToRoot != null)
+      {
+         if (transformToRoot != null)
+         {
+            // Fused inversion and multiplication, the inverse of the rigid transform is never formed.
+            transformToPack.set(desiredFrame.transformToRoot);
+            transformToPack.multiplyInvertThis(transformToRoot);
+         }
+         else
+         {
+            transformToPack.setAndInvert(desiredFrame.transformToRoot);
+         }
+      }
+      else
+      {
+         if (transformToRoot != null)
+         {
+            transformToPack.set(transformToRoot);
+         }
+         else
+         {
+            transformToPack.setIdentity();
+         }
+      }
+   }
+
+   private void packTransformToDesiredFrame(QuaternionBasedTransform transformToPack, ReferenceFrame desiredFrame)
+   {
+      if (transformToRoot != null)
+         transformToPack.set(transformToRoot);
+      else
+         transformToPack.setIdentity();
+
+      if (desiredFrame.transformToRoot != null)
+         transformToPack.preMultiplyInvertOther(desiredFrame.transformToRoot);
+   }
+
+   /**
+    * Finds the index of the lowest common ancestor of this frame and {@code otherFrame} in
+    * {@link #framesStartingWithRootEndingWithThis}.
+    * <p>
+    * Both frames are expected to share the same root frame. As their chains share the same frames down
+    * to the common ancestor, the search starts from the deep end such that its cost depends on the
+    * distance between the two frames rather than on the depth of the common ancestor.
+    * </p>
+    *
+    * @param otherFrame the other frame to find the common ancestor with.
+    * @return the index of the common ancestor in the chains of both frames.
+    */
+   private int findCommonAncestorIndex(ReferenceFrame otherFrame)
+   {
+      ReferenceFrame[] otherChain = otherFrame.framesStartingWithRootEndingWithThis;
+      int commonAncestorIndex = Math.min(framesStartingWithRootEndingWithThis.length, otherChain.length) - 1;
+
+      while (framesStartingWithRootEndingWithThis[commonAncestorIndex] != otherChain[commonAncestorIndex])
+         commonAncestorIndex--;
+
+      return commonAncestorIndex;
+   }
+
+   /**
+    * Finds a common ancestor of this frame and {@code otherFrame} that can be reached from both frames
+    * in at most {@link #MAX_PATH_LENGTH_BELOW_COMMON_ANCESTOR} jumps in total, see
+    * {@link #getNextAncestorIndex(int)}.
+    * <p>
+    * Both chains are walked up from their deep end and the search is aborted as soon as the path gets
+    * too long, such that its cost is bounded regardless of the depth of the frames in the tree.
+    * </p>
+    *
+    * @param otherFrame the other frame to find the common ancestor with.
+    * @return the index of the common ancestor in the chains of both frames, or {@code -1} if the path
+    *         between the two frames is too long.
+    */
+   private int findNearbyCommonAncestorIndex(ReferenceFrame otherFrame)
+   {
+      ReferenceFrame[] otherChain = otherFrame.framesStartingWithRootEndingWithThis;
+      int thisIndex = framesStartingWithRootEndingWithThis.length - 1;
+      int otherIndex = otherChain.length - 1;
+      int numberOfJumps = 0;
+
+      while (framesStartingWithRootEndingWithThis[thisIndex] != otherChain[otherIndex])
+      {
+         if (++numberOfJumps > MAX_PATH_LENGTH_BELOW_COMMON_ANCESTOR)
+            return -1;
+
+         if (thisIndex >= otherIndex)
+            thisIndex = framesStartingWithRootEndingWithThis[thisIndex].getNextAncestorIndex(0);
+         else
+            otherIndex = otherChain[otherIndex].getNextAncestorIndex(0);
+      }
+
+      return thisIndex;
+   }
+
+   /**
+    * Gets the index in {@link #framesStartingWithRootEndingWithThis} of the next ancestor to reach when
+    * walking up from this frame, jumping over the chain of fixed frames above this frame if it does
+    * not go past the given lowest ancestor.
+    *
+    * @param lowestAncestorIndex the index of the ancestor that should not be jumped over.
+    * @return the index of the nearest moving ancestor or of the parent of this frame.
+    */
+   private int getNextAncestorIndex(int lowestAncestorIndex)
+   {
+      if (transformToNearestMovingAncestor != null && nearestMovingAncestorIndex >= lowestAncestorIndex)
+         return nearestMovingAncestorIndex;
+      else
+         return framesStartingWithRootEndingWithThis.length - 2;
+   }
+
+   /**
+    * Gets the transform from this frame to the ancestor given by
+    * {@link #getNextAncestorIndex(int)}.
+    */
+   private RigidBodyTransform getTransformToNextAncestor(int lowestAncestorIndex)
+   {
+      if (transformToNearestMovingAncestor != null && nearestMovingAncestorIndex >= lowestAncestorIndex)
+         return transformToNearestMovingAncestor;
+      else
+         return transformToParent;
+   }
+
+   /**
+    * Computes the transform from this frame to the {@code desiredFrame} by only composing the
+    * transforms to parent of the frames below their common ancestor.
+    * <p>
+    * The chains of fixed frames are jumped over using their transform to their nearest moving ancestor.
+    * The cached transforms to root are neither used nor updated.
+    * </p>
+    *
+    * @param transformToPack the transform in which the result is stored. Modified.
+    * @param desiredFrame the goal frame.
+    * @param commonAncestorIndex the index of the common ancestor as computed by
+    *           {@link #findNearbyCommonAncestorIndex(ReferenceFrame)}.
+    */
+   private void composeTransformToDesiredFrameBelowCommonAncestor(RigidBodyTransform transformToPack, ReferenceFrame desiredFrame, int commonAncestorIndex)
+   {
+      // Transform from this to the common ancestor.
+      if (framesStartingWithRootEndingWithThis.length - 1 > commonAncestorIndex)
+      {
+         transformToPack.set(getTransformToNextAncestor(commonAncestorIndex));
+
+         for (int i = getNextAncestorIndex(commonAncestorIndex); i > commonAncestorIndex; i = framesStartingWithRootEndingWithThis[i].getNextAncestorIndex(commonAncestorIndex))
+            transformToPack.preMultiply(framesStartingWithRootEndingWithThis[i].getTransformToNextAncestor(commonAncestorIndex));
+      }
+      else
+      {
+         transformToPack.setIdentity();
+      }
+
+      // Then from the common ancestor to the desired frame.
+      desiredFrame.preMultiplyInvertTransformToAncestor(transformToPack, commonAncestorIndex);
+   }
+
+   private void composeTransformToDesiredFrameBelowCommonAncestor(QuaternionBasedTransform transformToPack, ReferenceFrame desiredFrame,
+                                                                  int commonAncestorIndex)
+   {
+      if (framesStartingWithRootEndingWithThis.length - 1 > commonAncestorIndex)
+      {
+         transformToPack.set(getTransformToNextAncestor(commonAncestorIndex));
+
+         for (int i = getNextAncestorIndex(commonAncestorIndex); i > commonAncestorIndex; i = framesStartingWithRootEndingWithThis[i].getNextAncestorIndex(commonAncestorIndex))
+            transformToPack.preMultiply(framesStartingWithRootEndingWithThis[i].getTransformToNextAncestor(commonAncestorIndex));
+      }
+      else
+      {
+         transformToPack.setIdentity();
+      }
+
+      desiredFrame.preMultiplyInvertTransformToAncestor(transformToPack, commonAncestorIndex);
+   }
+
+   /**
+    * Pre-multiplies {@code transformToModify} by the inverse of the transform from this frame to its
+    * ancestor at the given index.
+    * <p>
+    * The jumps are applied starting from the ancestor down to this frame, the recursion depth is the
+    * number of jumps.
+    * </p>
+    */
+   private void preMultiplyInvertTransformToAncestor(RigidBodyTransform transformToModify, int ancestorIndex)
+   {
+      if (framesStartingWithRootEndingWithThis.length - 1 <= ancestorIndex)
+         return;
+
+      framesStartingWithRootEndingWithThis[getNextAncestorIndex(ancestorIndex)].preMultiplyInvertTransformToAncestor(transformToModify, ancestorIndex);
+      transformToModify.preMultiplyInvertOther(getTransformToNextAncestor(ancestorIndex));
+   }
+
+   private void preMultiplyInvertTransformToAncestor(QuaternionBasedTransform transformToModify, int ancestorIndex)
+   {
+      if (framesStartingWithRootEndingWithThis.length - 1 <= ancestorIndex)
+         return;
+
+      framesStartingWithRootEndingWithThis[getNextAncestorIndex(ancestorIndex)].preMultiplyInvertTransformToAncestor(transformToModify, ancestorIndex);
+      transformToModify.preMultiplyInvertOther(getTransformToNextAncestor(ancestorIndex));
+   }
+
+   private boolean tryOptimisticTransformToDesiredFrameBelowCommonAncestor(StampedLock treeLock, RigidBodyTransform transformToPack, ReferenceFrame desiredFrame,
+                                                                          int commonAncestorIndex)
+   {
+      long stamp = treeLock.tryOptimisticRead();
+
+      if (stamp == 0L)
+         return false;
+
+      try
+      {
+         composeTransformToDesiredFrameBelowCommonAncestor(transformToPack, desiredFrame, commonAncestorIndex);
+      }
+      catch (RuntimeException e)
+      {
+         // The transforms may have been modified while reading them, the exception only matters if they were not.
+         if (treeLock.validate(stamp))
+            throw e;
+         else
+            return false;
+      }
+
+      return treeLock.validate(stamp);
+   }
+
+   /**
+    * Attempts to compute the transform from this frame to the {@code desiredFrame} without locking the
+    * tree.
+    * <p>
+    * This only succeeds when the transforms to root of both frames are up-to-date and no update of the
+    * tree happened while reading them.
+    * </p>
+    */
+   private boolean tryOptimisticTransformToDesiredFrame(StampedLock treeLock, RigidBodyTransform transformToPack, ReferenceFrame desiredFrame)
+   {
+      long stamp = treeLock.tryOptimisticRead();
+
+      if (stamp == 0L)
+         return false;
+
+      try
+      {
+         if (!isTransformToRootUpToDate() || !desiredFrame.isTransformToRootUpToDate())
+            return false;
+
+         packTransformToDesiredFrame(transformToPack, desiredFrame);
+      }
+      catch (RuntimeException e)
+      {
+         // The transforms may have been modified while reading them, the exception only matters if they were not.
+         if (treeLock.validate(stamp))
+            throw e;
+         else
+            return false;
+      }
+
+      return treeLock.validate(stamp);
+   }
+
+   /**
+    * Acquires the read lock of the tree ensuring that the transforms to root of both this frame and
+    * {@code otherFrame} are up-to-date.
+    * <p>
+    * When at least one of the two transforms is outdated, the lock is upgraded to a write lock to
+    * update them before being downgraded back to a read lock.
+    * </p>
+    *
+    * @return the stamp of the read lock that has to be released by the caller.
+    */
+   private long readLockWithUpToDateTransforms(StampedLock treeLock, ReferenceFrame otherFrame)
+   {
+      long stamp = treeLock.readLock();
+
+      if (isTransformToRootUpToDate() && otherFrame.isTransformToRootUpToDate())
+         return stamp;
+
+      long writeStamp = treeLock.tryConvertToWriteLock(stamp);
+
+      if (writeStamp == 0L)
+      {
+         treeLock.unlockRead(stamp);
+         writeStamp = treeLock.writeLock();
+      }
+
+      efficientComputeTransform();
+      otherFrame.efficientComputeTransform();
+
+      return treeLock.tryConvertToReadLock(writeStamp);
+   }
+
+   /**
+    * Test whether the given frame is the parent of this frame.
+    *
+    * @param frame the query.
+    * @return {@code true} if the query is the parent of this frame, {@code false} otherwise.
+    */
+   public boolean isParentFrame(ReferenceFrame frame)
+   {
+      return frame == parentFrame;
+   }
+
+   /**
+    * Test whether the given frame is a child of this frame.
+    *
+    * @param frame the query.
+    * @return {@code true} if the query is a child of this frame, {@code false} otherwise.
     */
    public boolean isChildFrame(ReferenceFrame frame)
    {
@@ -693,10 +1984,15 @@ public abstract class ReferenceFrame implements NameBasedHashCodeHolder
    {
       if (getRootFrame() != referenceFrame.getRootFrame())
       {
-         throw new RuntimeException("Frames do not have same roots. this = " + this + ", referenceFrame = " + referenceFrame);
+         throw newRootsMismatchException(this, referenceFrame);
       }
    }
 
+   private static RuntimeException newRootsMismatchException(ReferenceFrame thisFrame, ReferenceFrame referenceFrame)
+   {
+      return new RuntimeException("Frames do not have same roots. this = " + thisFrame + ", referenceFrame = " + referenceFrame);
+   }
+
    /**
     * Transforms the given {@code objectToTransform} by the transform from this reference frame to the
     * given {@code desiredFrame}.
@@ -714,20 +2010,43 @@ public abstract class ReferenceFrame implements NameBasedHashCodeHolder
       if (desiredFrame == this)
          return;
 
+      checkIfRemoved();
+      desiredFrame.checkIfRemoved();
       verifySameRoots(desiredFrame);
 
-      RigidBodyTransform thisTransformToRoot = getTransformToRoot();
+      StampedLock treeLock = getTreeLock();
 
-      if (thisTransformToRoot != null)
+      if (treeLock == null)
       {
-         objectToTransform.applyTransform(thisTransformToRoot);
+         efficientComputeTransform();
+         desiredFrame.efficientComputeTransform();
+         applyTransformFromThisToDesiredFrame(desiredFrame, objectToTransform);
+      }
+      else
+      {
+         long stamp = readLockWithUpToDateTransforms(treeLock, desiredFrame);
+
+         try
+         {
+            applyTransformFromThisToDesiredFrame(desiredFrame, objectToTransform);
+         }
+         finally
+         {
+            treeLock.unlockRead(stamp);
+         }
       }
+   }
 
-      RigidBodyTransform desiredFrameTransformToRoot = desiredFrame.getTransformToRoot();
+   private void applyTransformFromThisToDesiredFrame(ReferenceFrame desiredFrame, Transformable objectToTransform)
+   {
+      if (transformToRoot != null)
+      {
+         objectToTransform.applyTransform(transformToRoot);
+      }
 
-      if (desiredFrameTransformToRoot != null)
+      if (desiredFrame.transformToRoot != null)
       {
-         objectToTransform.applyInverseTransform(desiredFrameTransformToRoot);
+         objectToTransform.applyInverseTransform(desiredFrame.transformToRoot);
       }
    }
 
@@ -737,57 +2056,138 @@ public abstract class ReferenceFrame implements NameBasedHashCodeHolder
     * The transform can be used to transform a geometry object defined in this frame to obtain its
     * equivalent expressed in the root frame.
     * </p>
+    * <p>
+    * When the concurrent mode is enabled, the returned transform may be modified at any time by
+    * another thread, prefer using {@link #getTransformToDesiredFrame(RigidBodyTransform, ReferenceFrame)}
+    * in such context.
+    * </p>
     *
     * @return the internal reference to the transform from this frame to the root frame.
     */
    public RigidBodyTransform getTransformToRoot()
    {
-      efficientComputeTransform();
+      checkIfRemoved();
+
+      StampedLock treeLock = getTreeLock();
+
+      if (treeLock == null)
+      {
+         efficientComputeTransform();
+      }
+      else
+      {
+         long stamp = readLockWithUpToDateTransforms(treeLock, this);
+         treeLock.unlockRead(stamp);
+      }
+
       return transformToRoot;
    }
 
-   private void efficientComputeTransform()
+   /**
+    * Gets the internal reference to the chain of frames starting with the root frame and ending with
+    * this frame.
+    * <p>
+    * The returned array must not be modified.
+    * </p>
+    *
+    * @return the frames from the root to this frame.
+    */
+   ReferenceFrame[] getFramesStartingWithRootEndingWithThis()
    {
-      int chainLength = framesStartingWithRootEndingWithThis.length;
+      return framesStartingWithRootEndingWithThis;
+   }
+
+   /**
+    * Generates a new transform to root ID for the tree this frame belongs to.
+    * <p>
+    * The new ID is greater than any ID previously generated for this tree.
+    * </p>
+    *
+    * @return the new ID.
+    */
+   long generateNextTransformToRootID()
+   {
+      return ++getRootFrame().nextTransformToRootIDInTree;
+   }
 
-      boolean updateFromHereOnOut = false;
-      long previousUpdateId = 0;
+   /**
+    * Recomputes the transform to root of this frame from the transform to root of its parent assuming
+    * the latter is up-to-date.
+    * <p>
+    * This is used when updating the frames of a tree in a known order where parents are processed
+    * before their children, see {@link ReferenceFrameTree}.
+    * </p>
+    *
+    * @param newTransformToRootID the ID to assign to the new transform to root, it has to be greater or
+    *           equal to the ID of the parent's transform to root.
+    */
+   void updateTransformToRootFromParent(long newTransformToRootID)
+   {
+      if (parentFrame == null)
+         return;
 
-      for (int i = 0; i < chainLength; i++)
+      if (parentFrame.transformToRoot != null)
+      {
+         transformToRoot.set(parentFrame.transformToRoot);
+         transformToRoot.multiply(transformToParent);
+      }
+      else
       {
-         ReferenceFrame referenceFrame = framesStartingWithRootEndingWithThis[i];
+         transformToRoot.set(transformToParent);
+      }
 
-         if (!updateFromHereOnOut)
-         {
-            if (referenceFrame.transformToRootID < previousUpdateId)
-            {
-               updateFromHereOnOut = true;
-               nextTransformToRootID++;
-            }
-         }
+      transformToRootID = newTransformToRootID;
+      isTransformToRootOutdated = false;
+   }
 
-         if (updateFromHereOnOut)
-         {
-            if (referenceFrame.parentFrame != null)
-            {
-               RigidBodyTransform parentsTransformToRoot = referenceFrame.parentFrame.transformToRoot;
-               if (parentsTransformToRoot != null)
-               {
-                  referenceFrame.transformToRoot.set(parentsTransformToRoot);
-               }
-               else
-               {
-                  referenceFrame.transformToRoot.setIdentity();
-               }
+   /**
+    * Tests whether the transform to root of this frame is up-to-date.
+    * <p>
+    * This method does not modify the frames and is used in concurrent mode to verify that the cached
+    * transforms can be used as is.
+    * </p>
+    */
+   boolean isTransformToRootUpToDate()
+   {
+      return !isTransformToRootOutdated;
+   }
+
+   private void efficientComputeTransform()
+   {
+      if (!isTransformToRootOutdated)
+         return;
 
-               referenceFrame.transformToRoot.multiply(referenceFrame.transformToParent);
+      if (transformToNearestMovingAncestor != null)
+      {
+         // The fixed frames in between are jumped over, only the nearest moving ancestor has to be up-to-date.
+         ReferenceFrame nearestMovingAncestor = framesStartingWithRootEndingWithThis[nearestMovingAncestorIndex];
+         nearestMovingAncestor.efficientComputeTransform();
 
-               referenceFrame.transformToRootID = nextTransformToRootID;
-            }
+         if (nearestMovingAncestor.transformToRoot != null)
+         {
+            transformToRoot.set(nearestMovingAncestor.transformToRoot);
+            transformToRoot.multiply(transformToNearestMovingAncestor);
+         }
+         else
+         {
+            transformToRoot.set(transformToNearestMovingAncestor);
          }
 
-         previousUpdateId = referenceFrame.transformToRootID;
+         transformToRootID = generateNextTransformToRootID();
+         isTransformToRootOutdated = false;
+         return;
       }
+
+      // The transform to root of an up-to-date frame is valid, looking for the first outdated ancestor.
+      int firstOutdatedIndex = framesStartingWithRootEndingWithThis.length - 1;
+
+      while (framesStartingWithRootEndingWithThis[firstOutdatedIndex - 1].isTransformToRootOutdated)
+         firstOutdatedIndex--;
+
+      long newTransformToRootID = generateNextTransformToRootID();
+
+      for (int i = firstOutdatedIndex; i < framesStartingWithRootEndingWithThis.length; i++)
+         framesStartingWithRootEndingWithThis[i].updateTransformToRootFromParent(newTransformToRootID);
    }
 
    /**
@@ -806,28 +2206,33 @@ public abstract class ReferenceFrame implements NameBasedHashCodeHolder
     * <p>
     * This is usually used from verifying that a geometry is expressed in a specific frame.
     * </p>
+    * <p>
+    * This method does nothing when {@link #FRAME_CHECKS_ENABLED} is {@code false}.
+    * </p>
     *
     * @param referenceFrameHolder the query holding a reference frame.
     * @throws ReferenceFrameMismatchException if the query holds onto a different frame than this.
     */
    public void checkReferenceFrameMatch(ReferenceFrameHolder referenceFrameHolder) throws ReferenceFrameMismatchException
    {
-      checkReferenceFrameMatch(referenceFrameHolder.getReferenceFrame());
+      if (FRAME_CHECKS_ENABLED)
+         checkReferenceFrameMatch(referenceFrameHolder.getReferenceFrame());
    }
 
    /**
     * Check if this frame and the query are the same.
+    * <p>
+    * This method does nothing when {@link #FRAME_CHECKS_ENABLED} is {@code false}.
+    * </p>
     *
     * @param referenceFrame the query.
     * @throws ReferenceFrameMismatchException if the query and this are two different frame.
     */
    public void checkReferenceFrameMatch(ReferenceFrame referenceFrame) throws ReferenceFrameMismatchException
    {
-      if (this != referenceFrame)
+      if (FRAME_CHECKS_ENABLED && this != referenceFrame)
       {
-         String msg = "Argument's frame " + referenceFrame + " does not match " + this;
-
-         throw new ReferenceFrameMismatchException(msg);
+         throw new ReferenceFrameMismatchException(referenceFrame, this);
       }
    }
 
@@ -916,7 +2321,7 @@ public abstract class ReferenceFrame implements NameBasedHashCodeHolder
             computedTransformToRoot.multiply(frame.transformToParent);
 
             long id = frame.transformToRootID;
-            if (id < maxIdSoFar)
+            if (id < maxIdSoFar || frame.isTransformToRootOutdated)
             {
                // Only need to make sure things are consistent down to where the
                break;
@@ -955,6 +2360,17 @@ public abstract class ReferenceFrame implements NameBasedHashCodeHolder
       return nameBasedHashCode;
    }
 
+   /**
+    * Gets the number uniquely identifying this frame among all the frames created so far, it is always
+    * strictly positive.
+    *
+    * @return this frame's serial number.
+    */
+   long getSerialNumber()
+   {
+      return serialNumber;
+   }
+
    /**
     * Gets the value of this frame's custom hash code.
     * <p>
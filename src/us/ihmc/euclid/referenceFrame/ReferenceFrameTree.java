@@ -0,0 +1,322 @@
+package us.ihmc.euclid.referenceFrame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * {@code ReferenceFrameTree} is a snapshot of a set of reference frames belonging to the same tree
+ * that allows to update all of them at once.
+ * <p>
+ * The frames are stored in a flat array sorted in breadth-first order, i.e. a parent frame always
+ * comes before its children. Updating the tree with {@link #updateAll()} first calls
+ * {@link ReferenceFrame#update()} on every frame once, and then recomputes every transform to root in
+ * a single pass over the array. This results in a predictable cost per tick instead of having the
+ * transforms to root lazily computed, chain by chain, when they are first queried.
+ * </p>
+ * <p>
+ * The snapshot is closed under ancestors: when creating a {@code ReferenceFrameTree}, all the
+ * ancestors of the given frames are also added to the snapshot, except for the root frame which does
+ * not need to be updated.
+ * </p>
+ * <p>
+ * Large trees can be updated in parallel with {@link #updateAllInParallel()}. The frames are then
+ * split into independent subtrees, one for each child of the root frame, that are updated
+ * concurrently. The results are identical to {@link #updateAll()}.
+ * </p>
+ * <p>
+ * The snapshot does not track frames created after its construction, a new
+ * {@code ReferenceFrameTree} has to be created for including them. A snapshot of an entire tree or
+ * subtree can be created with {@link #fromSubtree(ReferenceFrame)}.
+ * </p>
+ */
+public class ReferenceFrameTree
+{
+   /** The root frame of the tree the frames of this snapshot belong to. */
+   private final ReferenceFrame rootFrame;
+   /** The frames of this snapshot in breadth-first order. */
+   private final ReferenceFrame[] frames;
+   /**
+    * The frames of this snapshot split into independent subtrees, i.e. grouped by ancestor among the
+    * children of the root frame. The frames of each subtree are in breadth-first order.
+    */
+   private final ReferenceFrame[][] subtrees;
+
+   /**
+    * Creates a new snapshot containing all the frames of the subtree starting off the given frame,
+    * as well as its ancestors.
+    * <p>
+    * When {@code subtreeRoot} is a root frame, the snapshot contains the entire tree.
+    * </p>
+    *
+    * @param subtreeRoot the frame from which the subtree to snapshot starts.
+    * @return the new snapshot.
+    * @throws IllegalArgumentException if {@code subtreeRoot} is a root frame without any child.
+    */
+   public static ReferenceFrameTree fromSubtree(ReferenceFrame subtreeRoot)
+   {
+      List<ReferenceFrame> subtreeFrames = new ArrayList<>();
+      subtreeRoot.forEachFrameInSubtree(frame ->
+      {
+         if (frame.getParent() != null)
+            subtreeFrames.add(frame);
+      });
+      return new ReferenceFrameTree(subtreeFrames);
+   }
+
+   /**
+    * Creates a new snapshot containing the given frames and their ancestors.
+    *
+    * @param frames the frames to be updated. Not modified.
+    * @throws IllegalArgumentException if no frame is provided.
+    * @throws RuntimeException if the frames do not all share the same root frame.
+    */
+   public ReferenceFrameTree(ReferenceFrame... frames)
+   {
+      this(Arrays.asList(frames));
+   }
+
+   /**
+    * Creates a new snapshot containing the given frames and their ancestors.
+    *
+    * @param frames the frames to be updated. Not modified.
+    * @throws IllegalArgumentException if no frame is provided.
+    * @throws RuntimeException if the frames do not all share the same root frame.
+    */
+   public ReferenceFrameTree(Collection<? extends ReferenceFrame> frames)
+   {
+      if (frames.isEmpty())
+         throw new IllegalArgumentException("A " + getClass().getSimpleName() + " needs at least one frame.");
+
+      rootFrame = frames.iterator().next().getRootFrame();
+
+      Set<ReferenceFrame> frameSet = new HashSet<>();
+      List<ReferenceFrame> frameList = new ArrayList<>();
+
+      for (ReferenceFrame frame : frames)
+      {
+         rootFrame.verifySameRoots(frame);
+
+         ReferenceFrame[] chain = frame.getFramesStartingWithRootEndingWithThis();
+
+         for (int i = 1; i < chain.length; i++)
+         {
+            if (frameSet.add(chain[i]))
+               frameList.add(chain[i]);
+         }
+      }
+
+      // The sort is stable, frames of same depth remain in the order they were provided.
+      frameList.sort(Comparator.comparingInt(frame -> frame.getFramesStartingWithRootEndingWithThis().length));
+      this.frames = frameList.toArray(new ReferenceFrame[frameList.size()]);
+
+      Map<ReferenceFrame, List<ReferenceFrame>> subtreeMap = new LinkedHashMap<>();
+
+      for (ReferenceFrame frame : this.frames)
+      {
+         ReferenceFrame subtreeRoot = frame.getFramesStartingWithRootEndingWithThis()[1];
+         subtreeMap.computeIfAbsent(subtreeRoot, key -> new ArrayList<>()).add(frame);
+      }
+
+      subtrees = new ReferenceFrame[subtreeMap.size()][];
+      int subtreeIndex = 0;
+
+      for (List<ReferenceFrame> subtree : subtreeMap.values())
+         subtrees[subtreeIndex++] = subtree.toArray(new ReferenceFrame[subtree.size()]);
+   }
+
+   /**
+    * Updates all the frames of this snapshot and recomputes their transform to root.
+    * <p>
+    * First, {@link ReferenceFrame#update()} is called once on each frame, such that their transform to
+    * parent is up-to-date. Then, the transforms to root are recomputed in breadth-first order.
+    * </p>
+    */
+   public void updateAll()
+   {
+      for (ReferenceFrame frame : frames)
+         frame.update();
+
+      updateTransformsToRoot();
+   }
+
+   /**
+    * Updates all the frames of this snapshot and recomputes their transform to root using the common
+    * fork/join pool.
+    *
+    * @see #updateAllInParallel(ForkJoinPool)
+    */
+   public void updateAllInParallel()
+   {
+      updateAllInParallel(ForkJoinPool.commonPool());
+   }
+
+   /**
+    * Updates all the frames of this snapshot and recomputes their transform to root by processing the
+    * subtrees starting off the children of the root frame in parallel.
+    * <p>
+    * The frames are processed in the same order within each subtree as in {@link #updateAll()} such
+    * that the results are identical.
+    * </p>
+    * <p>
+    * WARNING: the implementations of {@code updateTransformToParent(RigidBodyTransform)} of the frames
+    * in this snapshot should only depend on data that is not modified by the update of the other
+    * subtrees.
+    * </p>
+    *
+    * @param pool the pool used to execute the update of the subtrees.
+    */
+   public void updateAllInParallel(ForkJoinPool pool)
+   {
+      pool.invoke(new SubtreeUpdateTask(0, subtrees.length, true, 0L));
+
+      StampedLock treeLock = rootFrame.getTreeLock();
+      long stamp = treeLock == null ? 0L : treeLock.writeLock();
+
+      try
+      {
+         long newTransformToRootID = rootFrame.generateNextTransformToRootID();
+         pool.invoke(new SubtreeUpdateTask(0, subtrees.length, false, newTransformToRootID));
+      }
+      finally
+      {
+         if (treeLock != null)
+            treeLock.unlockWrite(stamp);
+      }
+   }
+
+   /**
+    * Recomputes the transform to root of all the frames of this snapshot assuming their transform to
+    * parent is up-to-date.
+    */
+   private void updateTransformsToRoot()
+   {
+      StampedLock treeLock = rootFrame.getTreeLock();
+      long stamp = treeLock == null ? 0L : treeLock.writeLock();
+
+      try
+      {
+         // All the frames share the same ID which is greater than the ID of any of the frames not in this snapshot.
+         long newTransformToRootID = rootFrame.generateNextTransformToRootID();
+
+         for (ReferenceFrame frame : frames)
+         {
+            // Frozen frames that none of the ancestors invalidated can be skipped.
+            if (!frame.isTransformToRootUpToDate())
+               frame.updateTransformToRootFromParent(newTransformToRootID);
+         }
+      }
+      finally
+      {
+         if (treeLock != null)
+            treeLock.unlockWrite(stamp);
+      }
+   }
+
+   /**
+    * Task used to process a range of subtrees, it is split until each task processes a single subtree.
+    */
+   private class SubtreeUpdateTask extends RecursiveAction
+   {
+      private static final long serialVersionUID = -7043186385870474405L;
+
+      private final int startIndex, endIndex;
+      private final boolean updateTransformsToParent;
+      private final long newTransformToRootID;
+
+      /**
+       * @param startIndex the index of the first subtree to process, inclusive.
+       * @param endIndex the index of the last subtree to process, exclusive.
+       * @param updateTransformsToParent whether this task calls {@link ReferenceFrame#update()} or
+       *           recomputes the transforms to root.
+       * @param newTransformToRootID the ID to assign to the new transforms to root.
+       */
+      private SubtreeUpdateTask(int startIndex, int endIndex, boolean updateTransformsToParent, long newTransformToRootID)
+      {
+         this.startIndex = startIndex;
+         this.endIndex = endIndex;
+         this.updateTransformsToParent = updateTransformsToParent;
+         this.newTransformToRootID = newTransformToRootID;
+      }
+
+      @Override
+      protected void compute()
+      {
+         if (endIndex - startIndex > 1)
+         {
+            int middleIndex = (startIndex + endIndex) >>> 1;
+            invokeAll(new SubtreeUpdateTask(startIndex, middleIndex, updateTransformsToParent, newTransformToRootID),
+                      new SubtreeUpdateTask(middleIndex, endIndex, updateTransformsToParent, newTransformToRootID));
+         }
+         else if (endIndex - startIndex == 1)
+         {
+            ReferenceFrame[] subtree = subtrees[startIndex];
+
+            if (updateTransformsToParent)
+            {
+               for (ReferenceFrame frame : subtree)
+                  frame.update();
+            }
+            else
+            {
+               for (ReferenceFrame frame : subtree)
+               {
+                  if (!frame.isTransformToRootUpToDate())
+                     frame.updateTransformToRootFromParent(newTransformToRootID);
+               }
+            }
+         }
+      }
+   }
+
+   /**
+    * Gets the root frame of the tree the frames of this snapshot belong to.
+    *
+    * @return the root frame.
+    */
+   public ReferenceFrame getRootFrame()
+   {
+      return rootFrame;
+   }
+
+   /**
+    * Gets the number of frames in this snapshot, the root frame excluded.
+    *
+    * @return the number of frames.
+    */
+   public int getNumberOfFrames()
+   {
+      return frames.length;
+   }
+
+   /**
+    * Gets the {@code index}<sup>th</sup> frame of this snapshot in breadth-first order.
+    *
+    * @param index the index of the frame.
+    * @return the frame.
+    * @throws ArrayIndexOutOfBoundsException if {@code index} is not in [0, {@link #getNumberOfFrames()}[.
+    */
+   public ReferenceFrame getFrame(int index)
+   {
+      return frames[index];
+   }
+
+   /**
+    * Gets the number of independent subtrees this snapshot is split into for the parallel update.
+    *
+    * @return the number of subtrees.
+    */
+   public int getNumberOfSubtrees()
+   {
+      return subtrees.length;
+   }
+}
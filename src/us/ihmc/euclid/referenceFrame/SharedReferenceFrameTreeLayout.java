@@ -0,0 +1,121 @@
+package us.ihmc.euclid.referenceFrame;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+/**
+ * Describes the layout of the memory-mapped file shared between a
+ * {@link SharedReferenceFrameTreePublisher} and its {@link SharedReferenceFrameTreeSubscriber}s.
+ * <p>
+ * The file is organized as follows, all the values being stored in the native byte order:
+ * <ul>
+ * <li>the header: the magic number, the layout version, the number of frames excluding the root
+ * frame, the generation of the publisher, and the sequence number of the seqlock,
+ * <li>one record per frame in breadth-first order: the name based hash code of the frame, the index
+ * of its parent frame or {@code -1} when the parent is the root frame, and the 12 components of its
+ * transform to parent,
+ * <li>the names of the root frame and of the frames, each stored as its length in bytes followed by
+ * its UTF-8 encoding.
+ * </ul>
+ * The names, hash codes, and parent indices are written once when creating the publisher, only the
+ * transforms are written when publishing.
+ * </p>
+ * <p>
+ * The file is never truncated as other processes may still have it mapped: a new publisher rewrites
+ * the file in place under the seqlock and increments the generation such that the subscribers can
+ * detect the restart.
+ * </p>
+ */
+class SharedReferenceFrameTreeLayout
+{
+   static final int MAGIC_NUMBER = 0x45465254;
+   static final int LAYOUT_VERSION = 2;
+
+   static final int MAGIC_NUMBER_OFFSET = 0;
+   static final int LAYOUT_VERSION_OFFSET = 4;
+   static final int NUMBER_OF_FRAMES_OFFSET = 8;
+   static final int GENERATION_OFFSET = 12;
+   static final int SEQUENCE_OFFSET = 16;
+   static final int HEADER_SIZE = 24;
+
+   static final int NAME_BASED_HASH_CODE_OFFSET = 0;
+   static final int PARENT_INDEX_OFFSET = 8;
+   static final int TRANSFORM_OFFSET = 16;
+   static final int TRANSFORM_SIZE = 12;
+   static final int RECORD_SIZE = TRANSFORM_OFFSET + TRANSFORM_SIZE * Double.BYTES;
+
+   /** Only used to emit the memory fences of the seqlock, see {@link #fullFence()}. */
+   private static volatile int fence = 0;
+
+   private SharedReferenceFrameTreeLayout()
+   {
+   }
+
+   static int recordOffset(int frameIndex)
+   {
+      return HEADER_SIZE + frameIndex * RECORD_SIZE;
+   }
+
+   static int namesOffset(int numberOfFrames)
+   {
+      return recordOffset(numberOfFrames);
+   }
+
+   static MappedByteBuffer map(Path file, MapMode mode, long size) throws IOException
+   {
+      StandardOpenOption[] options;
+
+      if (mode == MapMode.READ_ONLY)
+         options = new StandardOpenOption[] {StandardOpenOption.READ};
+      else
+         options = new StandardOpenOption[] {StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE};
+
+      // The mapping remains valid once the channel is closed.
+      try (FileChannel channel = FileChannel.open(file, options))
+      {
+         // Mapping a larger region grows the file, it is never shrunk under the mappings of other processes.
+         MappedByteBuffer buffer = channel.map(mode, 0, size < 0 ? channel.size() : size);
+         buffer.order(ByteOrder.nativeOrder());
+         return buffer;
+      }
+   }
+
+   static void putTransform(ByteBuffer buffer, int offset, RigidBodyTransform transform)
+   {
+      buffer.putDouble(offset, transform.getM00());
+      buffer.putDouble(offset + 8, transform.getM01());
+      buffer.putDouble(offset + 16, transform.getM02());
+      buffer.putDouble(offset + 24, transform.getTranslationX());
+      buffer.putDouble(offset + 32, transform.getM10());
+      buffer.putDouble(offset + 40, transform.getM11());
+      buffer.putDouble(offset + 48, transform.getM12());
+      buffer.putDouble(offset + 56, transform.getTranslationY());
+      buffer.putDouble(offset + 64, transform.getM20());
+      buffer.putDouble(offset + 72, transform.getM21());
+      buffer.putDouble(offset + 80, transform.getM22());
+      buffer.putDouble(offset + 88, transform.getTranslationZ());
+   }
+
+   /**
+    * Prevents the accesses to the shared memory to be reordered across this call.
+    * <p>
+    * The volatile write followed by the volatile read of the same field is compiled to a full memory
+    * fence, which is the ordering needed by the seqlock between the sequence number and the data.
+    * </p>
+    */
+   static void fullFence()
+   {
+      fence = 0;
+      // Only the volatile read matters, not the value.
+      @SuppressWarnings("unused")
+      int value = fence;
+   }
+}
@@ -0,0 +1,151 @@
+package us.ihmc.euclid.referenceFrame;
+
+import static us.ihmc.euclid.referenceFrame.SharedReferenceFrameTreeLayout.*;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * {@code SharedReferenceFrameTreePublisher} publishes the transforms of the frames of a
+ * {@link ReferenceFrameTree} into a memory-mapped file such that they can be read from other
+ * processes on the same machine using {@link SharedReferenceFrameTreeSubscriber}.
+ * <p>
+ * The structure of the tree, i.e. the names of the frames and their parents, is written once when
+ * creating the publisher. Then {@link #publish()} writes the current transform to parent of every
+ * frame, it does not serialize objects and does not generate garbage.
+ * </p>
+ * <p>
+ * The file is protected with a seqlock: the publisher increments a sequence number before and after
+ * writing the transforms, such that the subscribers can detect and retry the reads that overlap with
+ * a write without the publisher ever waiting on them. A file should only have a single publisher.
+ * </p>
+ * <p>
+ * A new publisher can replace a previous one, for instance after a restart, while subscribers still
+ * have the file mapped: the file is rewritten in place under the seqlock and the generation stored
+ * in the file is incremented, see {@link SharedReferenceFrameTreeSubscriber#update()}.
+ * </p>
+ */
+public class SharedReferenceFrameTreePublisher
+{
+   private final ReferenceFrameTree tree;
+   private final MappedByteBuffer buffer;
+   private long sequence = 0;
+   private long numberOfPublications = 0;
+
+   /**
+    * Creates a new publisher for the given tree and writes the structure of the tree as well as the
+    * current transforms in the given file.
+    * <p>
+    * The file is created if it does not exist, and overwritten in place otherwise.
+    * </p>
+    *
+    * @param tree the frames to publish. Frames created after the snapshot are not published.
+    * @param file the file to map.
+    * @throws IOException if the file cannot be created or mapped.
+    */
+   public SharedReferenceFrameTreePublisher(ReferenceFrameTree tree, Path file) throws IOException
+   {
+      this.tree = tree;
+
+      int numberOfFrames = tree.getNumberOfFrames();
+      byte[][] names = new byte[numberOfFrames + 1][];
+      names[0] = tree.getRootFrame().getName().getBytes(StandardCharsets.UTF_8);
+      long size = namesOffset(numberOfFrames) + Integer.BYTES + names[0].length;
+
+      for (int i = 0; i < numberOfFrames; i++)
+      {
+         names[i + 1] = tree.getFrame(i).getName().getBytes(StandardCharsets.UTF_8);
+         size += Integer.BYTES + names[i + 1].length;
+      }
+
+      buffer = map(file, MapMode.READ_WRITE, size);
+
+      // When replacing a previous publisher, its subscribers see the rewrite as a write in progress.
+      boolean isFileInitialized = buffer.getInt(MAGIC_NUMBER_OFFSET) == MAGIC_NUMBER && buffer.getInt(LAYOUT_VERSION_OFFSET) == LAYOUT_VERSION;
+      int generation = 0;
+
+      if (isFileInitialized)
+      {
+         // Rounded up to an even number in case the previous publisher stopped in the middle of a write.
+         sequence = (buffer.getLong(SEQUENCE_OFFSET) + 1L) & ~1L;
+         generation = buffer.getInt(GENERATION_OFFSET) + 1;
+      }
+
+      buffer.putLong(SEQUENCE_OFFSET, ++sequence);
+      fullFence();
+
+      Map<ReferenceFrame, Integer> frameIndices = new IdentityHashMap<>();
+
+      for (int i = 0; i < numberOfFrames; i++)
+      {
+         ReferenceFrame frame = tree.getFrame(i);
+         frameIndices.put(frame, i);
+         Integer parentIndex = frameIndices.get(frame.getParent());
+
+         int offset = recordOffset(i);
+         buffer.putLong(offset + NAME_BASED_HASH_CODE_OFFSET, frame.getNameBasedHashCode());
+         buffer.putInt(offset + PARENT_INDEX_OFFSET, parentIndex == null ? -1 : parentIndex);
+      }
+
+      buffer.position(namesOffset(numberOfFrames));
+
+      for (byte[] name : names)
+      {
+         buffer.putInt(name.length);
+         buffer.put(name);
+      }
+
+      buffer.putInt(LAYOUT_VERSION_OFFSET, LAYOUT_VERSION);
+      buffer.putInt(NUMBER_OF_FRAMES_OFFSET, numberOfFrames);
+      buffer.putInt(GENERATION_OFFSET, generation);
+      writeTransforms();
+      numberOfPublications++;
+
+      fullFence();
+      buffer.putLong(SEQUENCE_OFFSET, ++sequence);
+      // Written last such that a subscriber never sees a partially initialized file.
+      fullFence();
+      buffer.putInt(MAGIC_NUMBER_OFFSET, MAGIC_NUMBER);
+   }
+
+   /**
+    * Writes the current transform to parent of every frame in the shared file.
+    * <p>
+    * The frames should be updated beforehand, for instance with {@link ReferenceFrameTree#updateAll()}.
+    * </p>
+    */
+   public void publish()
+   {
+      // An odd sequence number indicates that a write is in progress.
+      buffer.putLong(SEQUENCE_OFFSET, ++sequence);
+      fullFence();
+
+      writeTransforms();
+      numberOfPublications++;
+
+      fullFence();
+      buffer.putLong(SEQUENCE_OFFSET, ++sequence);
+   }
+
+   private void writeTransforms()
+   {
+      for (int i = 0; i < tree.getNumberOfFrames(); i++)
+         putTransform(buffer, recordOffset(i) + TRANSFORM_OFFSET, tree.getFrame(i).getTransformToParentReference());
+   }
+
+   /**
+    * Gets the number of times the transforms have been published, including the initial publication
+    * when creating this publisher.
+    *
+    * @return the number of publications.
+    */
+   public long getNumberOfPublications()
+   {
+      return numberOfPublications;
+   }
+}
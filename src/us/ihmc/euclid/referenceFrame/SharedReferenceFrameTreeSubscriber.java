@@ -0,0 +1,298 @@
+package us.ihmc.euclid.referenceFrame;
+
+import static us.ihmc.euclid.referenceFrame.SharedReferenceFrameTreeLayout.*;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+/**
+ * {@code SharedReferenceFrameTreeSubscriber} attaches read-only proxy frames to the frames published
+ * by a {@link SharedReferenceFrameTreePublisher}, possibly in another process.
+ * <p>
+ * A proxy frame is created for every published frame, except for the published root frame which is
+ * represented by a local frame provided by the user, usually the world frame. The proxy frames have
+ * the same names and structure as the published frames.
+ * </p>
+ * <p>
+ * The proxy frames are updated with {@link #update()} which reads a consistent snapshot of the
+ * published transforms. Reading never blocks the publisher: when the publisher writes the
+ * transforms while they are being read, the read is simply retried.
+ * </p>
+ * <p>
+ * When a new publisher replaces the previous one on the same file, for instance after a restart,
+ * the subscriber keeps going as long as the new publisher publishes the same tree.
+ * </p>
+ * <p>
+ * A subscriber should only be created after its publisher, and is not thread-safe.
+ * </p>
+ */
+public class SharedReferenceFrameTreeSubscriber
+{
+   private final MappedByteBuffer buffer;
+   private final int numberOfFrames;
+   /** The published transforms to parent, copied from the shared file by {@link #update()}. */
+   private final double[] transforms;
+   private final long[] publishedNameBasedHashCodes;
+   private final int[] publishedParentIndices;
+   private final ProxyReferenceFrame[] proxyFrames;
+   private final ReferenceFrameTree proxyTree;
+   /** Incremented in the file by each new publisher. */
+   private int generation;
+   private long lastSequence = -1;
+
+   /**
+    * Maps the given file and creates the proxy frames.
+    *
+    * @param file the file written by a {@link SharedReferenceFrameTreePublisher}.
+    * @param rootFrame the local frame representing the root frame of the published tree. The proxy
+    *           frames are created as descendants of this frame.
+    * @throws IOException if the file cannot be mapped.
+    * @throws IllegalArgumentException if the file was not written by a
+    *            {@code SharedReferenceFrameTreePublisher} or with a different layout.
+    */
+   public SharedReferenceFrameTreeSubscriber(Path file, ReferenceFrame rootFrame) throws IOException
+   {
+      buffer = map(file, MapMode.READ_ONLY, -1);
+
+      if (buffer.capacity() < HEADER_SIZE || buffer.getInt(MAGIC_NUMBER_OFFSET) != MAGIC_NUMBER)
+         throw new IllegalArgumentException("The file " + file + " is not a shared reference frame tree.");
+      if (buffer.getInt(LAYOUT_VERSION_OFFSET) != LAYOUT_VERSION)
+         throw new IllegalArgumentException("Unsupported layout version: " + buffer.getInt(LAYOUT_VERSION_OFFSET) + ", expected: " + LAYOUT_VERSION);
+
+      // The structure is also read under the seqlock in case a new publisher is rewriting the file.
+      long[] nameBasedHashCodes;
+      int[] parentIndices;
+      String[] names;
+
+      while (true)
+      {
+         long sequence = buffer.getLong(SEQUENCE_OFFSET);
+
+         if ((sequence & 1L) != 0L)
+         {
+            Thread.yield();
+            continue;
+         }
+
+         fullFence();
+
+         try
+         {
+            int size = buffer.getInt(NUMBER_OF_FRAMES_OFFSET);
+
+            if (size < 0 || size > (buffer.capacity() - HEADER_SIZE) / RECORD_SIZE)
+               throw new IllegalArgumentException("Invalid number of frames: " + size);
+
+            generation = buffer.getInt(GENERATION_OFFSET);
+            nameBasedHashCodes = new long[size];
+            parentIndices = new int[size];
+            names = new String[size];
+
+            buffer.position(namesOffset(size));
+            // Skipping the name of the published root frame.
+            nextName();
+
+            for (int i = 0; i < size; i++)
+            {
+               int offset = recordOffset(i);
+               nameBasedHashCodes[i] = buffer.getLong(offset + NAME_BASED_HASH_CODE_OFFSET);
+               parentIndices[i] = buffer.getInt(offset + PARENT_INDEX_OFFSET);
+               names[i] = nextName();
+            }
+         }
+         catch (RuntimeException e)
+         {
+            // The structure is inconsistent only if it was rewritten while being read.
+            if (buffer.getLong(SEQUENCE_OFFSET) == sequence)
+               throw e;
+            continue;
+         }
+
+         fullFence();
+
+         if (buffer.getLong(SEQUENCE_OFFSET) == sequence)
+            break;
+      }
+
+      numberOfFrames = names.length;
+      transforms = new double[numberOfFrames * TRANSFORM_SIZE];
+      publishedNameBasedHashCodes = nameBasedHashCodes;
+      publishedParentIndices = parentIndices;
+      proxyFrames = new ProxyReferenceFrame[numberOfFrames];
+
+      for (int i = 0; i < numberOfFrames; i++)
+      {
+         ReferenceFrame parentFrame = parentIndices[i] == -1 ? rootFrame : proxyFrames[parentIndices[i]];
+         proxyFrames[i] = new ProxyReferenceFrame(names[i], parentFrame, i);
+      }
+
+      proxyTree = numberOfFrames > 0 ? new ReferenceFrameTree(proxyFrames) : null;
+      update();
+   }
+
+   private String nextName()
+   {
+      int length = buffer.getInt();
+
+      if (length < 0 || length > buffer.remaining())
+         throw new IllegalArgumentException("Invalid frame name length: " + length);
+
+      byte[] name = new byte[length];
+      buffer.get(name);
+      return new String(name, StandardCharsets.UTF_8);
+   }
+
+   /**
+    * Reads the latest published transforms and updates the proxy frames accordingly.
+    * <p>
+    * Nothing is updated when nothing has been published since the last call.
+    * </p>
+    *
+    * @return {@code true} if new transforms were read, {@code false} otherwise.
+    * @throws IllegalStateException if a new publisher has replaced the previous one with a different
+    *            tree, in which case a new subscriber has to be created.
+    */
+   public boolean update()
+   {
+      long sequence;
+
+      while (true)
+      {
+         sequence = buffer.getLong(SEQUENCE_OFFSET);
+
+         if (sequence == lastSequence)
+            return false;
+
+         // An odd sequence number indicates that the publisher is writing.
+         if ((sequence & 1L) != 0L)
+         {
+            Thread.yield();
+            continue;
+         }
+
+         fullFence();
+
+         // A new publisher has restarted the file, the transforms can only be read if it publishes the same tree.
+         int publishedGeneration = buffer.getInt(GENERATION_OFFSET);
+         boolean isSameTree = publishedGeneration == generation || isPublishingSameTree();
+
+         if (isSameTree)
+         {
+            for (int i = 0; i < numberOfFrames; i++)
+            {
+               int offset = recordOffset(i) + TRANSFORM_OFFSET;
+
+               for (int j = 0; j < TRANSFORM_SIZE; j++)
+                  transforms[i * TRANSFORM_SIZE + j] = buffer.getDouble(offset + j * Double.BYTES);
+            }
+         }
+
+         fullFence();
+
+         if (buffer.getLong(SEQUENCE_OFFSET) != sequence)
+            continue;
+         if (!isSameTree)
+            throw new IllegalStateException("The published tree has changed, a new subscriber has to be created.");
+
+         generation = publishedGeneration;
+         break;
+      }
+
+      lastSequence = sequence;
+
+      if (proxyTree != null)
+         proxyTree.updateAll();
+
+      return true;
+   }
+
+   private boolean isPublishingSameTree()
+   {
+      if (buffer.getInt(NUMBER_OF_FRAMES_OFFSET) != numberOfFrames)
+         return false;
+
+      for (int i = 0; i < numberOfFrames; i++)
+      {
+         int offset = recordOffset(i);
+
+         if (buffer.getLong(offset + NAME_BASED_HASH_CODE_OFFSET) != publishedNameBasedHashCodes[i])
+            return false;
+         if (buffer.getInt(offset + PARENT_INDEX_OFFSET) != publishedParentIndices[i])
+            return false;
+      }
+
+      return true;
+   }
+
+   /**
+    * Gets the number of proxy frames, which is the number of published frames excluding the root
+    * frame.
+    *
+    * @return the number of proxy frames.
+    */
+   public int getNumberOfFrames()
+   {
+      return numberOfFrames;
+   }
+
+   /**
+    * Gets the {@code index}<sup>th</sup> proxy frame, the proxy frames are in the same breadth-first
+    * order as the frames of the published {@link ReferenceFrameTree}.
+    *
+    * @param index the index of the proxy frame.
+    * @return the proxy frame.
+    * @throws ArrayIndexOutOfBoundsException if {@code index} is not in [0, {@link #getNumberOfFrames()}[.
+    */
+   public ReferenceFrame getFrame(int index)
+   {
+      return proxyFrames[index];
+   }
+
+   /**
+    * Finds the proxy frame of the published frame with the given name based hash code.
+    * <p>
+    * The name based hash codes of the proxy frames only match the published ones when the local root
+    * frame has the same name as the published root frame.
+    * </p>
+    *
+    * @param publishedNameBasedHashCode the name based hash code of the frame in the publishing tree.
+    * @return the proxy frame, or {@code null} if no such frame has been published.
+    */
+   public ReferenceFrame findFrameByPublishedNameBasedHashCode(long publishedNameBasedHashCode)
+   {
+      for (int i = 0; i < numberOfFrames; i++)
+      {
+         if (publishedNameBasedHashCodes[i] == publishedNameBasedHashCode)
+            return proxyFrames[i];
+      }
+
+      return null;
+   }
+
+   /**
+    * Frame whose transform to parent is read from the last snapshot read by the subscriber.
+    */
+   private class ProxyReferenceFrame extends ReferenceFrame
+   {
+      private final int offset;
+
+      private ProxyReferenceFrame(String frameName, ReferenceFrame parentFrame, int index)
+      {
+         super(frameName, parentFrame);
+         offset = index * TRANSFORM_SIZE;
+      }
+
+      @Override
+      protected void updateTransformToParent(RigidBodyTransform transformToParent)
+      {
+         double[] t = transforms;
+         int i = offset;
+         transformToParent.set(t[i], t[i + 1], t[i + 2], t[i + 3], t[i + 4], t[i + 5], t[i + 6], t[i + 7], t[i + 8], t[i + 9], t[i + 10], t[i + 11]);
+      }
+   }
+}
@@ -0,0 +1,116 @@
+package us.ihmc.euclid.referenceFrame;
+
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+/**
+ * {@code TransformToDesiredFrameCache} is a bounded cache of the transforms between pairs of
+ * reference frames belonging to the same tree.
+ * <p>
+ * The cache is direct-mapped: each pair of frames is associated with a single entry determined by
+ * the serial numbers of the two frames, such that looking up a pair of frames costs a single
+ * comparison. An entry is only valid as long as the transform to root IDs of the two frames have not
+ * changed since it was computed.
+ * </p>
+ * <p>
+ * The frames are identified by their serial numbers and are not referenced by the cache, such that
+ * it does not prevent removed or unused frames from being garbage collected. The name based hash
+ * codes cannot be used instead as they do not distinguish frames with the same name and parent
+ * name, as in trees holding several instances of the same robot.
+ * </p>
+ */
+class TransformToDesiredFrameCache
+{
+   private final int mask;
+   private final long[] frameSerialNumbers;
+   private final long[] desiredFrameSerialNumbers;
+   private final long[] frameTransformToRootIDs;
+   private final long[] desiredFrameTransformToRootIDs;
+   private final RigidBodyTransform[] transformsToDesiredFrames;
+
+   /**
+    * Creates a new cache that can hold at least {@code capacity} pairs of frames.
+    *
+    * @param capacity the minimum number of entries of the new cache.
+    * @throws IllegalArgumentException if {@code capacity} is not strictly positive.
+    */
+   TransformToDesiredFrameCache(int capacity)
+   {
+      if (capacity <= 0)
+         throw new IllegalArgumentException("The capacity of the cache has to be strictly positive, was: " + capacity);
+
+      int size = Integer.highestOneBit(capacity);
+      if (size < capacity)
+         size <<= 1;
+
+      mask = size - 1;
+      // The serial numbers are strictly positive, such that the empty entries never match.
+      frameSerialNumbers = new long[size];
+      desiredFrameSerialNumbers = new long[size];
+      frameTransformToRootIDs = new long[size];
+      desiredFrameTransformToRootIDs = new long[size];
+      transformsToDesiredFrames = new RigidBodyTransform[size];
+
+      for (int i = 0; i < size; i++)
+         transformsToDesiredFrames[i] = new RigidBodyTransform();
+   }
+
+   /**
+    * Retrieves the transform from {@code frame} to {@code desiredFrame} if it is in the cache and
+    * still valid.
+    *
+    * @param frame the frame the transform starts from.
+    * @param frameTransformToRootID the current transform to root ID of {@code frame}.
+    * @param desiredFrame the goal frame.
+    * @param desiredFrameTransformToRootID the current transform to root ID of {@code desiredFrame}.
+    * @param transformToPack the transform in which the cached transform is stored. Modified only if
+    *           this method returns {@code true}.
+    * @return {@code true} if the transform was found in the cache, {@code false} otherwise.
+    */
+   boolean get(ReferenceFrame frame, long frameTransformToRootID, ReferenceFrame desiredFrame, long desiredFrameTransformToRootID,
+               RigidBodyTransform transformToPack)
+   {
+      long frameSerialNumber = frame.getSerialNumber();
+      long desiredFrameSerialNumber = desiredFrame.getSerialNumber();
+      int index = index(frameSerialNumber, desiredFrameSerialNumber);
+
+      if (frameSerialNumbers[index] != frameSerialNumber || desiredFrameSerialNumbers[index] != desiredFrameSerialNumber)
+         return false;
+      if (frameTransformToRootIDs[index] != frameTransformToRootID || desiredFrameTransformToRootIDs[index] != desiredFrameTransformToRootID)
+         return false;
+
+      transformToPack.set(transformsToDesiredFrames[index]);
+      return true;
+   }
+
+   /**
+    * Stores the transform from {@code frame} to {@code desiredFrame}, replacing the pair of frames
+    * previously occupying the same entry if any.
+    *
+    * @param frame the frame the transform starts from.
+    * @param frameTransformToRootID the transform to root ID of {@code frame} used to compute the
+    *           transform.
+    * @param desiredFrame the goal frame.
+    * @param desiredFrameTransformToRootID the transform to root ID of {@code desiredFrame} used to
+    *           compute the transform.
+    * @param transformToDesiredFrame the transform to store. Not modified.
+    */
+   void put(ReferenceFrame frame, long frameTransformToRootID, ReferenceFrame desiredFrame, long desiredFrameTransformToRootID,
+            RigidBodyTransform transformToDesiredFrame)
+   {
+      long frameSerialNumber = frame.getSerialNumber();
+      long desiredFrameSerialNumber = desiredFrame.getSerialNumber();
+      int index = index(frameSerialNumber, desiredFrameSerialNumber);
+
+      frameSerialNumbers[index] = frameSerialNumber;
+      desiredFrameSerialNumbers[index] = desiredFrameSerialNumber;
+      frameTransformToRootIDs[index] = frameTransformToRootID;
+      desiredFrameTransformToRootIDs[index] = desiredFrameTransformToRootID;
+      transformsToDesiredFrames[index].set(transformToDesiredFrame);
+   }
+
+   private int index(long frameSerialNumber, long desiredFrameSerialNumber)
+   {
+      long hash = 31L * frameSerialNumber + desiredFrameSerialNumber;
+      return (int) (hash ^ (hash >>> 32)) & mask;
+   }
+}
@@ -0,0 +1,174 @@
+package us.ihmc.euclid.referenceFrame;
+
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
+
+/**
+ * {@code TransformToParentHistory} is a fixed-capacity ring buffer of timestamped samples of the
+ * transform to parent of a reference frame.
+ * <p>
+ * The samples are stored as a quaternion and a translation such that the transform at any time
+ * within the recorded window can be obtained by interpolating between the two surrounding samples.
+ * All the memory is allocated at construction, recording and querying samples do not generate
+ * garbage.
+ * </p>
+ */
+class TransformToParentHistory
+{
+   private final long[] timestamps;
+   private final Quaternion[] orientations;
+   private final Vector3D[] translations;
+
+   /** Index of the most recent sample. */
+   private int newestIndex = -1;
+   private int size = 0;
+
+   private final Quaternion interpolatedOrientation = new Quaternion();
+   private final Vector3D interpolatedTranslation = new Vector3D();
+   private final RigidBodyTransform interpolatedTransform = new RigidBodyTransform();
+
+   /**
+    * Creates a new history able to store up to {@code capacity} samples.
+    *
+    * @param capacity the number of samples to keep.
+    * @throws IllegalArgumentException if {@code capacity} is less than 1.
+    */
+   TransformToParentHistory(int capacity)
+   {
+      if (capacity < 1)
+         throw new IllegalArgumentException("The capacity has to be at least 1, was: " + capacity);
+
+      timestamps = new long[capacity];
+      orientations = new Quaternion[capacity];
+      translations = new Vector3D[capacity];
+
+      for (int i = 0; i < capacity; i++)
+      {
+         orientations[i] = new Quaternion();
+         translations[i] = new Vector3D();
+      }
+   }
+
+   /**
+    * Records a new sample, overwriting the oldest one if the history is full.
+    * <p>
+    * When {@code timestamp} is equal to the timestamp of the most recent sample, that sample is
+    * replaced.
+    * </p>
+    *
+    * @param timestamp the time at which the transform was sampled.
+    * @param transformToParent the transform to record. Not modified.
+    * @throws IllegalArgumentException if {@code timestamp} is older than the most recent sample.
+    */
+   synchronized void record(long timestamp, RigidBodyTransform transformToParent)
+   {
+      if (size > 0 && timestamp < timestamps[newestIndex])
+         throw new IllegalArgumentException("The samples have to be recorded in chronological order, timestamp: " + timestamp + ", newest sample: "
+               + timestamps[newestIndex]);
+
+      if (size == 0 || timestamp != timestamps[newestIndex])
+      {
+         newestIndex = (newestIndex + 1) % timestamps.length;
+         if (size < timestamps.length)
+            size++;
+      }
+
+      timestamps[newestIndex] = timestamp;
+      transformToParent.getRotation(orientations[newestIndex]);
+      transformToParent.getTranslation(translations[newestIndex]);
+   }
+
+   /**
+    * Tests whether no sample has been recorded yet.
+    *
+    * @return {@code true} if the history is empty, {@code false} otherwise.
+    */
+   synchronized boolean isEmpty()
+   {
+      return size == 0;
+   }
+
+   /**
+    * Pre-multiplies {@code transformToModify} by the transform at the given time.
+    *
+    * @param timestamp the time to get the transform at.
+    * @param transformToModify the transform to pre-multiply. Modified.
+    * @throws IllegalArgumentException if {@code timestamp} is older than the oldest sample.
+    * @see #interpolate(long)
+    */
+   synchronized void preMultiply(long timestamp, RigidBodyTransform transformToModify)
+   {
+      interpolate(timestamp);
+      transformToModify.preMultiply(interpolatedTransform);
+   }
+
+   /**
+    * Pre-multiplies {@code transformToModify} by the inverse of the transform at the given time.
+    *
+    * @param timestamp the time to get the transform at.
+    * @param transformToModify the transform to pre-multiply. Modified.
+    * @throws IllegalArgumentException if {@code timestamp} is older than the oldest sample.
+    * @see #interpolate(long)
+    */
+   synchronized void preMultiplyInvertOther(long timestamp, RigidBodyTransform transformToModify)
+   {
+      interpolate(timestamp);
+      transformToModify.preMultiplyInvertOther(interpolatedTransform);
+   }
+
+   /**
+    * Computes the transform at the given time and stores it in {@link #interpolatedTransform}.
+    * <p>
+    * The orientation is interpolated using a spherical linear interpolation and the translation using
+    * a linear interpolation. When {@code timestamp} is more recent than the newest sample, the newest
+    * sample is used as is: the transform is assumed to remain unchanged until the next sample.
+    * </p>
+    */
+   private void interpolate(long timestamp)
+   {
+      if (size == 0)
+         throw new IllegalStateException("The history is empty.");
+
+      int oldestIndex = toRingIndex(0);
+
+      if (timestamp < timestamps[oldestIndex])
+         throw new IllegalArgumentException("The timestamp " + timestamp + " is older than the oldest sample: " + timestamps[oldestIndex]);
+
+      if (timestamp >= timestamps[newestIndex])
+      {
+         interpolatedTransform.set(orientations[newestIndex], translations[newestIndex]);
+         return;
+      }
+
+      // Binary search for the last sample that is not more recent than timestamp.
+      int low = 0;
+      int high = size - 1;
+
+      while (high - low > 1)
+      {
+         int mid = (low + high) >>> 1;
+
+         if (timestamps[toRingIndex(mid)] <= timestamp)
+            low = mid;
+         else
+            high = mid;
+      }
+
+      int before = toRingIndex(low);
+      int after = toRingIndex(high);
+      double alpha = (double) (timestamp - timestamps[before]) / (double) (timestamps[after] - timestamps[before]);
+
+      interpolatedOrientation.interpolate(orientations[before], orientations[after], alpha);
+      interpolatedTranslation.interpolate(translations[before], translations[after], alpha);
+      interpolatedTransform.set(interpolatedOrientation, interpolatedTranslation);
+   }
+
+   /**
+    * Converts an index counting from the oldest sample to the index in the ring buffer.
+    */
+   private int toRingIndex(int indexFromOldest)
+   {
+      return (newestIndex - size + 1 + indexFromOldest + timestamps.length) % timestamps.length;
+   }
+}
@@ -1,5 +1,7 @@
 package us.ihmc.euclid.referenceFrame.exceptions;
 
+import us.ihmc.euclid.referenceFrame.ReferenceFrame;
+
 /**
  * {@code ReferenceFrameMismatchException} is a {@code RuntimeException} thrown when attempting a
  * forbidden operation because of mismatching {@code ReferenceFrame}s.
@@ -17,4 +19,19 @@ public class ReferenceFrameMismatchException extends RuntimeException
    {
       super(message);
    }
+
+   /**
+    * Creates a new exception for a frame that does not match the expected frame.
+    * <p>
+    * The message is only built when constructing the exception such that the frame checks do not
+    * generate garbage when they pass.
+    * </p>
+    *
+    * @param argumentFrame the frame that does not match.
+    * @param expectedFrame the frame that was expected.
+    */
+   public ReferenceFrameMismatchException(ReferenceFrame argumentFrame, ReferenceFrame expectedFrame)
+   {
+      super("Argument's frame " + argumentFrame + " does not match " + expectedFrame);
+   }
 }
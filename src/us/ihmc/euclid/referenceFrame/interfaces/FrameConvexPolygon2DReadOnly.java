@@ -7,6 +7,7 @@ import us.ihmc.euclid.geometry.interfaces.ConvexPolygon2DReadOnly;
 import us.ihmc.euclid.geometry.interfaces.Line2DReadOnly;
 import us.ihmc.euclid.geometry.interfaces.LineSegment2DBasics;
 import us.ihmc.euclid.geometry.interfaces.LineSegment2DReadOnly;
+import us.ihmc.euclid.geometry.interfaces.Pose2DBasics;
 import us.ihmc.euclid.referenceFrame.FrameConvexPolygon2D;
 import us.ihmc.euclid.referenceFrame.FrameLineSegment2D;
 import us.ihmc.euclid.referenceFrame.FramePoint2D;
@@ -14,6 +15,7 @@ import us.ihmc.euclid.referenceFrame.exceptions.ReferenceFrameMismatchException;
 import us.ihmc.euclid.tuple2D.interfaces.Point2DBasics;
 import us.ihmc.euclid.tuple2D.interfaces.Point2DReadOnly;
 import us.ihmc.euclid.tuple2D.interfaces.Tuple2DReadOnly;
+import us.ihmc.euclid.tuple2D.interfaces.Vector2DBasics;
 
 /**
  * Read-only interface for a convex polygon defined in the XY-plane expressed in an immutable
@@ -83,6 +85,39 @@ public interface FrameConvexPolygon2DReadOnly extends ConvexPolygon2DReadOnly, R
    @Override
    FramePoint2DReadOnly getCentroid();
 
+   /**
+    * Gets the rectangle of minimum area enclosing this polygon.
+    *
+    * @param rectanglePoseToPack the pose of the rectangle center. Modified.
+    * @param rectangleSizeToPack the size of the rectangle along its first and second axes. Modified.
+    * @return the area of the rectangle, {@link Double#NaN} if this polygon is empty.
+    * @throws ReferenceFrameMismatchException if {@code rectanglePoseToPack} and {@code this} are not
+    *            expressed in the same reference frame.
+    * @see #getMinimumAreaBoundingRectangle(Pose2DBasics, Vector2DBasics)
+    */
+   default double getMinimumAreaBoundingRectangle(FixedFramePose2DBasics rectanglePoseToPack, Vector2DBasics rectangleSizeToPack)
+   {
+      checkReferenceFrameMatch(rectanglePoseToPack);
+      return getMinimumAreaBoundingRectangle((Pose2DBasics) rectanglePoseToPack, rectangleSizeToPack);
+   }
+
+   /**
+    * Gets the rectangle of minimum area enclosing this polygon.
+    * <p>
+    * {@code rectanglePoseToPack} is set to the reference frame of {@code this}.
+    * </p>
+    *
+    * @param rectanglePoseToPack the pose of the rectangle center. Modified.
+    * @param rectangleSizeToPack the size of the rectangle along its first and second axes. Modified.
+    * @return the area of the rectangle, {@link Double#NaN} if this polygon is empty.
+    * @see #getMinimumAreaBoundingRectangle(Pose2DBasics, Vector2DBasics)
+    */
+   default double getMinimumAreaBoundingRectangle(FramePose2DBasics rectanglePoseToPack, Vector2DBasics rectangleSizeToPack)
+   {
+      rectanglePoseToPack.setReferenceFrame(getReferenceFrame());
+      return getMinimumAreaBoundingRectangle((Pose2DBasics) rectanglePoseToPack, rectangleSizeToPack);
+   }
+
    /**
     * Adds a subset of this polygon's vertices into the given list.
     *
@@ -298,6 +333,21 @@ public interface FrameConvexPolygon2DReadOnly extends ConvexPolygon2DReadOnly, R
       return ConvexPolygon2DReadOnly.super.signedDistance(point);
    }
 
+   /**
+    * Calculates the minimum distance between this polygon and {@code other}.
+    *
+    * @param other the other convex polygon. Not modified.
+    * @return the distance between the two polygons, {@link Double#NaN} if any of them is empty.
+    * @throws ReferenceFrameMismatchException if {@code other} and {@code this} are not expressed in
+    *            the same reference frame.
+    * @see #distance(ConvexPolygon2DReadOnly)
+    */
+   default double distance(FrameConvexPolygon2DReadOnly other)
+   {
+      checkReferenceFrameMatch(other);
+      return ConvexPolygon2DReadOnly.super.distance(other);
+   }
+
    /**
     * Computes the orthogonal projection of a 2D point on this 2D convex polygon.
     *
@@ -1481,6 +1531,185 @@ public interface FrameConvexPolygon2DReadOnly extends ConvexPolygon2DReadOnly, R
       return intersectionWith((LineSegment2DReadOnly) lineSegment2D);
    }
 
+   /**
+    * Computes the intersection between this convex polygon and another convex polygon.
+    *
+    * @param other the other convex polygon. Not modified.
+    * @param intersectionToPack the polygon in which the intersection is stored. Modified.
+    * @return {@code true} if the polygons intersect, {@code false} otherwise.
+    * @throws ReferenceFrameMismatchException if {@code other}, {@code intersectionToPack}, and
+    *            {@code this} are not expressed in the same reference frame.
+    * @see #intersectionWith(ConvexPolygon2DReadOnly, ConvexPolygon2DBasics)
+    */
+   default boolean intersectionWith(FrameConvexPolygon2DReadOnly other, FixedFrameConvexPolygon2DBasics intersectionToPack)
+   {
+      checkReferenceFrameMatch(other);
+      checkReferenceFrameMatch(intersectionToPack);
+      return ConvexPolygon2DReadOnly.super.intersectionWith(other, intersectionToPack);
+   }
+
+   /**
+    * Computes the intersection between this convex polygon and another convex polygon.
+    * <p>
+    * {@code intersectionToPack} is set to the reference frame of {@code this}.
+    * </p>
+    *
+    * @param other the other convex polygon. Not modified.
+    * @param intersectionToPack the polygon in which the intersection is stored. Modified.
+    * @return {@code true} if the polygons intersect, {@code false} otherwise.
+    * @throws ReferenceFrameMismatchException if {@code other} and {@code this} are not expressed
+    *            in the same reference frame.
+    * @see #intersectionWith(ConvexPolygon2DReadOnly, ConvexPolygon2DBasics)
+    */
+   default boolean intersectionWith(FrameConvexPolygon2DReadOnly other, FrameConvexPolygon2DBasics intersectionToPack)
+   {
+      checkReferenceFrameMatch(other);
+      intersectionToPack.setReferenceFrame(getReferenceFrame());
+      return ConvexPolygon2DReadOnly.super.intersectionWith(other, intersectionToPack);
+   }
+
+   /**
+    * Computes the Minkowski sum of this convex polygon and another convex polygon.
+    *
+    * @param other the other convex polygon. Not modified.
+    * @param sumToPack the polygon in which the Minkowski sum is stored. Modified.
+    * @throws ReferenceFrameMismatchException if {@code other}, {@code sumToPack}, and {@code this}
+    *            are not expressed in the same reference frame.
+    * @see #minkowskiSum(ConvexPolygon2DReadOnly, ConvexPolygon2DBasics)
+    */
+   default void minkowskiSum(FrameConvexPolygon2DReadOnly other, FixedFrameConvexPolygon2DBasics sumToPack)
+   {
+      checkReferenceFrameMatch(other);
+      checkReferenceFrameMatch(sumToPack);
+      ConvexPolygon2DReadOnly.super.minkowskiSum(other, sumToPack);
+   }
+
+   /**
+    * Computes the Minkowski sum of this convex polygon and another convex polygon.
+    * <p>
+    * {@code sumToPack} is set to the reference frame of {@code this}.
+    * </p>
+    *
+    * @param other the other convex polygon. Not modified.
+    * @param sumToPack the polygon in which the Minkowski sum is stored. Modified.
+    * @throws ReferenceFrameMismatchException if {@code other} and {@code this} are not expressed
+    *            in the same reference frame.
+    * @see #minkowskiSum(ConvexPolygon2DReadOnly, ConvexPolygon2DBasics)
+    */
+   default void minkowskiSum(FrameConvexPolygon2DReadOnly other, FrameConvexPolygon2DBasics sumToPack)
+   {
+      checkReferenceFrameMatch(other);
+      sumToPack.setReferenceFrame(getReferenceFrame());
+      ConvexPolygon2DReadOnly.super.minkowskiSum(other, sumToPack);
+   }
+
+   /**
+    * Computes the Minkowski difference of this convex polygon and another convex polygon.
+    *
+    * @param other the other convex polygon. Not modified.
+    * @param differenceToPack the polygon in which the Minkowski difference is stored. Modified.
+    * @throws ReferenceFrameMismatchException if {@code other}, {@code differenceToPack}, and
+    *            {@code this} are not expressed in the same reference frame.
+    * @see #minkowskiDifference(ConvexPolygon2DReadOnly, ConvexPolygon2DBasics)
+    */
+   default void minkowskiDifference(FrameConvexPolygon2DReadOnly other, FixedFrameConvexPolygon2DBasics differenceToPack)
+   {
+      checkReferenceFrameMatch(other);
+      checkReferenceFrameMatch(differenceToPack);
+      ConvexPolygon2DReadOnly.super.minkowskiDifference(other, differenceToPack);
+   }
+
+   /**
+    * Computes the Minkowski difference of this convex polygon and another convex polygon.
+    * <p>
+    * {@code differenceToPack} is set to the reference frame of {@code this}.
+    * </p>
+    *
+    * @param other the other convex polygon. Not modified.
+    * @param differenceToPack the polygon in which the Minkowski difference is stored. Modified.
+    * @throws ReferenceFrameMismatchException if {@code other} and {@code this} are not expressed
+    *            in the same reference frame.
+    * @see #minkowskiDifference(ConvexPolygon2DReadOnly, ConvexPolygon2DBasics)
+    */
+   default void minkowskiDifference(FrameConvexPolygon2DReadOnly other, FrameConvexPolygon2DBasics differenceToPack)
+   {
+      checkReferenceFrameMatch(other);
+      differenceToPack.setReferenceFrame(getReferenceFrame());
+      ConvexPolygon2DReadOnly.super.minkowskiDifference(other, differenceToPack);
+   }
+
+   /**
+    * Computes the polygon obtained by moving each edge of this polygon by {@code distance} along its
+    * outward normal.
+    *
+    * @param distance the distance to move the edges by, positive to grow the polygon.
+    * @param offsetPolygonToPack the polygon in which the offset polygon is stored. Modified.
+    * @return {@code true} if the offset polygon is not empty, {@code false} otherwise.
+    * @throws ReferenceFrameMismatchException if {@code offsetPolygonToPack} and {@code this} are not
+    *            expressed in the same reference frame.
+    * @see #offset(double, ConvexPolygon2DBasics)
+    */
+   default boolean offset(double distance, FixedFrameConvexPolygon2DBasics offsetPolygonToPack)
+   {
+      checkReferenceFrameMatch(offsetPolygonToPack);
+      return ConvexPolygon2DReadOnly.super.offset(distance, offsetPolygonToPack);
+   }
+
+   /**
+    * Computes the polygon obtained by moving each edge of this polygon by {@code distance} along its
+    * outward normal.
+    * <p>
+    * {@code offsetPolygonToPack} is set to the reference frame of {@code this}.
+    * </p>
+    *
+    * @param distance the distance to move the edges by, positive to grow the polygon.
+    * @param offsetPolygonToPack the polygon in which the offset polygon is stored. Modified.
+    * @return {@code true} if the offset polygon is not empty, {@code false} otherwise.
+    * @see #offset(double, ConvexPolygon2DBasics)
+    */
+   default boolean offset(double distance, FrameConvexPolygon2DBasics offsetPolygonToPack)
+   {
+      offsetPolygonToPack.setReferenceFrame(getReferenceFrame());
+      return ConvexPolygon2DReadOnly.super.offset(distance, offsetPolygonToPack);
+   }
+
+   /**
+    * Computes the polygons obtained by moving each edge of this polygon by each of the given
+    * distances along its outward normal.
+    *
+    * @param distances the distances to move the edges by, positive to grow the polygon. Not
+    *           modified.
+    * @param offsetPolygonsToPack the polygons in which the offset polygons are stored. Modified.
+    * @throws ReferenceFrameMismatchException if any of the polygons to pack and {@code this} are not
+    *            expressed in the same reference frame.
+    * @see #offset(double[], ConvexPolygon2DBasics[])
+    */
+   default void offset(double[] distances, FixedFrameConvexPolygon2DBasics[] offsetPolygonsToPack)
+   {
+      for (FixedFrameConvexPolygon2DBasics offsetPolygonToPack : offsetPolygonsToPack)
+         checkReferenceFrameMatch(offsetPolygonToPack);
+      ConvexPolygon2DReadOnly.super.offset(distances, offsetPolygonsToPack);
+   }
+
+   /**
+    * Computes the polygons obtained by moving each edge of this polygon by each of the given
+    * distances along its outward normal.
+    * <p>
+    * The polygons to pack are set to the reference frame of {@code this}.
+    * </p>
+    *
+    * @param distances the distances to move the edges by, positive to grow the polygon. Not
+    *           modified.
+    * @param offsetPolygonsToPack the polygons in which the offset polygons are stored. Modified.
+    * @see #offset(double[], ConvexPolygon2DBasics[])
+    */
+   default void offset(double[] distances, FrameConvexPolygon2DBasics[] offsetPolygonsToPack)
+   {
+      for (FrameConvexPolygon2DBasics offsetPolygonToPack : offsetPolygonsToPack)
+         offsetPolygonToPack.setReferenceFrame(getReferenceFrame());
+      ConvexPolygon2DReadOnly.super.offset(distances, offsetPolygonsToPack);
+   }
+
    /**
     * Finds the index of the closest edge to the query.
     *
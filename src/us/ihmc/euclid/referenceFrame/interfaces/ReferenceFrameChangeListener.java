@@ -0,0 +1,28 @@
+package us.ihmc.euclid.referenceFrame.interfaces;
+
+import us.ihmc.euclid.referenceFrame.ReferenceFrame;
+
+/**
+ * Listener that can be attached to a reference frame to be notified when its transform to root
+ * changes.
+ * <p>
+ * The listener is notified when {@link ReferenceFrame#update()} detects a change of the transform
+ * to parent of the frame it is attached to or of any of its ancestors.
+ * </p>
+ *
+ * @see ReferenceFrame#addChangeListener(ReferenceFrameChangeListener)
+ * @see ReferenceFrame#enableTransformChangeDetection(double)
+ */
+public interface ReferenceFrameChangeListener
+{
+   /**
+    * Called when the transform to root of {@code referenceFrame} has changed.
+    * <p>
+    * This method is called from the thread updating the frames, the transform to root of the frame is
+    * not recomputed at this point but can be queried.
+    * </p>
+    *
+    * @param referenceFrame the frame this listener is attached to.
+    */
+   void transformToRootChanged(ReferenceFrame referenceFrame);
+}
@@ -11,6 +11,10 @@ import us.ihmc.euclid.referenceFrame.exceptions.ReferenceFrameMismatchException;
  * objects and comparing the reference frame associated to an object against another reference
  * frame.
  * </p>
+ * <p>
+ * The checks can be disabled for the entire application, see
+ * {@link ReferenceFrame#FRAME_CHECKS_ENABLED}.
+ * </p>
  */
 public interface ReferenceFrameHolder
 {
@@ -24,7 +28,8 @@ public interface ReferenceFrameHolder
     */
    default void checkReferenceFrameMatch(ReferenceFrameHolder other) throws ReferenceFrameMismatchException
    {
-      checkReferenceFrameMatch(other.getReferenceFrame());
+      if (ReferenceFrame.FRAME_CHECKS_ENABLED)
+         checkReferenceFrameMatch(other.getReferenceFrame());
    }
 
    /**
@@ -37,7 +42,8 @@ public interface ReferenceFrameHolder
     */
    default void checkReferenceFrameMatch(ReferenceFrame referenceFrame) throws ReferenceFrameMismatchException
    {
-      getReferenceFrame().checkReferenceFrameMatch(referenceFrame);
+      if (ReferenceFrame.FRAME_CHECKS_ENABLED)
+         getReferenceFrame().checkReferenceFrameMatch(referenceFrame);
    }
 
    /**
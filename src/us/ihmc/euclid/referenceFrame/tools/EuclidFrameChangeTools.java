@@ -0,0 +1,259 @@
+package us.ihmc.euclid.referenceFrame.tools;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import us.ihmc.euclid.referenceFrame.ReferenceFrame;
+import us.ihmc.euclid.referenceFrame.interfaces.FrameChangeable;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+/**
+ * This class provides tools for changing the reference frame of large collections of frame objects
+ * at once.
+ * <p>
+ * Calling {@link FrameChangeable#changeFrame(ReferenceFrame)} on each object of a collection
+ * verifies the frames and applies two transforms for every object. The tools in this class instead
+ * compute the transform from the current frame of the objects to the desired frame once and apply it
+ * to all the objects expressed in that frame.
+ * </p>
+ * <p>
+ * These tools work with any {@link FrameChangeable}, which includes frame points, vectors, lines,
+ * line segments, poses, and any {@link us.ihmc.euclid.referenceFrame.FrameGeometryObject}. For
+ * geometries holding several points or vectors, such as lines and line segments, the saving is
+ * proportional to the number of points or vectors per geometry.
+ * </p>
+ */
+public class EuclidFrameChangeTools
+{
+   /**
+    * Minimum number of objects for which {@link #changeFrameInParallel(FrameChangeable[], ReferenceFrame)}
+    * and {@link #changeFrameInParallel(List, ReferenceFrame)} actually process the objects in
+    * parallel.
+    */
+   public static final int PARALLEL_CHANGE_FRAME_THRESHOLD = 16384;
+   /** Number of objects processed by each parallel task. */
+   private static final int PARALLEL_CHANGE_FRAME_CHUNK_SIZE = 4096;
+
+   /**
+    * Changes the reference frame of all the given objects to {@code desiredFrame}.
+    * <p>
+    * The objects can be expressed in different frames, the transform is recomputed only when the frame
+    * differs from the frame of the previous object. Grouping the objects by frame is therefore
+    * recommended.
+    * </p>
+    *
+    * @param objects the objects to transform. Modified.
+    * @param desiredFrame the reference frame in which the objects are to be expressed.
+    */
+   public static void changeFrame(FrameChangeable[] objects, ReferenceFrame desiredFrame)
+   {
+      changeFrame(objects, 0, objects.length, desiredFrame, new RigidBodyTransform());
+   }
+
+   /**
+    * Changes the reference frame of all the given objects to {@code desiredFrame}.
+    * <p>
+    * The objects can be expressed in different frames, the transform is recomputed only when the frame
+    * differs from the frame of the previous object. Grouping the objects by frame is therefore
+    * recommended.
+    * </p>
+    *
+    * @param objects the objects to transform. Modified.
+    * @param desiredFrame the reference frame in which the objects are to be expressed.
+    */
+   public static void changeFrame(List<? extends FrameChangeable> objects, ReferenceFrame desiredFrame)
+   {
+      changeFrame(objects, 0, objects.size(), desiredFrame, new RigidBodyTransform());
+   }
+
+   /**
+    * Changes the reference frame of all the given objects to {@code desiredFrame} using the common
+    * fork/join pool.
+    * <p>
+    * The objects are processed in parallel only if there are at least
+    * {@link #PARALLEL_CHANGE_FRAME_THRESHOLD} of them and they are all expressed in the same frame.
+    * Otherwise, this method is equivalent to {@link #changeFrame(FrameChangeable[], ReferenceFrame)}.
+    * </p>
+    *
+    * @param objects the objects to transform. Modified.
+    * @param desiredFrame the reference frame in which the objects are to be expressed.
+    */
+   public static void changeFrameInParallel(FrameChangeable[] objects, ReferenceFrame desiredFrame)
+   {
+      RigidBodyTransform transform = new RigidBodyTransform();
+
+      if (!computeCommonTransformForParallelChangeFrame(objects, objects.length, desiredFrame, transform))
+         changeFrame(objects, 0, objects.length, desiredFrame, transform);
+      else
+         ForkJoinPool.commonPool().invoke(new ChangeFrameTask(objects, null, 0, objects.length, desiredFrame, transform));
+   }
+
+   /**
+    * Changes the reference frame of all the given objects to {@code desiredFrame} using the common
+    * fork/join pool.
+    * <p>
+    * The objects are processed in parallel only if there are at least
+    * {@link #PARALLEL_CHANGE_FRAME_THRESHOLD} of them and they are all expressed in the same frame.
+    * Otherwise, this method is equivalent to {@link #changeFrame(List, ReferenceFrame)}.
+    * </p>
+    * <p>
+    * The list should provide constant time random access.
+    * </p>
+    *
+    * @param objects the objects to transform. Modified.
+    * @param desiredFrame the reference frame in which the objects are to be expressed.
+    */
+   public static void changeFrameInParallel(List<? extends FrameChangeable> objects, ReferenceFrame desiredFrame)
+   {
+      RigidBodyTransform transform = new RigidBodyTransform();
+
+      if (!computeCommonTransformForParallelChangeFrame(objects, desiredFrame, transform))
+         changeFrame(objects, 0, objects.size(), desiredFrame, transform);
+      else
+         ForkJoinPool.commonPool().invoke(new ChangeFrameTask(null, objects, 0, objects.size(), desiredFrame, transform));
+   }
+
+   private static void changeFrame(FrameChangeable[] objects, int startIndex, int endIndex, ReferenceFrame desiredFrame, RigidBodyTransform transform)
+   {
+      ReferenceFrame transformFrame = null;
+
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         transformFrame = changeFrame(objects[i], desiredFrame, transformFrame, transform);
+      }
+   }
+
+   private static void changeFrame(List<? extends FrameChangeable> objects, int startIndex, int endIndex, ReferenceFrame desiredFrame,
+                                   RigidBodyTransform transform)
+   {
+      ReferenceFrame transformFrame = null;
+
+      for (int i = startIndex; i < endIndex; i++)
+      {
+         transformFrame = changeFrame(objects.get(i), desiredFrame, transformFrame, transform);
+      }
+   }
+
+   /**
+    * Changes the frame of a single object, recomputing the transform only if its frame is not
+    * {@code transformFrame}.
+    *
+    * @return the frame the transform is now computed for.
+    */
+   private static ReferenceFrame changeFrame(FrameChangeable object, ReferenceFrame desiredFrame, ReferenceFrame transformFrame, RigidBodyTransform transform)
+   {
+      ReferenceFrame objectFrame = object.getReferenceFrame();
+
+      if (objectFrame == desiredFrame)
+         return transformFrame;
+
+      if (objectFrame != transformFrame)
+      {
+         objectFrame.getTransformToDesiredFrame(transform, desiredFrame);
+         transformFrame = objectFrame;
+      }
+
+      object.applyTransform(transform);
+      object.setReferenceFrame(desiredFrame);
+      return transformFrame;
+   }
+
+   /**
+    * Computes the transform used by all the parallel tasks.
+    * <p>
+    * The tasks do not compute transforms themselves as the reference frames are not safe to query
+    * from several threads at once.
+    * </p>
+    *
+    * @return whether the objects should be processed in parallel.
+    */
+   private static boolean computeCommonTransformForParallelChangeFrame(FrameChangeable[] objects, int size, ReferenceFrame desiredFrame,
+                                                                       RigidBodyTransform transformToPack)
+   {
+      if (size < PARALLEL_CHANGE_FRAME_THRESHOLD)
+         return false;
+
+      ReferenceFrame commonFrame = objects[0].getReferenceFrame();
+
+      if (commonFrame == desiredFrame)
+         return false;
+
+      for (int i = 1; i < size; i++)
+      {
+         if (objects[i].getReferenceFrame() != commonFrame)
+            return false;
+      }
+
+      commonFrame.getTransformToDesiredFrame(transformToPack, desiredFrame);
+      return true;
+   }
+
+   private static boolean computeCommonTransformForParallelChangeFrame(List<? extends FrameChangeable> objects, ReferenceFrame desiredFrame,
+                                                                       RigidBodyTransform transformToPack)
+   {
+      if (objects.size() < PARALLEL_CHANGE_FRAME_THRESHOLD)
+         return false;
+
+      ReferenceFrame commonFrame = objects.get(0).getReferenceFrame();
+
+      if (commonFrame == desiredFrame)
+         return false;
+
+      for (int i = 1; i < objects.size(); i++)
+      {
+         if (objects.get(i).getReferenceFrame() != commonFrame)
+            return false;
+      }
+
+      commonFrame.getTransformToDesiredFrame(transformToPack, desiredFrame);
+      return true;
+   }
+
+   /**
+    * Task applying the same transform to a range of objects, it is split until the range is small
+    * enough.
+    */
+   private static class ChangeFrameTask extends RecursiveAction
+   {
+      private static final long serialVersionUID = 5367193404853916873L;
+
+      private final FrameChangeable[] array;
+      private final List<? extends FrameChangeable> list;
+      private final int startIndex, endIndex;
+      private final ReferenceFrame desiredFrame;
+      /** The transform from the frame of the objects to the desired frame. Shared and not modified. */
+      private final RigidBodyTransform transform;
+
+      private ChangeFrameTask(FrameChangeable[] array, List<? extends FrameChangeable> list, int startIndex, int endIndex, ReferenceFrame desiredFrame,
+                              RigidBodyTransform transform)
+      {
+         this.array = array;
+         this.list = list;
+         this.startIndex = startIndex;
+         this.endIndex = endIndex;
+         this.desiredFrame = desiredFrame;
+         this.transform = transform;
+      }
+
+      @Override
+      protected void compute()
+      {
+         if (endIndex - startIndex > PARALLEL_CHANGE_FRAME_CHUNK_SIZE)
+         {
+            int middleIndex = (startIndex + endIndex) >>> 1;
+            invokeAll(new ChangeFrameTask(array, list, startIndex, middleIndex, desiredFrame, transform),
+                      new ChangeFrameTask(array, list, middleIndex, endIndex, desiredFrame, transform));
+         }
+         else
+         {
+            for (int i = startIndex; i < endIndex; i++)
+            {
+               FrameChangeable object = array != null ? array[i] : list.get(i);
+               object.applyTransform(transform);
+               object.setReferenceFrame(desiredFrame);
+            }
+         }
+      }
+   }
+}
@@ -0,0 +1,377 @@
+package us.ihmc.euclid.referenceFrame.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import us.ihmc.euclid.interfaces.Clearable;
+import us.ihmc.euclid.referenceFrame.FramePoint3D;
+import us.ihmc.euclid.referenceFrame.FramePose3D;
+import us.ihmc.euclid.referenceFrame.FrameQuaternion;
+import us.ihmc.euclid.referenceFrame.FrameVector3D;
+import us.ihmc.euclid.referenceFrame.ReferenceFrame;
+
+/**
+ * {@code FrameObjectPool} is a stack allocator for frame objects meant to be used in hot loops where
+ * temporary frame objects would otherwise be created at every iteration.
+ * <p>
+ * Objects are acquired within a scope and are all released at once when the scope is closed:
+ *
+ * <pre>
+ * FrameObjectPool pool = FrameObjectPool.getThreadLocalPool();
+ * try (FrameObjectPool.Scope scope = pool.openScope())
+ * {
+ *    FramePoint3D point = pool.getFramePoint3D(worldFrame);
+ *    ...
+ * }
+ * </pre>
+ *
+ * Each acquired object is reset to zero, or identity for orientations, and expressed in the
+ * requested reference frame. Objects are only allocated when the pool needs to grow, such that once
+ * the pool has grown to its working size, opening scopes and acquiring objects is garbage free.
+ * </p>
+ * <p>
+ * A pool is confined to the thread that created it and is not thread-safe. Use
+ * {@link #getThreadLocalPool()} to get the pool of the current thread.
+ * </p>
+ * <p>
+ * When the debug mode is enabled, either with the constructor or by setting the system property
+ * {@value #DEBUG_PROPERTY} to {@code true}, the pool also:
+ * <ul>
+ * <li>verifies that it is only accessed from its owner thread,
+ * <li>rejects the acquisition of objects outside of any scope as these would never be released,
+ * <li>records where each scope is opened and reports it when a scope is leaked, i.e. its parent scope
+ * is closed while it is still open,
+ * <li>sets the released objects to {@link Double#NaN} such that using an object after its scope was
+ * closed can be noticed.
+ * </ul>
+ * </p>
+ */
+public class FrameObjectPool
+{
+   /** System property used to enable the debug mode of the pools by default. */
+   public static final String DEBUG_PROPERTY = "euclid.frameObjectPool.debug";
+   private static final boolean DEBUG_DEFAULT = Boolean.parseBoolean(System.getProperty(DEBUG_PROPERTY, "false"));
+
+   private static final ThreadLocal<FrameObjectPool> THREAD_LOCAL_POOL = ThreadLocal.withInitial(FrameObjectPool::new);
+
+   private final boolean debug;
+   private final Thread ownerThread;
+
+   private final TypedStack<FramePoint3D> framePoint3DStack = new TypedStack<>(FramePoint3D::new);
+   private final TypedStack<FrameVector3D> frameVector3DStack = new TypedStack<>(FrameVector3D::new);
+   private final TypedStack<FrameQuaternion> frameQuaternionStack = new TypedStack<>(FrameQuaternion::new);
+   private final TypedStack<FramePose3D> framePose3DStack = new TypedStack<>(FramePose3D::new);
+
+   private final List<Scope> scopes = new ArrayList<>();
+   private int scopeDepth = 0;
+
+   private long numberOfAcquisitions = 0;
+   private int maximumScopeDepth = 0;
+
+   /**
+    * Gets the pool confined to the current thread, creating it if needed.
+    *
+    * @return the pool of the current thread.
+    */
+   public static FrameObjectPool getThreadLocalPool()
+   {
+      return THREAD_LOCAL_POOL.get();
+   }
+
+   /**
+    * Creates a new pool confined to the current thread.
+    * <p>
+    * The debug mode is enabled if the system property {@value #DEBUG_PROPERTY} is set to
+    * {@code true}.
+    * </p>
+    */
+   public FrameObjectPool()
+   {
+      this(DEBUG_DEFAULT);
+   }
+
+   /**
+    * Creates a new pool confined to the current thread.
+    *
+    * @param debug whether the debug mode, which detects leaks and misuses, should be enabled.
+    */
+   public FrameObjectPool(boolean debug)
+   {
+      this.debug = debug;
+      ownerThread = Thread.currentThread();
+   }
+
+   /**
+    * Opens a new scope.
+    * <p>
+    * All the objects acquired from this pool until the returned scope is closed are released when
+    * closing it. Scopes can be nested and have to be closed in the reverse order they were opened.
+    * </p>
+    *
+    * @return the new scope. The scope instances are recycled and should not be held onto after being
+    *         closed.
+    */
+   public Scope openScope()
+   {
+      checkOwnerThread();
+
+      if (scopeDepth == scopes.size())
+         scopes.add(new Scope());
+
+      Scope scope = scopes.get(scopeDepth++);
+      scope.open();
+      maximumScopeDepth = Math.max(maximumScopeDepth, scopeDepth);
+      return scope;
+   }
+
+   private void closeScope(Scope scope)
+   {
+      checkOwnerThread();
+
+      if (!scope.isOpen)
+         throw new IllegalStateException("This scope has already been closed.");
+
+      Scope innermostScope = scopes.get(scopeDepth - 1);
+
+      if (innermostScope != scope)
+      {
+         IllegalStateException exception = new IllegalStateException("Closing a scope while " + (scopeDepth - 1 - scopes.indexOf(scope))
+               + " of its nested scope(s) is still open.");
+         if (innermostScope.openingTrace != null)
+            exception.initCause(innermostScope.openingTrace);
+         throw exception;
+      }
+
+      scopeDepth--;
+      scope.releaseObjects();
+   }
+
+   /**
+    * Acquires a {@code FramePoint3D} set to zero and expressed in {@code referenceFrame}.
+    *
+    * @param referenceFrame the reference frame for the point.
+    * @return the point, valid until the current scope is closed.
+    */
+   public FramePoint3D getFramePoint3D(ReferenceFrame referenceFrame)
+   {
+      FramePoint3D framePoint = framePoint3DStack.acquire();
+      framePoint.setToZero(referenceFrame);
+      return framePoint;
+   }
+
+   /**
+    * Acquires a {@code FrameVector3D} set to zero and expressed in {@code referenceFrame}.
+    *
+    * @param referenceFrame the reference frame for the vector.
+    * @return the vector, valid until the current scope is closed.
+    */
+   public FrameVector3D getFrameVector3D(ReferenceFrame referenceFrame)
+   {
+      FrameVector3D frameVector = frameVector3DStack.acquire();
+      frameVector.setToZero(referenceFrame);
+      return frameVector;
+   }
+
+   /**
+    * Acquires a {@code FrameQuaternion} set to identity and expressed in {@code referenceFrame}.
+    *
+    * @param referenceFrame the reference frame for the quaternion.
+    * @return the quaternion, valid until the current scope is closed.
+    */
+   public FrameQuaternion getFrameQuaternion(ReferenceFrame referenceFrame)
+   {
+      FrameQuaternion frameQuaternion = frameQuaternionStack.acquire();
+      frameQuaternion.setToZero(referenceFrame);
+      return frameQuaternion;
+   }
+
+   /**
+    * Acquires a {@code FramePose3D} set to zero and expressed in {@code referenceFrame}.
+    *
+    * @param referenceFrame the reference frame for the pose.
+    * @return the pose, valid until the current scope is closed.
+    */
+   public FramePose3D getFramePose3D(ReferenceFrame referenceFrame)
+   {
+      FramePose3D framePose = framePose3DStack.acquire();
+      framePose.setToZero(referenceFrame);
+      return framePose;
+   }
+
+   private void checkOwnerThread()
+   {
+      if (debug && Thread.currentThread() != ownerThread)
+         throw new IllegalStateException("This pool is confined to the thread " + ownerThread.getName() + " but was accessed from the thread "
+               + Thread.currentThread().getName() + ".");
+   }
+
+   /**
+    * Tests whether the debug mode is enabled for this pool.
+    *
+    * @return {@code true} if the debug mode is enabled, {@code false} otherwise.
+    */
+   public boolean isDebugEnabled()
+   {
+      return debug;
+   }
+
+   /**
+    * Gets the number of scopes currently open.
+    *
+    * @return the current scope depth.
+    */
+   public int getScopeDepth()
+   {
+      return scopeDepth;
+   }
+
+   /**
+    * Gets the maximum number of scopes that have been simultaneously open.
+    *
+    * @return the maximum scope depth.
+    */
+   public int getMaximumScopeDepth()
+   {
+      return maximumScopeDepth;
+   }
+
+   /**
+    * Gets the total number of objects acquired from this pool since its creation.
+    *
+    * @return the number of acquisitions.
+    */
+   public long getNumberOfAcquisitions()
+   {
+      return numberOfAcquisitions;
+   }
+
+   /**
+    * Gets the number of objects currently acquired, i.e. not released yet.
+    *
+    * @return the number of objects in use.
+    */
+   public int getNumberOfObjectsInUse()
+   {
+      return framePoint3DStack.inUse + frameVector3DStack.inUse + frameQuaternionStack.inUse + framePose3DStack.inUse;
+   }
+
+   /**
+    * Gets the number of objects allocated by this pool, which is also the maximum number of objects
+    * that have been simultaneously in use for each type.
+    *
+    * @return the number of allocated objects.
+    */
+   public int getNumberOfAllocatedObjects()
+   {
+      return framePoint3DStack.size() + frameVector3DStack.size() + frameQuaternionStack.size() + framePose3DStack.size();
+   }
+
+   /**
+    * Provides a {@code String} summarizing the statistics of this pool.
+    *
+    * @return the {@code String} representing this pool.
+    */
+   @Override
+   public String toString()
+   {
+      return "FrameObjectPool: [scope depth: " + scopeDepth + ", max scope depth: " + maximumScopeDepth + ", acquisitions: " + numberOfAcquisitions
+            + ", in use: " + getNumberOfObjectsInUse() + ", allocated: (FramePoint3D: " + framePoint3DStack.size() + ", FrameVector3D: "
+            + frameVector3DStack.size() + ", FrameQuaternion: " + frameQuaternionStack.size() + ", FramePose3D: " + framePose3DStack.size() + ")]";
+   }
+
+   /**
+    * A scope delimits the lifetime of the objects acquired from a {@code FrameObjectPool}.
+    * <p>
+    * Closing a scope releases all the objects that were acquired since it was opened.
+    * </p>
+    */
+   public class Scope implements AutoCloseable
+   {
+      private boolean isOpen = false;
+      private int framePoint3DMark;
+      private int frameVector3DMark;
+      private int frameQuaternionMark;
+      private int framePose3DMark;
+      private Throwable openingTrace;
+
+      private Scope()
+      {
+      }
+
+      private void open()
+      {
+         isOpen = true;
+         framePoint3DMark = framePoint3DStack.inUse;
+         frameVector3DMark = frameVector3DStack.inUse;
+         frameQuaternionMark = frameQuaternionStack.inUse;
+         framePose3DMark = framePose3DStack.inUse;
+         openingTrace = debug ? new Throwable("Leaked scope opened here") : null;
+      }
+
+      private void releaseObjects()
+      {
+         isOpen = false;
+         framePoint3DStack.release(framePoint3DMark);
+         frameVector3DStack.release(frameVector3DMark);
+         frameQuaternionStack.release(frameQuaternionMark);
+         framePose3DStack.release(framePose3DMark);
+         openingTrace = null;
+      }
+
+      /**
+       * Closes this scope and releases all the objects acquired since it was opened.
+       *
+       * @throws IllegalStateException if this scope is already closed or if one of its nested scopes is
+       *            still open.
+       */
+      @Override
+      public void close()
+      {
+         closeScope(this);
+      }
+   }
+
+   private class TypedStack<T extends Clearable>
+   {
+      private final Supplier<T> factory;
+      private final List<T> objects = new ArrayList<>();
+      private int inUse = 0;
+
+      private TypedStack(Supplier<T> factory)
+      {
+         this.factory = factory;
+      }
+
+      private T acquire()
+      {
+         checkOwnerThread();
+
+         if (debug && scopeDepth == 0)
+            throw new IllegalStateException("Objects can only be acquired within a scope, see FrameObjectPool.openScope().");
+
+         numberOfAcquisitions++;
+
+         if (inUse == objects.size())
+            objects.add(factory.get());
+
+         return objects.get(inUse++);
+      }
+
+      private void release(int mark)
+      {
+         if (debug)
+         {
+            for (int i = mark; i < inUse; i++)
+               objects.get(i).setToNaN();
+         }
+
+         inUse = mark;
+      }
+
+      private int size()
+      {
+         return objects.size();
+      }
+   }
+}
@@ -141,6 +141,30 @@ public abstract class ConvexPolygon2DBasicsTest<T extends ConvexPolygon2DBasics>
       assertTrue(doubleInt.isUpToDate());
    }
 
+   @Test
+   public void testUpdateAssumingConvexHull()
+   {
+      Random random = new Random(3453);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         T expected = createRandomConvexPolygon2D(random);
+         T actual = createEmptyConvexPolygon2D();
+
+         for (int vertexIndex = 0; vertexIndex < expected.getNumberOfVertices(); vertexIndex++)
+            actual.addVertex(expected.getVertex(vertexIndex));
+         actual.updateAssumingConvexHull();
+
+         assertTrue(actual.isUpToDate());
+         assertEquals(expected.getNumberOfVertices(), actual.getNumberOfVertices());
+         for (int vertexIndex = 0; vertexIndex < expected.getNumberOfVertices(); vertexIndex++)
+            EuclidCoreTestTools.assertTuple2DEquals(expected.getVertex(vertexIndex), actual.getVertex(vertexIndex), EPSILON);
+         assertEquals(expected.getArea(), actual.getArea(), EPSILON);
+         EuclidCoreTestTools.assertTuple2DEquals(expected.getCentroid(), actual.getCentroid(), EPSILON);
+         EuclidGeometryTestTools.assertBoundingBox2DEquals(expected.getBoundingBox(), actual.getBoundingBox(), EPSILON);
+      }
+   }
+
    @Test
    public void testGetCentroid()
    {
@@ -212,6 +236,85 @@ public abstract class ConvexPolygon2DBasicsTest<T extends ConvexPolygon2DBasics>
       EuclidCoreTestTools.assertTuple2DEquals("These should be equal", fourNext, four, EPSILON);
    }
 
+   @Test
+   public void testOffset()
+   {
+      double[][] squareVertices = {{-1.0, 1.0}, {1.0, 1.0}, {1.0, -1.0}, {-1.0, -1.0}};
+      double[][] shrunkSquareVertices = {{-0.75, 0.75}, {0.75, 0.75}, {0.75, -0.75}, {-0.75, -0.75}};
+      double[][] grownSquareVertices = {{-1.5, 1.5}, {1.5, 1.5}, {1.5, -1.5}, {-1.5, -1.5}};
+
+      T polygon = createConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(squareVertices));
+      assertTrue(polygon.offset(-0.25));
+      assertTrue(polygon.isUpToDate());
+      assertTrue(polygon.geometricallyEquals(createConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(shrunkSquareVertices)), EPSILON));
+      assertEquals(2.25, polygon.getArea(), EPSILON);
+      EuclidCoreTestTools.assertTuple2DEquals(new Point2D(), polygon.getCentroid(), EPSILON);
+      EuclidCoreTestTools.assertTuple2DEquals(new Point2D(0.75, 0.75), polygon.getBoundingBox().getMaxPoint(), EPSILON);
+
+      // The corner edge collapses when shrinking.
+      double[][] cutSquareVertices = {{-1.0, 1.0}, {0.9, 1.0}, {1.0, 0.9}, {1.0, -1.0}, {-1.0, -1.0}};
+      double[][] expectedVertices = {{-0.5, 0.5}, {0.5, 0.5}, {0.5, -0.5}, {-0.5, -0.5}};
+      polygon = createConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(cutSquareVertices));
+      assertTrue(polygon.offset(-0.5));
+      assertEquals(4, polygon.getNumberOfVertices());
+      assertTrue(polygon.geometricallyEquals(createConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(expectedVertices)), EPSILON));
+
+      polygon = createConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(squareVertices));
+      assertFalse(polygon.offset(-1.5));
+      assertTrue(polygon.isEmpty());
+      assertTrue(polygon.isUpToDate());
+
+      polygon = createConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(squareVertices));
+      double[] distances = {-0.25, 0.5, -1.5};
+      ConvexPolygon2DBasics[] offsetPolygons = {createEmptyConvexPolygon2D(), createEmptyConvexPolygon2D(), createEmptyConvexPolygon2D()};
+      polygon.offset(distances, offsetPolygons);
+      assertTrue(offsetPolygons[0].geometricallyEquals(createConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(shrunkSquareVertices)), EPSILON));
+      assertTrue(offsetPolygons[1].geometricallyEquals(createConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(grownSquareVertices)), EPSILON));
+      assertTrue(offsetPolygons[2].isEmpty());
+      // The source polygon is left untouched.
+      assertTrue(polygon.geometricallyEquals(createConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(squareVertices)), EPSILON));
+   }
+
+   @Test
+   public void testRotatingCalipers()
+   {
+      double[][] rectangleVertices = {{-2.0, 1.0}, {2.0, 1.0}, {2.0, -1.0}, {-2.0, -1.0}};
+      T polygon = createConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(rectangleVertices));
+      Pose2D rectanglePose = new Pose2D();
+      Vector2D rectangleSize = new Vector2D();
+
+      assertEquals(Math.sqrt(20.0), polygon.getDiameter(), EPSILON);
+      assertEquals(2.0, polygon.getMinimumWidth(), EPSILON);
+      assertEquals(8.0, polygon.getMinimumAreaBoundingRectangle(rectanglePose, rectangleSize), EPSILON);
+      EuclidCoreTestTools.assertTuple2DEquals(new Point2D(), rectanglePose.getPosition(), EPSILON);
+      assertEquals(8.0, rectangleSize.getX() * rectangleSize.getY(), EPSILON);
+
+      // The properties are recomputed after the polygon has been modified.
+      polygon.translate(1.0, 0.0);
+      polygon.getMinimumAreaBoundingRectangle(rectanglePose, rectangleSize);
+      EuclidCoreTestTools.assertTuple2DEquals(new Point2D(1.0, 0.0), rectanglePose.getPosition(), EPSILON);
+
+      polygon.addVertex(5.0, 0.0);
+      polygon.update();
+      assertEquals(Math.sqrt(37.0), polygon.getDiameter(), EPSILON);
+
+      polygon.clearAndUpdate();
+      assertTrue(Double.isNaN(polygon.getDiameter()));
+      assertTrue(Double.isNaN(polygon.getMinimumWidth()));
+      assertTrue(Double.isNaN(polygon.getMinimumAreaBoundingRectangle(rectanglePose, rectangleSize)));
+
+      polygon = createConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(rectangleVertices));
+      T other = createConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(rectangleVertices));
+      other.translate(7.0, 5.0);
+      assertEquals(3.0 * Math.sqrt(2.0), polygon.distance(other), EPSILON);
+      other.translate(-4.0, 0.0);
+      assertEquals(3.0, polygon.distance(other), EPSILON);
+      other.translate(0.0, -2.5);
+      assertEquals(0.5, polygon.distance(other), EPSILON);
+      other.translate(0.0, -1.0);
+      assertEquals(0.0, polygon.distance(other), EPSILON);
+   }
+
    @Test
    public void testIsPointInside()
    {
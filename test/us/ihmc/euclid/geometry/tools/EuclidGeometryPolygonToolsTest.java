@@ -9,17 +9,28 @@ import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.closestVe
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.closestVertexIndexToPoint2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.closestVertexIndexToRay2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.computeConvexPolyong2DArea;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.convexHullOfTwoConvexPolygon2Ds;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.diameterOfConvexPolygon2D;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.distanceBetweenTwoConvexPolygon2Ds;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.edgeNormal;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.grahamScanAngleCompare;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.inPlaceAndrewMonotoneChainConvexHull2D;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.inPlaceConvexHull2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.inPlaceGiftWrapConvexHull2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.inPlaceGrahamScanConvexHull2D;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.inPlaceOffsetConvexPolygon2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.intersectionBetweenLine2DAndConvexPolygon2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.intersectionBetweenLineSegment2DAndConvexPolygon2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.intersectionBetweenRay2DAndConvexPolygon2D;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.intersectionBetweenTwoConvexPolygon2Ds;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.isPoint2DInsideConvexPolygon2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.isPolygon2DConvexAtVertex;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.lineOfSightEndIndex;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.lineOfSightStartIndex;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.minimumAreaBoundingRectangleOfConvexPolygon2D;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.minimumWidthOfConvexPolygon2D;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.minkowskiDifferenceOfTwoConvexPolygon2Ds;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.minkowskiSumOfTwoConvexPolygon2Ds;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.next;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.nextEdgeIndexIntersectingWithLine2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.orthogonalProjectionOnConvexPolygon2D;
@@ -32,7 +43,9 @@ import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.averagePoint2Ds;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.distanceFromPoint2DToLine2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.distanceFromPoint2DToLineSegment2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.distanceFromPoint2DToRay2D;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.doLineSegment2DsIntersect;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.intersectionBetweenTwoLine2Ds;
+import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.intersectionBetweenTwoLineSegment2Ds;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.isPoint2DInFrontOfRay2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.isPoint2DOnLeftSideOfLine2D;
 import static us.ihmc.euclid.geometry.tools.EuclidGeometryTools.isPoint2DOnRightSideOfLine2D;
@@ -54,8 +67,11 @@ import java.util.Set;
 
 import org.junit.Test;
 
+import us.ihmc.euclid.geometry.ConvexPolygon2D;
+import us.ihmc.euclid.geometry.Pose2D;
 import us.ihmc.euclid.geometry.interfaces.Vertex2DSupplier;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.Bound;
+import us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonTools.ConvexHullMethod;
 import us.ihmc.euclid.tools.EuclidCoreTestTools;
 import us.ihmc.euclid.tuple2D.Point2D;
 import us.ihmc.euclid.tuple2D.Vector2D;
@@ -212,6 +228,67 @@ public class EuclidGeometryPolygonToolsTest
       }
    }
 
+   @Test
+   public void testInPlaceAndrewMonotoneChainConvexHull2D() throws Exception
+   {
+      Random random = new Random(9784351L);
+      testConvexHullAlgorithm(random, (vertices, numberOfVertices) -> inPlaceAndrewMonotoneChainConvexHull2D(vertices, numberOfVertices));
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int numberOfVertices = 100;
+         List<? extends Point2DReadOnly> points = nextPointCloud2D(random, 10.0, 10.0, numberOfVertices);
+         List<? extends Point2DReadOnly> pointsCopy = new ArrayList<>(points);
+
+         int actualHullSize = inPlaceAndrewMonotoneChainConvexHull2D(points);
+         int expectedHullSize = inPlaceAndrewMonotoneChainConvexHull2D(pointsCopy, numberOfVertices);
+         assertEquals(expectedHullSize, actualHullSize);
+         assertEquals(points, pointsCopy);
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Test that the vertices lying on the edges of the hull are removed
+         List<Point2D> points = new ArrayList<>();
+         points.add(new Point2D(0.0, 0.0));
+         points.add(new Point2D(0.0, 1.0));
+         points.add(new Point2D(1.0, 1.0));
+         points.add(new Point2D(1.0, 0.0));
+
+         for (int j = 0; j < 20; j++)
+         {
+            double alpha = random.nextDouble();
+            switch (random.nextInt(4))
+            {
+            case 0:
+               points.add(new Point2D(0.0, alpha));
+               break;
+            case 1:
+               points.add(new Point2D(alpha, 1.0));
+               break;
+            case 2:
+               points.add(new Point2D(1.0, alpha));
+               break;
+            default:
+               points.add(new Point2D(alpha, 0.0));
+               break;
+            }
+         }
+         Collections.shuffle(points, random);
+
+         int hullSize = inPlaceAndrewMonotoneChainConvexHull2D(points);
+         assertEquals(4, hullSize);
+         assertTrue(points.get(0).epsilonEquals(new Point2D(0.0, 1.0), EPSILON));
+         assertTrue(points.get(1).epsilonEquals(new Point2D(1.0, 1.0), EPSILON));
+         assertTrue(points.get(2).epsilonEquals(new Point2D(1.0, 0.0), EPSILON));
+         assertTrue(points.get(3).epsilonEquals(new Point2D(0.0, 0.0), EPSILON));
+      }
+
+      for (ConvexHullMethod method : ConvexHullMethod.values())
+      {
+         testConvexHullAlgorithm(random, (vertices, numberOfVertices) -> inPlaceConvexHull2D(vertices, numberOfVertices, method));
+      }
+   }
+
    @Test
    public void testCompareConvexHullAlgorithms() throws Exception
    {
@@ -220,6 +297,7 @@ public class EuclidGeometryPolygonToolsTest
       List<ConvexHullAlgorithm> algorithmsToTest = new ArrayList<>();
       algorithmsToTest.add((vertices, numberOfVertices) -> inPlaceGiftWrapConvexHull2D(vertices, numberOfVertices));
       algorithmsToTest.add((vertices, numberOfVertices) -> inPlaceGrahamScanConvexHull2D(vertices, numberOfVertices));
+      algorithmsToTest.add((vertices, numberOfVertices) -> inPlaceAndrewMonotoneChainConvexHull2D(vertices, numberOfVertices));
 
       for (int i = 0; i < ITERATIONS; i++)
       {
@@ -1187,6 +1265,463 @@ public class EuclidGeometryPolygonToolsTest
       }
    }
 
+   @Test
+   public void testPoint2DQueriesAgainstExhaustiveSearch() throws Exception
+   {
+      Random random = new Random(4576L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Compares the binary searches used for large polygons against a search through all the edges
+         List<Point2D> convexPolygon2D = nextPointCloud2D(random, 10.0, 10.0, 200);
+         int hullSize = inPlaceGrahamScanConvexHull2D(convexPolygon2D);
+         boolean clockwiseOrdered = random.nextBoolean();
+
+         if (!clockwiseOrdered)
+            Collections.reverse(convexPolygon2D.subList(0, hullSize));
+         Collections.rotate(convexPolygon2D.subList(0, hullSize), random.nextInt(hullSize));
+
+         for (int j = 0; j < 10; j++)
+         {
+            Point2D query = nextPoint2D(random, 15.0);
+
+            boolean isQueryOutside = false;
+            double expectedDistance = Double.POSITIVE_INFINITY;
+            int expectedClosestEdgeIndex = -1;
+            double minOutsideDistance = Double.POSITIVE_INFINITY;
+
+            for (int edgeIndex = 0; edgeIndex < hullSize; edgeIndex++)
+            {
+               Point2DReadOnly edgeStart = convexPolygon2D.get(edgeIndex);
+               Point2DReadOnly edgeEnd = convexPolygon2D.get(next(edgeIndex, hullSize));
+               double distance = distanceFromPoint2DToLineSegment2D(query, edgeStart, edgeEnd);
+               expectedDistance = Math.min(expectedDistance, distance);
+
+               boolean isOutsideEdge = clockwiseOrdered ? isPoint2DOnLeftSideOfLine2D(query, edgeStart, edgeEnd)
+                     : isPoint2DOnRightSideOfLine2D(query, edgeStart, edgeEnd);
+
+               if (isOutsideEdge)
+               {
+                  isQueryOutside = true;
+
+                  if (distance < minOutsideDistance)
+                  {
+                     minOutsideDistance = distance;
+                     expectedClosestEdgeIndex = edgeIndex;
+                  }
+               }
+            }
+
+            if (!isQueryOutside)
+               expectedDistance = -expectedDistance;
+
+            double actualDistance = signedDistanceFromPoint2DToConvexPolygon2D(query, convexPolygon2D, hullSize, clockwiseOrdered);
+            assertEquals(expectedDistance, actualDistance, SMALLEST_EPSILON);
+            assertEquals(!isQueryOutside, isPoint2DInsideConvexPolygon2D(query, convexPolygon2D, hullSize, clockwiseOrdered, 0.0));
+            double epsilon = random.nextDouble();
+            assertEquals(expectedDistance <= epsilon, isPoint2DInsideConvexPolygon2D(query, convexPolygon2D, hullSize, clockwiseOrdered, epsilon));
+
+            if (isQueryOutside)
+               assertEquals(expectedClosestEdgeIndex, closestEdgeIndexToPoint2D(query, convexPolygon2D, hullSize, clockwiseOrdered));
+         }
+      }
+   }
+
+   @Test
+   public void testIntersectionBetweenTwoConvexPolygon2Ds() throws Exception
+   {
+      Random random = new Random(34587L);
+      ConvexPolygon2D expected = new ConvexPolygon2D();
+      ConvexPolygon2D actual = new ConvexPolygon2D();
+      Point2D edgeIntersection = new Point2D();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Compares against the hull of the vertices inside the other polygon and of the intersections between edges
+         boolean firstClockwiseOrdered = random.nextBoolean();
+         boolean secondClockwiseOrdered = random.nextBoolean();
+         List<Point2D> firstPolygon = nextShuffledConvexPolygon2D(random, firstClockwiseOrdered, 3.0, 5.0, 20);
+         List<Point2D> secondPolygon = nextShuffledConvexPolygon2D(random, secondClockwiseOrdered, 3.0, 5.0, 20);
+         int firstSize = firstPolygon.size();
+         int secondSize = secondPolygon.size();
+
+         expected.clear();
+
+         for (Point2D vertex : firstPolygon)
+         {
+            if (isPoint2DInsideConvexPolygon2D(vertex, secondPolygon, secondSize, secondClockwiseOrdered, 0.0))
+               expected.addVertex(vertex);
+         }
+
+         for (Point2D vertex : secondPolygon)
+         {
+            if (isPoint2DInsideConvexPolygon2D(vertex, firstPolygon, firstSize, firstClockwiseOrdered, 0.0))
+               expected.addVertex(vertex);
+         }
+
+         for (int firstIndex = 0; firstIndex < firstSize; firstIndex++)
+         {
+            for (int secondIndex = 0; secondIndex < secondSize; secondIndex++)
+            {
+               if (intersectionBetweenTwoLineSegment2Ds(firstPolygon.get(firstIndex), firstPolygon.get(next(firstIndex, firstSize)),
+                                                        secondPolygon.get(secondIndex), secondPolygon.get(next(secondIndex, secondSize)), edgeIntersection))
+                  expected.addVertex(edgeIntersection);
+            }
+         }
+
+         expected.update();
+
+         boolean intersect = intersectionBetweenTwoConvexPolygon2Ds(firstPolygon, firstSize, firstClockwiseOrdered, secondPolygon, secondSize,
+                                                                    secondClockwiseOrdered, actual);
+         assertEquals(!expected.isEmpty(), intersect);
+         assertEquals(expected.isEmpty(), actual.isEmpty());
+
+         if (intersect)
+         {
+            assertEquals(expected.getArea(), actual.getArea(), SMALL_EPSILON);
+            for (int vertexIndex = 0; vertexIndex < actual.getNumberOfVertices(); vertexIndex++)
+               assertTrue(expected.isPointInside(actual.getVertex(vertexIndex), SMALL_EPSILON));
+            for (int vertexIndex = 0; vertexIndex < expected.getNumberOfVertices(); vertexIndex++)
+               assertTrue(actual.isPointInside(expected.getVertex(vertexIndex), SMALL_EPSILON));
+         }
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // The boundaries of the two polygons overlap
+         ConvexPolygon2D polygon = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(nextPointCloud2D(random, 3.0, 5.0, 20)));
+         ConvexPolygon2D copy = new ConvexPolygon2D(polygon);
+
+         assertTrue(polygon.intersectionWith(copy, actual));
+         assertTrue(polygon.geometricallyEquals(actual, SMALL_EPSILON));
+
+         // Shrinking the copy about one of its vertices such that it is inside the polygon and shares two edges with it.
+         copy.scale(polygon.getVertex(random.nextInt(polygon.getNumberOfVertices())), random.nextDouble());
+         assertTrue(polygon.intersectionWith(copy, actual));
+         assertTrue(copy.geometricallyEquals(actual, SMALL_EPSILON));
+         assertTrue(copy.intersectionWith(polygon, actual));
+         assertTrue(copy.geometricallyEquals(actual, SMALL_EPSILON));
+      }
+
+      // The intersection of touching squares is their common edge, or vertex.
+      ConvexPolygon2D square = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(new double[][] {{0.0, 0.0}, {1.0, 0.0}, {1.0, 1.0}, {0.0, 1.0}}));
+      ConvexPolygon2D other = new ConvexPolygon2D(square);
+      other.translate(1.0, 0.0);
+      assertTrue(square.intersectionWith(other, actual));
+      assertEquals(2, actual.getNumberOfVertices());
+      assertEquals(0.0, actual.getArea(), SMALLEST_EPSILON);
+      other.translate(0.0, 1.0);
+      assertTrue(square.intersectionWith(other, actual));
+      assertEquals(1, actual.getNumberOfVertices());
+      EuclidCoreTestTools.assertTuple2DEquals(new Point2D(1.0, 1.0), actual.getVertex(0), SMALLEST_EPSILON);
+      other.translate(0.5, 0.0);
+      assertFalse(square.intersectionWith(other, actual));
+      assertTrue(actual.isEmpty());
+
+      try
+      {
+         square.intersectionWith(other, square);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+   }
+
+   @Test
+   public void testMinkowskiSumAndDifferenceOfTwoConvexPolygon2Ds() throws Exception
+   {
+      Random random = new Random(2398L);
+      ConvexPolygon2D expected = new ConvexPolygon2D();
+      ConvexPolygon2D actual = new ConvexPolygon2D();
+      ConvexPolygon2D intersection = new ConvexPolygon2D();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         boolean firstClockwiseOrdered = random.nextBoolean();
+         boolean secondClockwiseOrdered = random.nextBoolean();
+         List<Point2D> firstPolygon = nextShuffledConvexPolygon2D(random, firstClockwiseOrdered, 3.0, 5.0, 1 + random.nextInt(20));
+         List<Point2D> secondPolygon = nextShuffledConvexPolygon2D(random, secondClockwiseOrdered, 3.0, 5.0, 1 + random.nextInt(20));
+         int firstSize = firstPolygon.size();
+         int secondSize = secondPolygon.size();
+
+         for (int sign = -1; sign <= 1; sign += 2)
+         { // Compares against the hull of the pairwise sums, or differences, of the vertices
+            expected.clear();
+            for (Point2D firstVertex : firstPolygon)
+            {
+               for (Point2D secondVertex : secondPolygon)
+                  expected.addVertex(firstVertex.getX() + sign * secondVertex.getX(), firstVertex.getY() + sign * secondVertex.getY());
+            }
+            expected.update();
+
+            if (sign > 0)
+               minkowskiSumOfTwoConvexPolygon2Ds(firstPolygon, firstSize, firstClockwiseOrdered, secondPolygon, secondSize, secondClockwiseOrdered, actual);
+            else
+               minkowskiDifferenceOfTwoConvexPolygon2Ds(firstPolygon, firstSize, firstClockwiseOrdered, secondPolygon, secondSize, secondClockwiseOrdered,
+                                                        actual);
+
+            assertTrue(expected.geometricallyEquals(actual, SMALL_EPSILON));
+         }
+
+         if (firstSize >= 3 && secondSize >= 3)
+         { // The polygons intersect if and only if their difference contains the origin.
+            boolean intersect = intersectionBetweenTwoConvexPolygon2Ds(firstPolygon, firstSize, firstClockwiseOrdered, secondPolygon, secondSize,
+                                                                       secondClockwiseOrdered, intersection);
+            assertEquals(intersect, actual.isPointInside(0.0, 0.0));
+         }
+      }
+
+      ConvexPolygon2D polygon = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(nextPointCloud2D(random, 3.0, 5.0, 20)));
+      polygon.minkowskiSum(new ConvexPolygon2D(), actual);
+      assertTrue(actual.isEmpty());
+
+      try
+      {
+         polygon.minkowskiDifference(actual, actual);
+         fail("Should have thrown an exception");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+   }
+
+   @Test
+   public void testConvexHullOfTwoConvexPolygon2Ds() throws Exception
+   {
+      Random random = new Random(9823L);
+      ConvexPolygon2D expected = new ConvexPolygon2D();
+      ConvexPolygon2D actual = new ConvexPolygon2D();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Compares against the hull of all the vertices
+         boolean firstClockwiseOrdered = random.nextBoolean();
+         boolean secondClockwiseOrdered = random.nextBoolean();
+         List<Point2D> firstPolygon = nextShuffledConvexPolygon2D(random, firstClockwiseOrdered, 3.0, 5.0, random.nextInt(20));
+         List<Point2D> secondPolygon = nextShuffledConvexPolygon2D(random, secondClockwiseOrdered, 3.0, 5.0, random.nextInt(20));
+
+         expected.clear();
+         expected.addVertices(Vertex2DSupplier.asVertex2DSupplier(firstPolygon));
+         expected.addVertices(Vertex2DSupplier.asVertex2DSupplier(secondPolygon));
+         expected.update();
+
+         convexHullOfTwoConvexPolygon2Ds(firstPolygon, firstPolygon.size(), firstClockwiseOrdered, secondPolygon, secondPolygon.size(),
+                                         secondClockwiseOrdered, actual);
+         assertTrue(expected.geometricallyEquals(actual, SMALLEST_EPSILON));
+
+         actual.set(new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(firstPolygon)),
+                    new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(secondPolygon)));
+         assertTrue(expected.geometricallyEquals(actual, SMALLEST_EPSILON));
+      }
+   }
+
+   @Test
+   public void testInPlaceOffsetConvexPolygon2D() throws Exception
+   {
+      Random random = new Random(23451L);
+      ConvexPolygon2D offsetPolygon = new ConvexPolygon2D();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Shrinking keeps the points that are at least the distance away from the edges
+         ConvexPolygon2D polygon = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(nextPointCloud2D(random, 3.0, 5.0, 3 + random.nextInt(30))));
+         double distance = -nextDouble(random, 0.0, 3.0);
+         offsetPolygon.set(polygon);
+         boolean isNotEmpty = inPlaceOffsetConvexPolygon2D(distance, offsetPolygon);
+         assertEquals(isNotEmpty, !offsetPolygon.isEmpty());
+         assertTrue(offsetPolygon.isUpToDate());
+
+         for (int vertexIndex = 0; vertexIndex < offsetPolygon.getNumberOfVertices(); vertexIndex++)
+            assertEquals(distance, polygon.signedDistance(offsetPolygon.getVertex(vertexIndex)), SMALL_EPSILON);
+
+         for (int j = 0; j < 100; j++)
+         {
+            Point2D query = nextPoint2D(random, 8.0);
+            double signedDistance = polygon.signedDistance(query);
+
+            if (Math.abs(signedDistance - distance) > SMALL_EPSILON)
+               assertEquals(signedDistance < distance, offsetPolygon.isPointInside(query));
+         }
+
+         if (isNotEmpty)
+         { // The polygon is still up-to-date and starts with its min-x max-y vertex
+            Point2D expectedCentroid = new Point2D();
+            double expectedArea = computeConvexPolyong2DArea(offsetPolygon.getVertexBufferView(), offsetPolygon.getNumberOfVertices(), true,
+                                                             expectedCentroid);
+            assertEquals(expectedArea, offsetPolygon.getArea(), SMALLEST_EPSILON);
+            EuclidCoreTestTools.assertTuple2DEquals(expectedCentroid, offsetPolygon.getCentroid(), SMALLEST_EPSILON);
+            assertEquals(0, EuclidGeometryPolygonTools.findMinXMaxYVertexIndex(offsetPolygon.getVertexBufferView(), offsetPolygon.getNumberOfVertices()));
+         }
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Growing keeps all the edges, shrinking back by the same distance gives the original polygon
+         ConvexPolygon2D polygon = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(nextPointCloud2D(random, 3.0, 5.0, 3 + random.nextInt(30))));
+         double distance = nextDouble(random, 0.0, 3.0);
+         offsetPolygon.set(polygon);
+         assertTrue(inPlaceOffsetConvexPolygon2D(distance, offsetPolygon));
+         assertEquals(polygon.getNumberOfVertices(), offsetPolygon.getNumberOfVertices());
+         assertTrue(offsetPolygon.isPointInside(polygon.getCentroid()));
+         assertTrue(inPlaceOffsetConvexPolygon2D(-distance, offsetPolygon));
+         // The miters of sharp vertices amplify the round-off errors.
+         assertTrue(polygon.geometricallyEquals(offsetPolygon, EPSILON));
+      }
+
+      { // A line segment has no edge normal to grow along
+         ConvexPolygon2D lineSegment = new ConvexPolygon2D(Vertex2DSupplier.asVertex2DSupplier(nextPointCloud2D(random, 3.0, 5.0, 2)));
+         offsetPolygon.set(lineSegment);
+         assertTrue(inPlaceOffsetConvexPolygon2D(1.0, offsetPolygon));
+         assertTrue(lineSegment.geometricallyEquals(offsetPolygon, SMALLEST_EPSILON));
+         assertFalse(inPlaceOffsetConvexPolygon2D(-1.0, offsetPolygon));
+         assertTrue(offsetPolygon.isEmpty());
+      }
+   }
+
+   @Test
+   public void testRotatingCalipersOfConvexPolygon2D() throws Exception
+   {
+      Random random = new Random(8734L);
+      Pose2D rectanglePose = new Pose2D();
+      Vector2D rectangleSize = new Vector2D();
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Compares against the exhaustive search over the vertices and edges
+         boolean clockwiseOrdered = random.nextBoolean();
+         List<Point2D> polygon = nextShuffledConvexPolygon2D(random, clockwiseOrdered, 3.0, 5.0, 1 + random.nextInt(30));
+         int size = polygon.size();
+
+         double expectedDiameter = 0.0;
+         for (Point2D firstVertex : polygon)
+         {
+            for (Point2D secondVertex : polygon)
+               expectedDiameter = Math.max(expectedDiameter, firstVertex.distance(secondVertex));
+         }
+         assertEquals(expectedDiameter, diameterOfConvexPolygon2D(polygon, size, clockwiseOrdered), SMALLEST_EPSILON);
+
+         double expectedWidth = size < 3 ? 0.0 : Double.POSITIVE_INFINITY;
+         double expectedArea = size < 2 ? 0.0 : Double.POSITIVE_INFINITY;
+
+         for (int edgeIndex = 0; edgeIndex < size; edgeIndex++)
+         {
+            Point2D edgeStart = polygon.get(edgeIndex);
+            Point2D edgeEnd = polygon.get(next(edgeIndex, size));
+            double edgeLength = edgeStart.distance(edgeEnd);
+            double height = 0.0;
+            double minProjection = Double.POSITIVE_INFINITY;
+            double maxProjection = Double.NEGATIVE_INFINITY;
+
+            for (Point2D vertex : polygon)
+            {
+               height = Math.max(height, distanceFromPoint2DToLine2D(vertex, edgeStart, edgeEnd));
+               double projection = ((vertex.getX() - edgeStart.getX()) * (edgeEnd.getX() - edgeStart.getX())
+                     + (vertex.getY() - edgeStart.getY()) * (edgeEnd.getY() - edgeStart.getY())) / edgeLength;
+               minProjection = Math.min(minProjection, projection);
+               maxProjection = Math.max(maxProjection, projection);
+            }
+
+            if (size >= 3)
+               expectedWidth = Math.min(expectedWidth, height);
+            if (size >= 2)
+               expectedArea = Math.min(expectedArea, (maxProjection - minProjection) * height);
+         }
+
+         assertEquals(expectedWidth, minimumWidthOfConvexPolygon2D(polygon, size, clockwiseOrdered), SMALLEST_EPSILON);
+         double area = minimumAreaBoundingRectangleOfConvexPolygon2D(polygon, size, clockwiseOrdered, rectanglePose, rectangleSize);
+         assertEquals(expectedArea, area, SMALL_EPSILON);
+         assertEquals(area, rectangleSize.getX() * rectangleSize.getY(), SMALL_EPSILON);
+
+         double cosYaw = Math.cos(rectanglePose.getYaw());
+         double sinYaw = Math.sin(rectanglePose.getYaw());
+
+         for (Point2D vertex : polygon)
+         { // The rectangle encloses the polygon
+            double x = vertex.getX() - rectanglePose.getX();
+            double y = vertex.getY() - rectanglePose.getY();
+            assertTrue(Math.abs(cosYaw * x + sinYaw * y) <= 0.5 * rectangleSize.getX() + SMALL_EPSILON);
+            assertTrue(Math.abs(-sinYaw * x + cosYaw * y) <= 0.5 * rectangleSize.getY() + SMALL_EPSILON);
+         }
+      }
+
+      { // Collinear vertices
+         List<Point2D> square = new ArrayList<>();
+         double[][] squareVertices = {{0.0, 0.0}, {1.0, 0.0}, {2.0, 0.0}, {2.0, 1.0}, {2.0, 2.0}, {1.0, 2.0}, {0.0, 2.0}, {0.0, 1.0}};
+         for (double[] vertex : squareVertices)
+            square.add(new Point2D(vertex[0], vertex[1]));
+         assertEquals(Math.sqrt(8.0), diameterOfConvexPolygon2D(square, square.size(), false), SMALLEST_EPSILON);
+         assertEquals(2.0, minimumWidthOfConvexPolygon2D(square, square.size(), false), SMALLEST_EPSILON);
+         assertEquals(4.0, minimumAreaBoundingRectangleOfConvexPolygon2D(square, square.size(), false, rectanglePose, rectangleSize), SMALLEST_EPSILON);
+         EuclidCoreTestTools.assertTuple2DEquals(new Point2D(1.0, 1.0), rectanglePose.getPosition(), SMALLEST_EPSILON);
+      }
+
+      List<Point2D> emptyPolygon = new ArrayList<>();
+      assertTrue(Double.isNaN(diameterOfConvexPolygon2D(emptyPolygon, 0, true)));
+      assertTrue(Double.isNaN(minimumWidthOfConvexPolygon2D(emptyPolygon, 0, true)));
+      assertTrue(Double.isNaN(minimumAreaBoundingRectangleOfConvexPolygon2D(emptyPolygon, 0, true, rectanglePose, rectangleSize)));
+      assertTrue(rectanglePose.containsNaN());
+   }
+
+   @Test
+   public void testDistanceBetweenTwoConvexPolygon2Ds() throws Exception
+   {
+      Random random = new Random(6512L);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // Compares against the exhaustive search over the pairs of edges
+         boolean firstClockwiseOrdered = random.nextBoolean();
+         boolean secondClockwiseOrdered = random.nextBoolean();
+         List<Point2D> firstPolygon = nextShuffledConvexPolygon2D(random, firstClockwiseOrdered, 5.0, 3.0, 1 + random.nextInt(20));
+         List<Point2D> secondPolygon = nextShuffledConvexPolygon2D(random, secondClockwiseOrdered, 5.0, 3.0, 1 + random.nextInt(20));
+         int firstSize = firstPolygon.size();
+         int secondSize = secondPolygon.size();
+
+         double expected = Double.POSITIVE_INFINITY;
+
+         for (int firstIndex = 0; firstIndex < firstSize; firstIndex++)
+         {
+            Point2D firstEdgeStart = firstPolygon.get(firstIndex);
+            Point2D firstEdgeEnd = firstPolygon.get(next(firstIndex, firstSize));
+
+            for (int secondIndex = 0; secondIndex < secondSize; secondIndex++)
+            {
+               Point2D secondEdgeStart = secondPolygon.get(secondIndex);
+               Point2D secondEdgeEnd = secondPolygon.get(next(secondIndex, secondSize));
+               expected = Math.min(expected, distanceFromPoint2DToLineSegment2D(firstEdgeStart, secondEdgeStart, secondEdgeEnd));
+               expected = Math.min(expected, distanceFromPoint2DToLineSegment2D(secondEdgeStart, firstEdgeStart, firstEdgeEnd));
+
+               if (firstSize >= 2 && secondSize >= 2 && doLineSegment2DsIntersect(firstEdgeStart, firstEdgeEnd, secondEdgeStart, secondEdgeEnd))
+                  expected = 0.0;
+            }
+         }
+
+         if (secondSize >= 3 && isPoint2DInsideConvexPolygon2D(firstPolygon.get(0), secondPolygon, secondSize, secondClockwiseOrdered, 0.0))
+            expected = 0.0;
+         if (firstSize >= 3 && isPoint2DInsideConvexPolygon2D(secondPolygon.get(0), firstPolygon, firstSize, firstClockwiseOrdered, 0.0))
+            expected = 0.0;
+
+         double actual = distanceBetweenTwoConvexPolygon2Ds(firstPolygon, firstSize, firstClockwiseOrdered, secondPolygon, secondSize,
+                                                            secondClockwiseOrdered);
+         assertEquals(expected, actual, SMALL_EPSILON);
+         assertEquals(actual, distanceBetweenTwoConvexPolygon2Ds(secondPolygon, secondSize, secondClockwiseOrdered, firstPolygon, firstSize,
+                                                                 firstClockwiseOrdered),
+                      SMALL_EPSILON);
+      }
+
+      List<Point2D> polygon = nextShuffledConvexPolygon2D(random, true, 5.0, 3.0, 10);
+      assertTrue(Double.isNaN(distanceBetweenTwoConvexPolygon2Ds(polygon, polygon.size(), true, new ArrayList<Point2D>(), 0, true)));
+   }
+
+   private static List<Point2D> nextShuffledConvexPolygon2D(Random random, boolean clockwiseOrdered, double centerMinMax, double minMax,
+                                                            int numberOfPoints)
+   {
+      List<Point2D> convexPolygon2D = nextPointCloud2D(random, centerMinMax, minMax, numberOfPoints);
+      int hullSize = inPlaceGrahamScanConvexHull2D(convexPolygon2D);
+      convexPolygon2D = new ArrayList<>(convexPolygon2D.subList(0, hullSize));
+
+      if (!clockwiseOrdered)
+         Collections.reverse(convexPolygon2D);
+      if (hullSize > 0)
+         Collections.rotate(convexPolygon2D, random.nextInt(hullSize));
+      return convexPolygon2D;
+   }
+
    @Test
    public void testIntersectionBetweenLine2DAndConvexPolygon2D() throws Exception
    {
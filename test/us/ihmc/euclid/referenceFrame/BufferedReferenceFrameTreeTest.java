@@ -0,0 +1,165 @@
+package us.ihmc.euclid.referenceFrame;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+public class BufferedReferenceFrameTreeTest
+{
+   private static final int ITERATIONS = 100;
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testPublishAndRead() throws Exception
+   {
+      Random random = new Random(2346);
+      ReferenceFrame root = ReferenceFrame.constructARootFrame("root");
+      RigidBodyTransform[] transforms = new RigidBodyTransform[20];
+      ReferenceFrame[] frames = new ReferenceFrame[transforms.length];
+
+      for (int i = 0; i < frames.length; i++)
+      {
+         RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         transforms[i] = transform;
+         ReferenceFrame parent = i == 0 ? root : frames[random.nextInt(i)];
+         frames[i] = new ReferenceFrame("frame" + i, parent)
+         {
+            @Override
+            protected void updateTransformToParent(RigidBodyTransform transformToParent)
+            {
+               transformToParent.set(transform);
+            }
+         };
+      }
+
+      ReferenceFrameTree tree = ReferenceFrameTree.fromSubtree(root);
+      BufferedReferenceFrameTree bufferedTree = new BufferedReferenceFrameTree(tree);
+      BufferedReferenceFrameTree.Reader reader = bufferedTree.newReader();
+
+      assertFalse(reader.update());
+      assertEquals(-1, reader.getTick());
+
+      RigidBodyTransform actual = new RigidBodyTransform();
+
+      for (int iteration = 0; iteration < ITERATIONS; iteration++)
+      {
+         for (RigidBodyTransform transform : transforms)
+            transform.set(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+
+         tree.updateAll();
+         bufferedTree.publish();
+
+         RigidBodyTransform[] expectedTransformsToRoot = new RigidBodyTransform[frames.length];
+         for (int i = 0; i < frames.length; i++)
+            expectedTransformsToRoot[i] = new RigidBodyTransform(frames[i].getTransformToRoot());
+
+         // The reader keeps reading the previous tick until it updates.
+         assertEquals(bufferedTree.getTick() - 1, reader.getTick());
+
+         assertTrue(reader.update());
+         assertFalse(reader.update());
+         assertEquals(bufferedTree.getTick(), reader.getTick());
+
+         for (int i = 0; i < frames.length; i++)
+         {
+            reader.getTransformToRoot(frames[i], actual);
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expectedTransformsToRoot[i], actual, EPSILON);
+
+            ReferenceFrame desiredFrame = random.nextBoolean() ? root : frames[random.nextInt(frames.length)];
+            reader.getTransformToDesiredFrame(frames[i], actual, desiredFrame);
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(frames[i].getTransformToDesiredFrame(desiredFrame), actual, EPSILON);
+         }
+
+         reader.getTransformToRoot(root, actual);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(new RigidBodyTransform(), actual, EPSILON);
+      }
+   }
+
+   @Test
+   public void testConsistentTicks() throws Exception
+   {
+      ReferenceFrame root = ReferenceFrame.constructARootFrame("root");
+      AtomicReference<Double> translation = new AtomicReference<>(0.0);
+      ReferenceFrame[] frames = new ReferenceFrame[50];
+
+      for (int i = 0; i < frames.length; i++)
+      {
+         frames[i] = new ReferenceFrame("frame" + i, root)
+         {
+            @Override
+            protected void updateTransformToParent(RigidBodyTransform transformToParent)
+            {
+               double value = translation.get();
+               transformToParent.setTranslation(value, value, value);
+            }
+         };
+      }
+
+      ReferenceFrameTree tree = ReferenceFrameTree.fromSubtree(root);
+      BufferedReferenceFrameTree bufferedTree = new BufferedReferenceFrameTree(tree);
+      BufferedReferenceFrameTree.Reader[] readers = {bufferedTree.newReader(), bufferedTree.newReader()};
+      AtomicBoolean done = new AtomicBoolean(false);
+      AtomicReference<Throwable> error = new AtomicReference<>();
+      Thread[] readerThreads = new Thread[readers.length];
+
+      for (int i = 0; i < readers.length; i++)
+      {
+         BufferedReferenceFrameTree.Reader reader = readers[i];
+         readerThreads[i] = new Thread(() ->
+         {
+            RigidBodyTransform transform = new RigidBodyTransform();
+            long previousTick = -1;
+
+            try
+            {
+               while (!done.get())
+               {
+                  if (!reader.update())
+                     continue;
+
+                  assertTrue(reader.getTick() > previousTick);
+                  previousTick = reader.getTick();
+                  reader.getTransformToRoot(frames[0], transform);
+                  double expected = transform.getTranslationX();
+
+                  for (ReferenceFrame frame : frames)
+                  {
+                     reader.getTransformToRoot(frame, transform);
+                     assertEquals(expected, transform.getTranslationX(), 0.0);
+                  }
+               }
+            }
+            catch (Throwable e)
+            {
+               error.set(e);
+            }
+         });
+         readerThreads[i].start();
+      }
+
+      for (int k = 0; k < 20000; k++)
+      {
+         translation.set((double) k);
+         tree.updateAll();
+         bufferedTree.publish();
+      }
+
+      done.set(true);
+
+      for (Thread readerThread : readerThreads)
+         readerThread.join();
+
+      if (error.get() != null)
+         throw new AssertionError(error.get());
+   }
+}
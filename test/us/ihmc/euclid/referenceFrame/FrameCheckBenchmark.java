@@ -0,0 +1,131 @@
+package us.ihmc.euclid.referenceFrame;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.Random;
+
+import us.ihmc.euclid.referenceFrame.tools.EuclidFrameRandomTools;
+import us.ihmc.euclid.tuple3D.interfaces.Point3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Tuple3DReadOnly;
+import us.ihmc.euclid.tuple3D.interfaces.Vector3DReadOnly;
+
+/**
+ * Measures the cost of the reference frame checks on a typical workload of frame tuple operations.
+ * <p>
+ * As {@link ReferenceFrame#FRAME_CHECKS_ENABLED} is a constant, the workload is run in two separate
+ * JVMs: one with the checks enabled and one with the checks disabled using the system property
+ * {@value ReferenceFrame#FRAME_CHECKS_PROPERTY}. When disabled, the checks are folded away by the
+ * JIT compiler and the workload runs as fast as the equivalent operations on frameless tuples, which
+ * is also measured for reference.
+ * </p>
+ * <p>
+ * The compiled code can be inspected by adding the JVM options
+ * {@code -XX:+UnlockDiagnosticVMOptions -XX:+PrintAssembly} to the child JVMs.
+ * </p>
+ */
+public class FrameCheckBenchmark
+{
+   private static final String RUN_WORKLOAD_ARGUMENT = "--run-workload";
+   private static final int NUMBER_OF_TUPLES = 1024;
+   private static final int WARMUP_ITERATIONS = 20000;
+   private static final int ITERATIONS = 50000;
+
+   public static void main(String[] args) throws IOException, InterruptedException
+   {
+      if (args.length > 0 && args[0].equals(RUN_WORKLOAD_ARGUMENT))
+      {
+         runWorkload();
+      }
+      else
+      {
+         runInChildJVM(true);
+         runInChildJVM(false);
+      }
+   }
+
+   private static void runInChildJVM(boolean enableFrameChecks) throws IOException, InterruptedException
+   {
+      String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+      ProcessBuilder processBuilder = new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                                                         "-D" + ReferenceFrame.FRAME_CHECKS_PROPERTY + "=" + enableFrameChecks,
+                                                         FrameCheckBenchmark.class.getName(), RUN_WORKLOAD_ARGUMENT);
+      processBuilder.redirectErrorStream(true);
+      Process process = processBuilder.start();
+
+      try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream())))
+      {
+         String line;
+         while ((line = reader.readLine()) != null)
+            System.out.println(line);
+      }
+
+      process.waitFor();
+   }
+
+   private static void runWorkload()
+   {
+      Random random = new Random(3453);
+      ReferenceFrame frame = EuclidFrameRandomTools.nextReferenceFrame(random);
+      FramePoint3D[] points = new FramePoint3D[NUMBER_OF_TUPLES];
+      FrameVector3D[] vectors = new FrameVector3D[NUMBER_OF_TUPLES];
+
+      for (int i = 0; i < NUMBER_OF_TUPLES; i++)
+      {
+         points[i] = EuclidFrameRandomTools.nextFramePoint3D(random, frame);
+         vectors[i] = EuclidFrameRandomTools.nextFrameVector3D(random, frame);
+      }
+
+      FrameVector3D sum = new FrameVector3D(frame);
+
+      for (int i = 0; i < WARMUP_ITERATIONS; i++)
+         runFrameOperations(points, vectors, sum);
+      for (int i = 0; i < WARMUP_ITERATIONS; i++)
+         runFramelessOperations(points, vectors, sum);
+
+      long start = System.nanoTime();
+      double result = 0.0;
+      for (int i = 0; i < ITERATIONS; i++)
+         result += runFrameOperations(points, vectors, sum);
+      double frameNanosPerOperation = (double) (System.nanoTime() - start) / ITERATIONS / NUMBER_OF_TUPLES;
+
+      start = System.nanoTime();
+      for (int i = 0; i < ITERATIONS; i++)
+         result += runFramelessOperations(points, vectors, sum);
+      double framelessNanosPerOperation = (double) (System.nanoTime() - start) / ITERATIONS / NUMBER_OF_TUPLES;
+
+      System.out.println("Frame checks enabled: " + ReferenceFrame.FRAME_CHECKS_ENABLED + " (result: " + result + ")");
+      System.out.println(String.format("\tFrame operations:     %6.2f ns/tuple", frameNanosPerOperation));
+      System.out.println(String.format("\tFrameless operations: %6.2f ns/tuple", framelessNanosPerOperation));
+   }
+
+   private static double runFrameOperations(FramePoint3D[] points, FrameVector3D[] vectors, FrameVector3D sum)
+   {
+      double result = 0.0;
+
+      for (int i = 1; i < points.length; i++)
+      {
+         result += points[i].distance(points[i - 1]);
+         result += vectors[i].dot(vectors[i - 1]);
+         sum.add(vectors[i]);
+      }
+
+      return result;
+   }
+
+   private static double runFramelessOperations(FramePoint3D[] points, FrameVector3D[] vectors, FrameVector3D sum)
+   {
+      double result = 0.0;
+
+      for (int i = 1; i < points.length; i++)
+      {
+         // Casting the arguments to select the frameless overloads which do not check the frames.
+         result += points[i].distance((Point3DReadOnly) points[i - 1]);
+         result += vectors[i].dot((Vector3DReadOnly) vectors[i - 1]);
+         sum.add((Tuple3DReadOnly) vectors[i]);
+      }
+
+      return result;
+   }
+}
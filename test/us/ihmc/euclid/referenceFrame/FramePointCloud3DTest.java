@@ -0,0 +1,225 @@
+package us.ihmc.euclid.referenceFrame;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.geometry.BoundingBox3D;
+import us.ihmc.euclid.geometry.interfaces.Vertex3DSupplier;
+import us.ihmc.euclid.referenceFrame.exceptions.ReferenceFrameMismatchException;
+import us.ihmc.euclid.referenceFrame.interfaces.FrameVertex3DSupplier;
+import us.ihmc.euclid.referenceFrame.tools.EuclidFrameRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+public class FramePointCloud3DTest
+{
+   private static final int ITERATIONS = 100;
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testAddAndGet() throws Exception
+   {
+      Random random = new Random(3454);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ReferenceFrame frame = EuclidFrameRandomTools.nextReferenceFrame(random);
+         // Small initial capacity to test the growth.
+         FramePointCloud3D cloud = new FramePointCloud3D(frame, 1);
+         List<Point3D> points = nextPoints(random, random.nextInt(100));
+
+         for (Point3D point : points)
+            cloud.add(point);
+
+         assertEquals(points.size(), cloud.getNumberOfPoints());
+         assertEquals(points.size(), cloud.getNumberOfVertices());
+         assertTrue(cloud.getReferenceFrame() == frame);
+
+         FramePoint3D actual = new FramePoint3D();
+
+         for (int j = 0; j < points.size(); j++)
+         {
+            cloud.getPointIncludingFrame(j, actual);
+            assertTrue(actual.getReferenceFrame() == frame);
+            EuclidCoreTestTools.assertTuple3DEquals(points.get(j), actual, 0.0);
+            EuclidCoreTestTools.assertTuple3DEquals(points.get(j), cloud.getVertex(j), 0.0);
+            assertTrue(cloud.getVertex(j).getReferenceFrame() == frame);
+         }
+
+         try
+         {
+            cloud.getX(points.size());
+            fail("Should have thrown an IndexOutOfBoundsException");
+         }
+         catch (IndexOutOfBoundsException e)
+         {
+            // good
+         }
+
+         try
+         {
+            cloud.add(new FramePoint3D(ReferenceFrame.constructARootFrame("otherRoot")));
+            fail("Should have thrown a ReferenceFrameMismatchException");
+         }
+         catch (ReferenceFrameMismatchException e)
+         {
+            // good
+         }
+
+         cloud.clear();
+         assertTrue(cloud.isEmpty());
+      }
+   }
+
+   @Test
+   public void testVertex3DSupplier() throws Exception
+   {
+      Random random = new Random(3455);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ReferenceFrame frame = EuclidFrameRandomTools.nextReferenceFrame(random);
+         List<Point3D> points = nextPoints(random, random.nextInt(100));
+
+         FramePointCloud3D cloud = new FramePointCloud3D(frame, Vertex3DSupplier.asVertex3DSupplier(points));
+         assertTrue(cloud.epsilonEquals(Vertex3DSupplier.asVertex3DSupplier(points), 0.0));
+
+         List<FramePoint3D> framePoints = new ArrayList<>();
+         for (Point3D point : points)
+            framePoints.add(new FramePoint3D(frame, point));
+
+         cloud = new FramePointCloud3D(FrameVertex3DSupplier.asFrameVertex3DSupplier(framePoints));
+         assertTrue(points.isEmpty() || cloud.getReferenceFrame() == frame);
+         assertTrue(cloud.epsilonEquals(Vertex3DSupplier.asVertex3DSupplier(points), 0.0));
+
+         // The cloud can itself be used as a supplier.
+         FramePointCloud3D copy = new FramePointCloud3D(cloud);
+         assertTrue(copy.getReferenceFrame() == cloud.getReferenceFrame());
+         assertTrue(copy.epsilonEquals(Vertex3DSupplier.asVertex3DSupplier(points), 0.0));
+      }
+   }
+
+   @Test
+   public void testChangeFrame() throws Exception
+   {
+      Random random = new Random(3456);
+      ReferenceFrame[] frames = EuclidFrameRandomTools.nextReferenceFrameTree(random);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ReferenceFrame initialFrame = frames[random.nextInt(frames.length)];
+         ReferenceFrame desiredFrame = frames[random.nextInt(frames.length)];
+         List<Point3D> points = nextPoints(random, random.nextInt(100));
+
+         FramePointCloud3D cloud = new FramePointCloud3D(initialFrame, Vertex3DSupplier.asVertex3DSupplier(points));
+         cloud.changeFrame(desiredFrame);
+         assertTrue(cloud.getReferenceFrame() == desiredFrame);
+
+         for (int j = 0; j < points.size(); j++)
+         {
+            FramePoint3D expected = new FramePoint3D(initialFrame, points.get(j));
+            expected.changeFrame(desiredFrame);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, cloud.getVertex(j), EPSILON);
+         }
+      }
+   }
+
+   @Test
+   public void testApplyTransform() throws Exception
+   {
+      Random random = new Random(3457);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         List<Point3D> points = nextPoints(random, random.nextInt(100));
+         FramePointCloud3D cloud = new FramePointCloud3D(ReferenceFrame.getWorldFrame(), Vertex3DSupplier.asVertex3DSupplier(points));
+
+         cloud.applyTransform(transform);
+
+         for (int j = 0; j < points.size(); j++)
+         {
+            Point3D expected = new Point3D(points.get(j));
+            expected.applyTransform(transform);
+            EuclidCoreTestTools.assertTuple3DEquals(expected, cloud.getVertex(j), EPSILON);
+         }
+
+         cloud.applyInverseTransform(transform);
+
+         for (int j = 0; j < points.size(); j++)
+            EuclidCoreTestTools.assertTuple3DEquals(points.get(j), cloud.getVertex(j), EPSILON);
+      }
+   }
+
+   @Test
+   public void testQueries() throws Exception
+   {
+      Random random = new Random(3458);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ReferenceFrame frame = EuclidFrameRandomTools.nextReferenceFrame(random);
+         List<Point3D> points = nextPoints(random, 1 + random.nextInt(100));
+         FramePointCloud3D cloud = new FramePointCloud3D(frame, Vertex3DSupplier.asVertex3DSupplier(points));
+
+         BoundingBox3D expectedBoundingBox = new BoundingBox3D();
+         expectedBoundingBox.setToNaN();
+         Point3D expectedCentroid = new Point3D();
+
+         for (Point3D point : points)
+         {
+            expectedBoundingBox.updateToIncludePoint(point);
+            expectedCentroid.add(point);
+         }
+         expectedCentroid.scale(1.0 / points.size());
+
+         BoundingBox3D actualBoundingBox = new BoundingBox3D();
+         cloud.getBoundingBox(actualBoundingBox);
+         assertTrue(expectedBoundingBox.epsilonEquals(actualBoundingBox, 0.0));
+
+         FramePoint3D actualCentroid = new FramePoint3D();
+         cloud.getCentroid(actualCentroid);
+         assertTrue(actualCentroid.getReferenceFrame() == frame);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedCentroid, actualCentroid, EPSILON);
+
+         FramePoint3D query = EuclidFrameRandomTools.nextFramePoint3D(random, frame, 10.0);
+         int expectedIndex = -1;
+         double expectedDistance = Double.POSITIVE_INFINITY;
+
+         for (int j = 0; j < points.size(); j++)
+         {
+            double distance = points.get(j).distance(query);
+            if (distance < expectedDistance)
+            {
+               expectedDistance = distance;
+               expectedIndex = j;
+            }
+         }
+
+         assertEquals(expectedIndex, cloud.findNearestPointIndex(query));
+      }
+
+      FramePointCloud3D emptyCloud = new FramePointCloud3D();
+      BoundingBox3D boundingBox = new BoundingBox3D();
+      emptyCloud.getBoundingBox(boundingBox);
+      assertTrue(boundingBox.containsNaN());
+      assertEquals(-1, emptyCloud.findNearestPointIndex(new Point3D()));
+   }
+
+   private static List<Point3D> nextPoints(Random random, int numberOfPoints)
+   {
+      List<Point3D> points = new ArrayList<>();
+      for (int i = 0; i < numberOfPoints; i++)
+         points.add(EuclidCoreRandomTools.nextPoint3D(random, 10.0));
+      return points;
+   }
+}
@@ -0,0 +1,121 @@
+package us.ihmc.euclid.referenceFrame;
+
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import us.ihmc.euclid.referenceFrame.tools.EuclidFrameRandomTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+import us.ihmc.euclid.tuple3D.Point3D;
+
+/**
+ * Verifies that the common queries on {@code ReferenceFrame} do not generate garbage.
+ * <p>
+ * The allocations are measured with the per-thread allocation counter of the HotSpot JVM. The tests
+ * are skipped on JVMs that do not provide it.
+ * </p>
+ */
+public class ReferenceFrameAllocationTest
+{
+   private static final int WARMUP_ITERATIONS = 20000;
+   private static final int ITERATIONS = 10000;
+
+   private com.sun.management.ThreadMXBean threadMXBean;
+
+   @Before
+   public void setup()
+   {
+      java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+      Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+      threadMXBean = (com.sun.management.ThreadMXBean) bean;
+      Assume.assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+      threadMXBean.setThreadAllocatedMemoryEnabled(true);
+   }
+
+   @Test
+   public void testTransformGetters() throws Exception
+   {
+      Random random = new Random(4357);
+      ReferenceFrame root = ReferenceFrame.constructARootFrame("root");
+      ReferenceFrame[] chain = nextChain(random, root, 10);
+      RigidBodyTransform transform = new RigidBodyTransform();
+
+      ReferenceFrame frameA = chain[chain.length - 1];
+      ReferenceFrame frameB = chain[chain.length - 2];
+      ReferenceFrame frameC = EuclidFrameRandomTools.nextReferenceFrame("frameC", random, root);
+
+      assertNoAllocation("getTransformToParent", () -> frameA.getTransformToParent(transform));
+      assertNoAllocation("getTransformToParentReference", () -> frameA.getTransformToParentReference());
+      assertNoAllocation("getTransformToRoot", () -> frameA.getTransformToRoot());
+      assertNoAllocation("getTransformToDesiredFrame, short path", () -> frameA.getTransformToDesiredFrame(transform, frameB));
+      assertNoAllocation("getTransformToDesiredFrame, long path", () -> frameA.getTransformToDesiredFrame(transform, frameC));
+      assertNoAllocation("update and getTransformToDesiredFrame", () ->
+      {
+         chain[2].update();
+         frameA.getTransformToDesiredFrame(transform, frameC);
+      });
+
+      ReferenceFrame worldChild = EuclidFrameRandomTools.nextReferenceFrame("worldChild", random, ReferenceFrame.getWorldFrame());
+      assertNoAllocation("getTransformToWorldFrame", () -> worldChild.getTransformToWorldFrame(transform));
+
+      root.setConcurrentModeEnabled(true);
+      assertNoAllocation("getTransformToDesiredFrame, concurrent mode", () -> frameA.getTransformToDesiredFrame(transform, frameC));
+   }
+
+   @Test
+   public void testChecksAndFrameChange() throws Exception
+   {
+      Random random = new Random(3467);
+      ReferenceFrame root = ReferenceFrame.constructARootFrame("root");
+      ReferenceFrame[] chain = nextChain(random, root, 10);
+      ReferenceFrame frameA = chain[chain.length - 1];
+      ReferenceFrame frameB = EuclidFrameRandomTools.nextReferenceFrame("frameB", random, root);
+      FramePoint3D framePoint = new FramePoint3D(frameA);
+      Point3D point = new Point3D();
+
+      assertNoAllocation("verifySameRoots", () -> frameA.verifySameRoots(frameB));
+      assertNoAllocation("checkReferenceFrameMatch", () -> frameA.checkReferenceFrameMatch(framePoint));
+      assertNoAllocation("transformFromThisToDesiredFrame", () -> frameA.transformFromThisToDesiredFrame(frameB, point));
+      assertNoAllocation("changeFrame", () ->
+      {
+         framePoint.changeFrame(frameB);
+         framePoint.changeFrame(frameA);
+      });
+   }
+
+   private static ReferenceFrame[] nextChain(Random random, ReferenceFrame root, int length)
+   {
+      ReferenceFrame[] chain = new ReferenceFrame[length];
+      ReferenceFrame parent = root;
+
+      for (int i = 0; i < length; i++)
+      {
+         chain[i] = EuclidFrameRandomTools.nextReferenceFrame("frame" + i, random, parent);
+         parent = chain[i];
+      }
+
+      return chain;
+   }
+
+   private void assertNoAllocation(String description, Runnable query)
+   {
+      for (int i = 0; i < WARMUP_ITERATIONS; i++)
+         query.run();
+
+      long threadId = Thread.currentThread().getId();
+      long allocatedBytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+
+      for (int i = 0; i < ITERATIONS; i++)
+         query.run();
+
+      long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytesBefore;
+
+      // Any allocation per call would be at least one object header, the remainder being the measurement overhead.
+      assertTrue(description + " allocated " + allocatedBytes + " bytes over " + ITERATIONS + " calls.", allocatedBytes < ITERATIONS);
+   }
+}
@@ -0,0 +1,93 @@
+package us.ihmc.euclid.referenceFrame;
+
+import java.util.Random;
+
+import us.ihmc.euclid.referenceFrame.tools.EuclidFrameRandomTools;
+import us.ihmc.euclid.transform.QuaternionBasedTransform;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+/**
+ * Compares the cost of computing the transform between the leaves of two deep branches of a frame
+ * tree using the different transform representations.
+ * <p>
+ * For each depth, one frame at the top of each branch is updated every iteration such that the
+ * transforms to root have to be recomputed.
+ * </p>
+ */
+public class ReferenceFrameCompositionBenchmark
+{
+   private static final int[] DEPTHS = {2, 5, 10, 20, 50};
+   private static final int WARMUP_ITERATIONS = 200000;
+   private static final int ITERATIONS = 1000000;
+
+   public static void main(String[] args)
+   {
+      Random random = new Random(3453);
+
+      for (int depth : DEPTHS)
+      {
+         ReferenceFrame root = ReferenceFrame.constructARootFrame("root");
+         ReferenceFrame[] branchA = nextBranch(random, root, "A", depth);
+         ReferenceFrame[] branchB = nextBranch(random, root, "B", depth);
+         ReferenceFrame leafA = branchA[depth - 1];
+         ReferenceFrame leafB = branchB[depth - 1];
+
+         RigidBodyTransform rigidBodyTransform = new RigidBodyTransform();
+         QuaternionBasedTransform quaternionBasedTransform = new QuaternionBasedTransform();
+
+         Runnable rigidBodyTransformQuery = () ->
+         {
+            branchA[0].update();
+            branchB[0].update();
+            leafA.getTransformToDesiredFrame(rigidBodyTransform, leafB);
+         };
+
+         Runnable quaternionBasedTransformQuery = () ->
+         {
+            branchA[0].update();
+            branchB[0].update();
+            leafA.getTransformToDesiredFrame(quaternionBasedTransform, leafB);
+         };
+
+         Runnable unfusedQuery = () ->
+         { // Composition as it was done prior to using the fused invert-and-multiply.
+            branchA[0].update();
+            branchB[0].update();
+            rigidBodyTransform.setAndInvert(leafB.getTransformToRoot());
+            rigidBodyTransform.multiply(leafA.getTransformToRoot());
+         };
+
+         System.out.println("Depth: " + depth);
+         System.out.println(String.format("\tRigidBodyTransform:          %8.1f ns/op", measure(rigidBodyTransformQuery)));
+         System.out.println(String.format("\tQuaternionBasedTransform:    %8.1f ns/op", measure(quaternionBasedTransformQuery)));
+         System.out.println(String.format("\tsetAndInvert then multiply:  %8.1f ns/op", measure(unfusedQuery)));
+      }
+   }
+
+   private static ReferenceFrame[] nextBranch(Random random, ReferenceFrame root, String branchName, int depth)
+   {
+      ReferenceFrame[] branch = new ReferenceFrame[depth];
+      ReferenceFrame parent = root;
+
+      for (int i = 0; i < depth; i++)
+      {
+         branch[i] = EuclidFrameRandomTools.nextReferenceFrame(branchName + i, random, parent);
+         parent = branch[i];
+      }
+
+      return branch;
+   }
+
+   private static double measure(Runnable query)
+   {
+      for (int i = 0; i < WARMUP_ITERATIONS; i++)
+         query.run();
+
+      long start = System.nanoTime();
+
+      for (int i = 0; i < ITERATIONS; i++)
+         query.run();
+
+      return (double) (System.nanoTime() - start) / ITERATIONS;
+   }
+}
@@ -1,19 +1,30 @@
 package us.ihmc.euclid.referenceFrame;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Test;
 
+import us.ihmc.euclid.referenceFrame.interfaces.ReferenceFrameChangeListener;
 import us.ihmc.euclid.referenceFrame.tools.EuclidFrameRandomTools;
 import us.ihmc.euclid.tools.EuclidCoreRandomTools;
 import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.QuaternionBasedTransform;
 import us.ihmc.euclid.transform.RigidBodyTransform;
 import us.ihmc.euclid.tuple3D.Point3D;
+import us.ihmc.euclid.tuple3D.Vector3D;
+import us.ihmc.euclid.tuple4D.Quaternion;
 
 public class ReferenceFrameTest
 {
@@ -494,4 +505,746 @@ public class ReferenceFrameTest
          }
       }
    }
+
+   @Test
+   public void testGetTransformToDesiredFrameThroughCommonAncestor() throws Exception
+   {
+      Random random = new Random(2346);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ReferenceFrame[] frames = new ReferenceFrame[30];
+         frames[0] = ReferenceFrame.constructARootFrame("root" + i);
+
+         for (int j = 1; j < frames.length; j++)
+         {
+            ReferenceFrame parent = frames[random.nextInt(j)];
+            frames[j] = EuclidFrameRandomTools.nextReferenceFrame("frame" + j, random, parent);
+         }
+
+         ReferenceFrame frame = frames[random.nextInt(frames.length)];
+         ReferenceFrame desiredFrame = frames[random.nextInt(frames.length)];
+
+         RigidBodyTransform expected = new RigidBodyTransform();
+         RigidBodyTransform frameTransformToRoot = frame.getTransformToRoot();
+         RigidBodyTransform desiredFrameTransformToRoot = desiredFrame.getTransformToRoot();
+
+         if (desiredFrameTransformToRoot != null)
+            expected.setAndInvert(desiredFrameTransformToRoot);
+         if (frameTransformToRoot != null)
+            expected.multiply(frameTransformToRoot);
+
+         RigidBodyTransform actual = new RigidBodyTransform();
+         frame.getTransformToDesiredFrame(actual, desiredFrame);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPSILON);
+
+         if (frame.getParent() != null)
+         {
+            frame.getTransformToDesiredFrame(actual, frame.getParent());
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(frame.getTransformToParent(), actual, EPSILON);
+            frame.getParent().getTransformToDesiredFrame(actual, frame);
+            expected.setAndInvert(frame.getTransformToParent());
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPSILON);
+         }
+      }
+   }
+
+   @Test
+   public void testGetTransformToDesiredFrameQuaternionBased() throws Exception
+   {
+      Random random = new Random(9743);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ReferenceFrame[] frames = new ReferenceFrame[30];
+         frames[0] = ReferenceFrame.constructARootFrame("root" + i);
+
+         for (int j = 1; j < frames.length; j++)
+         {
+            ReferenceFrame parent = frames[random.nextInt(j)];
+            frames[j] = EuclidFrameRandomTools.nextReferenceFrame("frame" + j, random, parent);
+         }
+
+         ReferenceFrame frame = frames[random.nextInt(frames.length)];
+         ReferenceFrame desiredFrame = frames[random.nextInt(frames.length)];
+
+         if (random.nextBoolean())
+            frames[0].setConcurrentModeEnabled(true);
+
+         RigidBodyTransform expected = frame.getTransformToDesiredFrame(desiredFrame);
+         QuaternionBasedTransform actual = new QuaternionBasedTransform();
+         frame.getTransformToDesiredFrame(actual, desiredFrame);
+
+         Point3D expectedPoint = EuclidCoreRandomTools.nextPoint3D(random, 10.0);
+         Point3D actualPoint = new Point3D(expectedPoint);
+         expected.transform(expectedPoint);
+         actual.transform(actualPoint);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedPoint, actualPoint, EPSILON);
+
+         Vector3D expectedVector = EuclidCoreRandomTools.nextVector3D(random);
+         Vector3D actualVector = new Vector3D(expectedVector);
+         expected.transform(expectedVector);
+         actual.transform(actualVector);
+         EuclidCoreTestTools.assertTuple3DEquals(expectedVector, actualVector, EPSILON);
+      }
+   }
+
+   @Test
+   public void testTransformToDesiredFrameCache() throws Exception
+   {
+      Random random = new Random(3465);
+      ReferenceFrame root = ReferenceFrame.constructARootFrame("root");
+      ReferenceFrame[] frames = new ReferenceFrame[40];
+      frames[0] = root;
+
+      for (int i = 1; i < frames.length; i++)
+      {
+         ReferenceFrame parent = frames[Math.max(0, i - 1 - random.nextInt(3))];
+
+         if (random.nextBoolean())
+         {
+            frames[i] = EuclidFrameRandomTools.nextReferenceFrame("frame" + i, random, parent);
+         }
+         else
+         {
+            frames[i] = new ReferenceFrame("frame" + i, parent)
+            {
+               @Override
+               protected void updateTransformToParent(RigidBodyTransform transformToParent)
+               {
+                  transformToParent.set(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+               }
+            };
+         }
+      }
+
+      root.enableTransformToDesiredFrameCache(8);
+
+      RigidBodyTransform expected = new RigidBodyTransform();
+      RigidBodyTransform actual = new RigidBodyTransform();
+
+      for (int i = 0; i < 10 * ITERATIONS; i++)
+      {
+         if (random.nextInt(4) == 0)
+            frames[random.nextInt(frames.length)].update();
+
+         ReferenceFrame frame = frames[random.nextInt(frames.length)];
+         ReferenceFrame desiredFrame = frames[random.nextInt(frames.length)];
+
+         RigidBodyTransform frameTransformToRoot = frame.getTransformToRoot();
+         RigidBodyTransform desiredFrameTransformToRoot = desiredFrame.getTransformToRoot();
+         expected.setIdentity();
+         if (desiredFrameTransformToRoot != null)
+            expected.setAndInvert(desiredFrameTransformToRoot);
+         if (frameTransformToRoot != null)
+            expected.multiply(frameTransformToRoot);
+
+         // Querying twice to make sure hitting the cache still gives the correct result.
+         for (int j = 0; j < 2; j++)
+         {
+            frame.getTransformToDesiredFrame(actual, desiredFrame);
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPSILON);
+         }
+      }
+
+      for (int i = 0; i < ITERATIONS; i++)
+      { // A frame re-created with the same name must not hit the entry computed for the removed one.
+         int index;
+         do
+         { // Only removing leaves such that all the other frames remain usable.
+            index = 1 + random.nextInt(frames.length - 1);
+         }
+         while (frames[index].getNumberOfChildren() > 0);
+
+         ReferenceFrame desiredFrame = frames[random.nextInt(index)];
+         ReferenceFrame parent = frames[index].getParent();
+
+         frames[index].getTransformToDesiredFrame(actual, desiredFrame);
+         frames[index].remove();
+         frames[index] = EuclidFrameRandomTools.nextReferenceFrame(frames[index].getName(), random, parent);
+
+         expected.set(frames[index].getTransformToRoot());
+         if (desiredFrame.getTransformToRoot() != null)
+            expected.preMultiplyInvertOther(desiredFrame.getTransformToRoot());
+
+         frames[index].getTransformToDesiredFrame(actual, desiredFrame);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPSILON);
+      }
+
+      root.disableTransformToDesiredFrameCache();
+   }
+
+   @Test
+   public void testChildren() throws Exception
+   {
+      Random random = new Random(7456);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ReferenceFrame[] frames = new ReferenceFrame[20];
+         frames[0] = ReferenceFrame.constructARootFrame("root" + i);
+
+         for (int j = 1; j < frames.length; j++)
+            frames[j] = EuclidFrameRandomTools.nextReferenceFrame("frame" + j, random, frames[random.nextInt(j)]);
+
+         for (ReferenceFrame frame : frames)
+         {
+            List<ReferenceFrame> expectedChildren = new ArrayList<>();
+            for (ReferenceFrame other : frames)
+            {
+               if (other.getParent() == frame)
+                  expectedChildren.add(other);
+            }
+
+            assertEquals(expectedChildren.size(), frame.getNumberOfChildren());
+            List<ReferenceFrame> actualChildren = new ArrayList<>();
+            frame.forEachChild(actualChildren::add);
+            assertEquals(expectedChildren, actualChildren);
+
+            List<ReferenceFrame> subtree = new ArrayList<>();
+            frame.forEachFrameInSubtree(subtree::add);
+            assertTrue(subtree.get(0) == frame);
+
+            for (ReferenceFrame other : frames)
+            {
+               boolean isDescendant = false;
+               for (ReferenceFrame ancestor = other; ancestor != null; ancestor = ancestor.getParent())
+                  isDescendant |= ancestor == frame;
+               assertEquals(isDescendant, subtree.contains(other));
+            }
+
+            for (int j = 1; j < subtree.size(); j++)
+            { // Parents are visited first.
+               assertTrue(subtree.indexOf(subtree.get(j).getParent()) < j);
+            }
+         }
+      }
+   }
+
+   @Test
+   public void testRemove() throws Exception
+   {
+      Random random = new Random(3457);
+      ReferenceFrame root = ReferenceFrame.constructARootFrame("root");
+      ReferenceFrame frameA = EuclidFrameRandomTools.nextReferenceFrame("frameA", random, root);
+      ReferenceFrame frameB = EuclidFrameRandomTools.nextReferenceFrame("frameB", random, frameA);
+      ReferenceFrame frameC = EuclidFrameRandomTools.nextReferenceFrame("frameC", random, root);
+
+      assertEquals(2, root.getNumberOfChildren());
+      frameA.remove();
+      assertEquals(1, root.getNumberOfChildren());
+      assertTrue(frameA.hasBeenRemoved());
+      assertTrue(frameB.hasBeenRemoved());
+      assertFalse(frameC.hasBeenRemoved());
+      assertFalse(root.hasBeenRemoved());
+
+      frameC.getTransformToDesiredFrame(root);
+
+      try
+      {
+         frameB.getTransformToDesiredFrame(root);
+         fail("Should have thrown a RuntimeException");
+      }
+      catch (RuntimeException e)
+      {
+         // good
+      }
+
+      try
+      {
+         frameC.getTransformToDesiredFrame(frameB);
+         fail("Should have thrown a RuntimeException");
+      }
+      catch (RuntimeException e)
+      {
+         // good
+      }
+
+      try
+      {
+         EuclidFrameRandomTools.nextReferenceFrame("frameD", random, frameA);
+         fail("Should have thrown a RuntimeException");
+      }
+      catch (RuntimeException e)
+      {
+         // good
+      }
+   }
+
+   @Test
+   public void testOutdatedTransformToRootPropagation() throws Exception
+   {
+      Random random = new Random(8674);
+      ReferenceFrame root = ReferenceFrame.constructARootFrame("root");
+      RigidBodyTransform[] transformsToParent = new RigidBodyTransform[15];
+      ReferenceFrame[] chain = new ReferenceFrame[transformsToParent.length];
+
+      for (int i = 0; i < chain.length; i++)
+      {
+         int index = i;
+         transformsToParent[i] = new RigidBodyTransform();
+         chain[i] = new ReferenceFrame("frame" + i, i == 0 ? root : chain[i - 1])
+         {
+            @Override
+            protected void updateTransformToParent(RigidBodyTransform transformToParent)
+            {
+               transformToParent.set(transformsToParent[index]);
+            }
+         };
+      }
+
+      ReferenceFrame leaf = chain[chain.length - 1];
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         // Moving a single frame of the chain, the leaf has to follow.
+         int index = random.nextInt(chain.length);
+         transformsToParent[index] = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         chain[index].update();
+
+         RigidBodyTransform expected = new RigidBodyTransform();
+         for (RigidBodyTransform transformToParent : transformsToParent)
+            expected.multiply(transformToParent);
+
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, leaf.getTransformToDesiredFrame(root), EPSILON);
+         leaf.checkRepInvariants();
+      }
+   }
+
+   @Test
+   public void testFindFrameByNameBasedHashCode() throws Exception
+   {
+      Random random = new Random(9754);
+
+      for (boolean enableIndex : new boolean[] {false, true})
+      {
+         ReferenceFrame root = ReferenceFrame.constructARootFrame("root");
+         List<ReferenceFrame> frames = new ArrayList<>();
+         frames.add(root);
+
+         for (int i = 0; i < 50; i++)
+         {
+            ReferenceFrame parent = frames.get(random.nextInt(frames.size()));
+            frames.add(EuclidFrameRandomTools.nextReferenceFrame("frame" + i, random, parent));
+         }
+
+         if (enableIndex)
+            frames.get(random.nextInt(frames.size())).enableNameBasedHashCodeIndex();
+
+         for (int i = 0; i < 50; i++)
+         { // Frames created after enabling the index have to be found as well.
+            ReferenceFrame parent = frames.get(random.nextInt(frames.size()));
+            frames.add(EuclidFrameRandomTools.nextReferenceFrame("otherFrame" + i, random, parent));
+         }
+
+         for (ReferenceFrame frame : frames)
+         {
+            ReferenceFrame queryFrame = frames.get(random.nextInt(frames.size()));
+            assertTrue(frame == queryFrame.findFrameByNameBasedHashCode(frame.getNameBasedHashCode()));
+         }
+
+         ReferenceFrame otherRoot = ReferenceFrame.constructARootFrame("otherRoot");
+         assertNull(root.findFrameByNameBasedHashCode(otherRoot.getNameBasedHashCode()));
+
+         ReferenceFrame removedFrame = frames.get(1);
+         removedFrame.remove();
+         assertNull(root.findFrameByNameBasedHashCode(removedFrame.getNameBasedHashCode()));
+
+         ReferenceFrame duplicateA = EuclidFrameRandomTools.nextReferenceFrame("duplicate", random, root);
+         EuclidFrameRandomTools.nextReferenceFrame("duplicate", random, root);
+
+         try
+         {
+            root.findFrameByNameBasedHashCode(duplicateA.getNameBasedHashCode());
+            fail("Should have thrown a RuntimeException");
+         }
+         catch (RuntimeException e)
+         {
+            // good
+         }
+      }
+   }
+
+   @Test
+   public void testTransformToParentHistory() throws Exception
+   {
+      Random random = new Random(6743);
+      ReferenceFrame root = ReferenceFrame.constructARootFrame("root");
+      RigidBodyTransform[] transformsToParent = new RigidBodyTransform[3];
+      ReferenceFrame[] chain = new ReferenceFrame[transformsToParent.length];
+
+      for (int i = 0; i < chain.length; i++)
+      {
+         int index = i;
+         transformsToParent[i] = new RigidBodyTransform();
+         chain[i] = new ReferenceFrame("frame" + i, i == 0 ? root : chain[i - 1])
+         {
+            @Override
+            protected void updateTransformToParent(RigidBodyTransform transformToParent)
+            {
+               transformToParent.set(transformsToParent[index]);
+            }
+         };
+      }
+
+      ReferenceFrame leaf = chain[chain.length - 1];
+      ReferenceFrame fixedFrame = EuclidFrameRandomTools.nextReferenceFrame("fixedFrame", random, root);
+      int capacity = 20;
+      chain[0].enableTransformToParentHistory(capacity);
+      chain[2].enableTransformToParentHistory(capacity);
+
+      List<RigidBodyTransform> firstTransformsToParent = new ArrayList<>();
+      List<RigidBodyTransform> leafTransformsToParent = new ArrayList<>();
+
+      for (int i = 0; i < 2 * capacity; i++)
+      {
+         for (int j = 0; j < chain.length; j++)
+         {
+            transformsToParent[j] = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+            chain[j].update(10L * i);
+         }
+
+         firstTransformsToParent.add(chain[0].getTransformToParent());
+         leafTransformsToParent.add(leaf.getTransformToParent());
+      }
+
+      RigidBodyTransform actual = new RigidBodyTransform();
+
+      for (int i = capacity; i < 2 * capacity; i++)
+      {
+         leaf.getTransformToDesiredFrame(actual, chain[1], 10L * i);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(leafTransformsToParent.get(i), actual, EPSILON);
+
+         // chain[1] has no history, its current transform is used for all the timestamps.
+         RigidBodyTransform expected = new RigidBodyTransform(firstTransformsToParent.get(i));
+         expected.multiply(transformsToParent[1]);
+         expected.multiply(leafTransformsToParent.get(i));
+         leaf.getTransformToDesiredFrame(actual, root, 10L * i);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPSILON);
+      }
+
+      // Interpolating between two samples of the leaf.
+      int sampleIndex = capacity + random.nextInt(capacity - 1);
+      Quaternion expectedOrientation = new Quaternion();
+      Quaternion orientationBefore = new Quaternion();
+      Quaternion orientationAfter = new Quaternion();
+      Vector3D expectedTranslation = new Vector3D();
+      Vector3D translationBefore = new Vector3D();
+      Vector3D translationAfter = new Vector3D();
+      leafTransformsToParent.get(sampleIndex).getRotation(orientationBefore);
+      leafTransformsToParent.get(sampleIndex).getTranslation(translationBefore);
+      leafTransformsToParent.get(sampleIndex + 1).getRotation(orientationAfter);
+      leafTransformsToParent.get(sampleIndex + 1).getTranslation(translationAfter);
+      expectedOrientation.interpolate(orientationBefore, orientationAfter, 0.3);
+      expectedTranslation.interpolate(translationBefore, translationAfter, 0.3);
+      leaf.getTransformToDesiredFrame(actual, chain[1], 10L * sampleIndex + 3L);
+      EuclidCoreTestTools.assertRigidBodyTransformEquals(new RigidBodyTransform(expectedOrientation, expectedTranslation), actual, EPSILON);
+
+      // More recent than the newest sample: the newest sample is used.
+      leaf.getTransformToDesiredFrame(actual, chain[1], Long.MAX_VALUE);
+      EuclidCoreTestTools.assertRigidBodyTransformEquals(leafTransformsToParent.get(2 * capacity - 1), actual, EPSILON);
+
+      try
+      {
+         leaf.getTransformToDesiredFrame(actual, chain[1], 10L * (capacity - 1));
+         fail("Should have thrown an IllegalArgumentException");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+
+      try
+      {
+         chain[0].update(0L);
+         fail("Should have thrown an IllegalArgumentException");
+      }
+      catch (IllegalArgumentException e)
+      {
+         // good
+      }
+
+      leaf.getTransformToDesiredFrame(actual, fixedFrame, Long.MAX_VALUE);
+      EuclidCoreTestTools.assertRigidBodyTransformEquals(leaf.getTransformToDesiredFrame(fixedFrame), actual, EPSILON);
+   }
+
+   @Test
+   public void testFrozenTransformToParent() throws Exception
+   {
+      Random random = new Random(2357);
+      ReferenceFrame root = ReferenceFrame.constructARootFrame("root");
+      AtomicReference<RigidBodyTransform> stationaryTransform = new AtomicReference<>(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      ReferenceFrame stationaryFrame = new ReferenceFrame("stationaryFrame", root, true, false)
+      {
+         @Override
+         protected void updateTransformToParent(RigidBodyTransform transformToParent)
+         {
+            transformToParent.set(stationaryTransform.get());
+         }
+      };
+
+      // The first update is applied, the following ones are ignored.
+      assertFalse(stationaryFrame.isTransformToParentFrozen());
+      RigidBodyTransform expectedTransformToParent = stationaryTransform.get();
+      stationaryFrame.update();
+      assertTrue(stationaryFrame.isTransformToParentFrozen());
+      stationaryTransform.set(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      stationaryFrame.update();
+      EuclidCoreTestTools.assertRigidBodyTransformEquals(expectedTransformToParent, stationaryFrame.getTransformToParent(), EPSILON);
+
+      AtomicReference<RigidBodyTransform> movingTransform = new AtomicReference<>(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      ReferenceFrame movingFrame = new ReferenceFrame("movingFrame", stationaryFrame)
+      {
+         @Override
+         protected void updateTransformToParent(RigidBodyTransform transformToParent)
+         {
+            transformToParent.set(movingTransform.get());
+         }
+      };
+
+      // Chain of fixed frames mounted on the moving frame.
+      ReferenceFrame[] fixedChain = new ReferenceFrame[5];
+      for (int i = 0; i < fixedChain.length; i++)
+      {
+         ReferenceFrame parent = i == 0 ? movingFrame : fixedChain[i - 1];
+         fixedChain[i] = ReferenceFrame.constructFrameWithUnchangingTransformToParent("fixed" + i, parent, EuclidCoreRandomTools.nextRigidBodyTransform(random));
+         assertTrue(fixedChain[i].isTransformToParentFrozen());
+      }
+
+      ReferenceFrame leaf = fixedChain[fixedChain.length - 1];
+      ReferenceFrame sibling = ReferenceFrame.constructFrameWithUnchangingTransformToParent("sibling", fixedChain[1],
+                                                                                            EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      ReferenceFrameTree tree = ReferenceFrameTree.fromSubtree(root);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         movingTransform.set(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+
+         if (random.nextBoolean())
+         {
+            movingFrame.update();
+         }
+         else
+         {
+            tree.updateAll();
+            assertTrue(leaf.isTransformToRootUpToDate());
+            assertTrue(stationaryFrame.isTransformToRootUpToDate());
+         }
+
+         RigidBodyTransform expected = new RigidBodyTransform(expectedTransformToParent);
+         expected.multiply(movingTransform.get());
+         for (ReferenceFrame fixedFrame : fixedChain)
+            expected.multiply(fixedFrame.getTransformToParent());
+
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, leaf.getTransformToDesiredFrame(root), EPSILON);
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, leaf.getTransformToRoot(), EPSILON);
+         leaf.checkRepInvariants();
+
+         if (!fixedChain[0].isTransformToRootUpToDate())
+         {
+            // The chain of fixed frames is collapsed, the frames in between are not updated.
+            for (int j = 0; j < fixedChain.length - 1; j++)
+               assertFalse(fixedChain[j].isTransformToRootUpToDate());
+         }
+
+         RigidBodyTransform expectedToSibling = new RigidBodyTransform(expected);
+         expectedToSibling.preMultiplyInvertOther(sibling.getTransformToRoot());
+         EuclidCoreTestTools.assertRigidBodyTransformEquals(expectedToSibling, leaf.getTransformToDesiredFrame(sibling), EPSILON);
+         sibling.checkRepInvariants();
+
+         // Updating the frozen frames does not invalidate their transform to root.
+         leaf.update();
+         stationaryFrame.update();
+         assertTrue(leaf.isTransformToRootUpToDate());
+      }
+   }
+
+   @Test
+   public void testTransformChangeDetection() throws Exception
+   {
+      Random random = new Random(7734);
+      double epsilon = 1.0e-5;
+      ReferenceFrame root = ReferenceFrame.constructARootFrame("root");
+      AtomicReference<RigidBodyTransform> parentTransform = new AtomicReference<>(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      ReferenceFrame parentFrame = new ReferenceFrame("parentFrame", root)
+      {
+         @Override
+         protected void updateTransformToParent(RigidBodyTransform transformToParent)
+         {
+            transformToParent.set(parentTransform.get());
+         }
+      };
+      AtomicReference<RigidBodyTransform> childTransform = new AtomicReference<>(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      ReferenceFrame childFrame = new ReferenceFrame("childFrame", parentFrame)
+      {
+         @Override
+         protected void updateTransformToParent(RigidBodyTransform transformToParent)
+         {
+            transformToParent.set(childTransform.get());
+         }
+      };
+      ReferenceFrame otherFrame = ReferenceFrame.constructFrameWithUnchangingTransformToParent("otherFrame", root,
+                                                                                              EuclidCoreRandomTools.nextRigidBodyTransform(random));
+
+      List<ReferenceFrame> notifiedFrames = new ArrayList<>();
+      ReferenceFrameChangeListener listener = notifiedFrames::add;
+      childFrame.addChangeListener(listener);
+      otherFrame.addChangeListener(listener);
+
+      // Without change detection, every update is a change.
+      long parentVersion = parentFrame.getTransformToParentVersion();
+      long childRootVersion = childFrame.getTransformToRootVersion();
+      parentFrame.update();
+      assertEquals(parentVersion + 1, parentFrame.getTransformToParentVersion());
+      assertEquals(childRootVersion + 1, childFrame.getTransformToRootVersion());
+      assertEquals(1, notifiedFrames.size());
+      assertTrue(notifiedFrames.get(0) == childFrame);
+      childFrame.update();
+      assertEquals(2, notifiedFrames.size());
+
+      parentFrame.enableTransformChangeDetection(epsilon);
+      childFrame.enableTransformChangeDetection(epsilon);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         notifiedFrames.clear();
+         RigidBodyTransform previousParentTransform = new RigidBodyTransform(parentFrame.getTransformToParent());
+         parentVersion = parentFrame.getTransformToParentVersion();
+         childRootVersion = childFrame.getTransformToRootVersion();
+         childFrame.getTransformToRoot();
+
+         boolean moveParent = random.nextBoolean();
+         RigidBodyTransform newParentTransform = new RigidBodyTransform(previousParentTransform);
+
+         if (moveParent)
+         {
+            newParentTransform.appendTranslation(EuclidCoreRandomTools.nextVector3DWithFixedLength(random, 10.0 * epsilon));
+         }
+         else
+         {
+            // Perturbation within the tolerance.
+            newParentTransform.appendTranslation(EuclidCoreRandomTools.nextVector3DWithFixedLength(random, 0.1 * epsilon));
+         }
+
+         parentTransform.set(newParentTransform);
+         parentFrame.update();
+
+         if (moveParent)
+         {
+            assertEquals(parentVersion + 1, parentFrame.getTransformToParentVersion());
+            assertEquals(childRootVersion + 1, childFrame.getTransformToRootVersion());
+            assertFalse(childFrame.isTransformToRootUpToDate());
+            assertEquals(1, notifiedFrames.size());
+            assertTrue(notifiedFrames.get(0) == childFrame);
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(newParentTransform, parentFrame.getTransformToParent(), EPSILON);
+         }
+         else
+         {
+            assertEquals(parentVersion, parentFrame.getTransformToParentVersion());
+            assertEquals(childRootVersion, childFrame.getTransformToRootVersion());
+            assertTrue(childFrame.isTransformToRootUpToDate());
+            assertTrue(notifiedFrames.isEmpty());
+            // The small variation is discarded.
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(previousParentTransform, parentFrame.getTransformToParent(), EPSILON);
+         }
+
+         childFrame.checkRepInvariants();
+      }
+
+      // Once removed, the listener is not notified anymore.
+      notifiedFrames.clear();
+      assertTrue(childFrame.removeChangeListener(listener));
+      assertFalse(childFrame.removeChangeListener(listener));
+      childTransform.set(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      childFrame.update();
+      assertTrue(notifiedFrames.isEmpty());
+   }
+
+   @Test
+   public void testConcurrentMode() throws Exception
+   {
+      Random random = new Random(34562);
+      ReferenceFrame root = ReferenceFrame.constructARootFrame("root");
+      root.setConcurrentModeEnabled(true);
+      assertEquals(true, root.isConcurrentModeEnabled());
+
+      AtomicLong tick = new AtomicLong(0);
+      // The only moving frame: its transform to the root is fully determined by the tick.
+      ReferenceFrame movingFrame = new ReferenceFrame("movingFrame", root)
+      {
+         @Override
+         protected void updateTransformToParent(RigidBodyTransform transformToParent)
+         {
+            long currentTick = tick.get();
+            transformToParent.setRotationYawAndZeroTranslation(1.0e-3 * currentTick);
+            transformToParent.setTranslation(currentTick, 2.0 * currentTick, 3.0 * currentTick);
+         }
+      };
+      assertEquals(true, movingFrame.isConcurrentModeEnabled());
+
+      ReferenceFrame[] fixedFrames = new ReferenceFrame[5];
+      ReferenceFrame parent = movingFrame;
+
+      for (int i = 0; i < fixedFrames.length; i++)
+      {
+         fixedFrames[i] = ReferenceFrame.constructFrameWithUnchangingTransformToParent("fixed" + i, parent, EuclidCoreRandomTools.nextRigidBodyTransform(random));
+         parent = fixedFrames[i];
+      }
+
+      ReferenceFrame leafFrame = fixedFrames[fixedFrames.length - 1];
+      RigidBodyTransform leafToMovingFrame = leafFrame.getTransformToDesiredFrame(movingFrame);
+      RigidBodyTransform expectedFixedTransform = fixedFrames[1].getTransformToDesiredFrame(fixedFrames[3]);
+
+      AtomicBoolean stop = new AtomicBoolean(false);
+      AtomicReference<Throwable> failure = new AtomicReference<>(null);
+      Thread[] readers = new Thread[3];
+
+      for (int i = 0; i < readers.length; i++)
+      {
+         readers[i] = new Thread(() ->
+         {
+            RigidBodyTransform leafToRoot = new RigidBodyTransform();
+            RigidBodyTransform movingToRoot = new RigidBodyTransform();
+            RigidBodyTransform fixedTransform = new RigidBodyTransform();
+
+            try
+            {
+               while (!stop.get())
+               {
+                  leafFrame.getTransformToDesiredFrame(leafToRoot, root);
+                  movingToRoot.set(leafToRoot);
+                  movingToRoot.multiplyInvertOther(leafToMovingFrame);
+
+                  double x = movingToRoot.getTranslationX();
+                  assertEquals(2.0 * x, movingToRoot.getTranslationY(), 1.0e-6);
+                  assertEquals(3.0 * x, movingToRoot.getTranslationZ(), 1.0e-6);
+                  assertEquals(1.0e-3 * x, movingToRoot.getRotationMatrix().getYaw(), 1.0e-6);
+
+                  fixedFrames[1].getTransformToDesiredFrame(fixedTransform, fixedFrames[3]);
+                  EuclidCoreTestTools.assertRigidBodyTransformEquals(expectedFixedTransform, fixedTransform, EPSILON);
+               }
+            }
+            catch (Throwable e)
+            {
+               failure.compareAndSet(null, e);
+            }
+         });
+         readers[i].start();
+      }
+
+      for (int i = 0; i < 20000; i++)
+      {
+         tick.set(random.nextInt(100));
+         movingFrame.update();
+      }
+
+      stop.set(true);
+      for (Thread reader : readers)
+         reader.join();
+
+      assertNull(failure.get());
+
+      root.setConcurrentModeEnabled(false);
+      assertEquals(false, leafFrame.isConcurrentModeEnabled());
+   }
 }
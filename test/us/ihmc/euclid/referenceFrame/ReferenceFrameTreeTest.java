@@ -0,0 +1,254 @@
+package us.ihmc.euclid.referenceFrame;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+public class ReferenceFrameTreeTest
+{
+   private static final int ITERATIONS = 100;
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testConstructor() throws Exception
+   {
+      Random random = new Random(4534);
+      ReferenceFrame root = ReferenceFrame.constructARootFrame("root");
+      List<ReferenceFrame> frames = nextTickFrameTree(random, root, 50);
+
+      // Only giving the leaves, their ancestors should be added.
+      List<ReferenceFrame> leaves = new ArrayList<>();
+      for (ReferenceFrame frame : frames)
+      {
+         if (frames.stream().noneMatch(other -> other.getParent() == frame))
+            leaves.add(frame);
+      }
+
+      ReferenceFrameTree tree = new ReferenceFrameTree(leaves);
+      assertEquals(root, tree.getRootFrame());
+      assertEquals(frames.size(), tree.getNumberOfFrames());
+
+      for (int i = 0; i < tree.getNumberOfFrames(); i++)
+      {
+         ReferenceFrame frame = tree.getFrame(i);
+         assertTrue(frames.contains(frame));
+
+         if (frame.getParent() != root)
+         { // The parent has to come first.
+            boolean parentFound = false;
+            for (int j = 0; j < i; j++)
+               parentFound |= tree.getFrame(j) == frame.getParent();
+            assertTrue(parentFound);
+         }
+      }
+
+      try
+      {
+         new ReferenceFrameTree(frames.get(0), ReferenceFrame.constructARootFrame("otherRoot"));
+         throw new AssertionError("Should have thrown a RuntimeException");
+      }
+      catch (RuntimeException e)
+      {
+         // good
+      }
+   }
+
+   @Test
+   public void testFromSubtree() throws Exception
+   {
+      Random random = new Random(5675);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ReferenceFrame root = ReferenceFrame.constructARootFrame("root");
+         List<ReferenceFrame> frames = nextTickFrameTree(random, root, 1 + random.nextInt(50));
+
+         ReferenceFrameTree tree = ReferenceFrameTree.fromSubtree(root);
+         assertEquals(frames.size(), tree.getNumberOfFrames());
+
+         ReferenceFrame subtreeRoot = frames.get(random.nextInt(frames.size()));
+         tree = ReferenceFrameTree.fromSubtree(subtreeRoot);
+
+         for (ReferenceFrame frame : frames)
+         {
+            boolean isAncestorOrDescendant = false;
+            for (ReferenceFrame ancestor = frame; ancestor != null; ancestor = ancestor.getParent())
+               isAncestorOrDescendant |= ancestor == subtreeRoot;
+            for (ReferenceFrame ancestor = subtreeRoot; ancestor != null; ancestor = ancestor.getParent())
+               isAncestorOrDescendant |= ancestor == frame;
+
+            boolean isInTree = false;
+            for (int j = 0; j < tree.getNumberOfFrames(); j++)
+               isInTree |= tree.getFrame(j) == frame;
+
+            assertEquals(isAncestorOrDescendant, isInTree);
+         }
+      }
+   }
+
+   @Test
+   public void testUpdateAll() throws Exception
+   {
+      Random random = new Random(3453);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         long seed = random.nextLong();
+         int numberOfFrames = 1 + random.nextInt(100);
+         List<ReferenceFrame> expectedFrames = nextTickFrameTree(new Random(seed), ReferenceFrame.constructARootFrame("root"), numberOfFrames);
+         List<ReferenceFrame> actualFrames = nextTickFrameTree(new Random(seed), ReferenceFrame.constructARootFrame("root"), numberOfFrames);
+         ReferenceFrameTree tree = new ReferenceFrameTree(actualFrames);
+
+         for (int tick = 0; tick < 5; tick++)
+         {
+            setTick(expectedFrames, tick);
+            setTick(actualFrames, tick);
+
+            for (ReferenceFrame frame : expectedFrames)
+               frame.update();
+            tree.updateAll();
+
+            for (int j = 0; j < numberOfFrames; j++)
+            {
+               actualFrames.get(j).checkRepInvariants();
+               EuclidCoreTestTools.assertRigidBodyTransformEquals(expectedFrames.get(j).getTransformToRoot(), actualFrames.get(j).getTransformToRoot(), EPSILON);
+            }
+         }
+      }
+   }
+
+   @Test
+   public void testUpdateAllInParallel() throws Exception
+   {
+      Random random = new Random(6754);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         long seed = random.nextLong();
+         int numberOfFrames = 1 + random.nextInt(200);
+         List<ReferenceFrame> expectedFrames = nextTickFrameTree(new Random(seed), ReferenceFrame.constructARootFrame("root"), numberOfFrames);
+         List<ReferenceFrame> actualFrames = nextTickFrameTree(new Random(seed), ReferenceFrame.constructARootFrame("root"), numberOfFrames);
+         ReferenceFrameTree expectedTree = new ReferenceFrameTree(expectedFrames);
+         ReferenceFrameTree actualTree = new ReferenceFrameTree(actualFrames);
+         assertEquals(expectedTree.getNumberOfSubtrees(), actualTree.getNumberOfSubtrees());
+
+         for (int tick = 0; tick < 5; tick++)
+         {
+            setTick(expectedFrames, tick);
+            setTick(actualFrames, tick);
+
+            expectedTree.updateAll();
+            actualTree.updateAllInParallel();
+
+            for (int j = 0; j < numberOfFrames; j++)
+            {
+               actualFrames.get(j).checkRepInvariants();
+               // The parallel update has to be identical to the serial one.
+               EuclidCoreTestTools.assertRigidBodyTransformEquals(expectedFrames.get(j).getTransformToRoot(), actualFrames.get(j).getTransformToRoot(), 0.0);
+            }
+         }
+      }
+   }
+
+   @Test
+   public void testTransformToDesiredFrameCacheWithIdenticalSubtrees() throws Exception
+   {
+      Random random = new Random(8762);
+      ReferenceFrame root = ReferenceFrame.constructARootFrame("root");
+      ReferenceFrame world = ReferenceFrame.constructFrameWithUnchangingTransformToParent("world", root, EuclidCoreRandomTools.nextRigidBodyTransform(random));
+      List<ReferenceFrame> frames = new ArrayList<>();
+      ReferenceFrame[] imus = new ReferenceFrame[2];
+
+      for (int robotIndex = 0; robotIndex < imus.length; robotIndex++)
+      { // The frames below the robot frames have the same names, and thus the same name based hash codes.
+         ReferenceFrame robot = new TickFrame("robot" + robotIndex, root, random.nextLong());
+         ReferenceFrame pelvis = new TickFrame("pelvis", robot, random.nextLong());
+         ReferenceFrame base = new TickFrame("base", pelvis, random.nextLong());
+         imus[robotIndex] = new TickFrame("imu", base, random.nextLong());
+         frames.add(robot);
+         frames.add(pelvis);
+         frames.add(base);
+         frames.add(imus[robotIndex]);
+      }
+
+      assertEquals(imus[0].getNameBasedHashCode(), imus[1].getNameBasedHashCode());
+
+      root.enableTransformToDesiredFrameCache(16);
+      ReferenceFrameTree tree = ReferenceFrameTree.fromSubtree(root);
+      RigidBodyTransform expected = new RigidBodyTransform();
+      RigidBodyTransform actual = new RigidBodyTransform();
+
+      for (int tick = 0; tick < ITERATIONS; tick++)
+      {
+         setTick(frames, tick);
+         // All the frames of the robots are given the same transform to root ID.
+         tree.updateAll();
+
+         for (ReferenceFrame imu : imus)
+         {
+            expected.setAndInvert(world.getTransformToRoot());
+            expected.multiply(imu.getTransformToRoot());
+            imu.getTransformToDesiredFrame(actual, world);
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, actual, EPSILON);
+         }
+      }
+
+      root.disableTransformToDesiredFrameCache();
+   }
+
+   static List<ReferenceFrame> nextTickFrameTree(Random random, ReferenceFrame root, int numberOfFrames)
+   {
+      List<ReferenceFrame> frames = new ArrayList<>();
+
+      for (int i = 0; i < numberOfFrames; i++)
+      {
+         ReferenceFrame parent = i == 0 || random.nextInt(5) == 0 ? root : frames.get(random.nextInt(frames.size()));
+
+         if (random.nextBoolean())
+            frames.add(new TickFrame("frame" + i, parent, random.nextLong()));
+         else
+            frames.add(ReferenceFrame.constructFrameWithUnchangingTransformToParent("frame" + i, parent, EuclidCoreRandomTools.nextRigidBodyTransform(random)));
+      }
+
+      return frames;
+   }
+
+   static void setTick(List<ReferenceFrame> frames, long tick)
+   {
+      for (ReferenceFrame frame : frames)
+      {
+         if (frame instanceof TickFrame)
+            ((TickFrame) frame).tick = tick;
+      }
+   }
+
+   /**
+    * Frame which transform to its parent is a deterministic function of its seed and the current tick.
+    */
+   static class TickFrame extends ReferenceFrame
+   {
+      private final long seed;
+      private long tick = 0;
+
+      public TickFrame(String frameName, ReferenceFrame parentFrame, long seed)
+      {
+         super(frameName, parentFrame);
+         this.seed = seed;
+      }
+
+      @Override
+      protected void updateTransformToParent(RigidBodyTransform transformToParent)
+      {
+         transformToParent.set(EuclidCoreRandomTools.nextRigidBodyTransform(new Random(seed + tick)));
+      }
+   }
+}
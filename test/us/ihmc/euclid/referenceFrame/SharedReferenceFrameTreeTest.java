@@ -0,0 +1,204 @@
+package us.ihmc.euclid.referenceFrame;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.tools.EuclidCoreRandomTools;
+import us.ihmc.euclid.tools.EuclidCoreTestTools;
+import us.ihmc.euclid.transform.RigidBodyTransform;
+
+public class SharedReferenceFrameTreeTest
+{
+   private static final int ITERATIONS = 100;
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testPublishAndSubscribe() throws Exception
+   {
+      Random random = new Random(8723);
+      int numberOfFrames = 20;
+      RigidBodyTransform[] transforms = new RigidBodyTransform[numberOfFrames];
+      ReferenceFrame[] frames = createMovingTree("publishedRoot", random, transforms);
+      ReferenceFrameTree tree = ReferenceFrameTree.fromSubtree(frames[0].getRootFrame());
+      Path file = Files.createTempFile("sharedTree", ".bin");
+
+      try
+      {
+         tree.updateAll();
+         SharedReferenceFrameTreePublisher publisher = new SharedReferenceFrameTreePublisher(tree, file);
+         assertEquals(1, publisher.getNumberOfPublications());
+
+         ReferenceFrame localRoot = ReferenceFrame.constructARootFrame("publishedRoot");
+         SharedReferenceFrameTreeSubscriber subscriber = new SharedReferenceFrameTreeSubscriber(file, localRoot);
+         assertEquals(numberOfFrames, subscriber.getNumberOfFrames());
+         // The initial snapshot has already been read.
+         assertFalse(subscriber.update());
+
+         for (int i = 0; i < numberOfFrames; i++)
+         {
+            ReferenceFrame published = tree.getFrame(i);
+            ReferenceFrame proxy = subscriber.getFrame(i);
+            assertEquals(published.getName(), proxy.getName());
+            assertTrue(proxy.getRootFrame() == localRoot);
+            assertEquals(published.getNameBasedHashCode(), proxy.getNameBasedHashCode());
+            assertTrue(subscriber.findFrameByPublishedNameBasedHashCode(published.getNameBasedHashCode()) == proxy);
+         }
+
+         for (int iteration = 0; iteration < ITERATIONS; iteration++)
+         {
+            for (RigidBodyTransform transform : transforms)
+               transform.set(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+
+            tree.updateAll();
+            publisher.publish();
+            assertTrue(subscriber.update());
+
+            for (int i = 0; i < numberOfFrames; i++)
+            {
+               ReferenceFrame published = tree.getFrame(i);
+               ReferenceFrame proxy = subscriber.getFrame(i);
+               EuclidCoreTestTools.assertRigidBodyTransformEquals(published.getTransformToRoot(), proxy.getTransformToRoot(), EPSILON);
+            }
+         }
+      }
+      finally
+      {
+         Files.deleteIfExists(file);
+      }
+   }
+
+   @Test
+   public void testConsistentSnapshots() throws Exception
+   {
+      Random random = new Random(3463);
+      int numberOfFrames = 50;
+      RigidBodyTransform[] transforms = new RigidBodyTransform[numberOfFrames];
+      ReferenceFrame[] frames = createMovingTree("root", random, transforms);
+      ReferenceFrameTree tree = ReferenceFrameTree.fromSubtree(frames[0].getRootFrame());
+      Path file = Files.createTempFile("sharedTree", ".bin");
+
+      try
+      {
+         SharedReferenceFrameTreePublisher publisher = new SharedReferenceFrameTreePublisher(tree, file);
+         SharedReferenceFrameTreeSubscriber subscriber = new SharedReferenceFrameTreeSubscriber(file, ReferenceFrame.constructARootFrame("root"));
+         AtomicBoolean done = new AtomicBoolean(false);
+
+         Thread publisherThread = new Thread(() ->
+         {
+            for (int k = 0; k < 20000; k++)
+            {
+               // All the frames share the same translation within a publication.
+               for (RigidBodyTransform transform : transforms)
+                  transform.setTranslation(k, k, k);
+               tree.updateAll();
+               publisher.publish();
+            }
+            done.set(true);
+         });
+         publisherThread.start();
+
+         while (!done.get())
+         {
+            if (!subscriber.update())
+               continue;
+
+            double expected = subscriber.getFrame(0).getTransformToParentReference().getTranslationX();
+
+            for (int i = 1; i < numberOfFrames; i++)
+               assertEquals(expected, subscriber.getFrame(i).getTransformToParentReference().getTranslationX(), 0.0);
+         }
+
+         publisherThread.join();
+      }
+      finally
+      {
+         Files.deleteIfExists(file);
+      }
+   }
+
+   @Test
+   public void testPublisherRestart() throws Exception
+   {
+      Random random = new Random(5612);
+      int numberOfFrames = 10;
+      RigidBodyTransform[] transforms = new RigidBodyTransform[numberOfFrames];
+      ReferenceFrame[] frames = createMovingTree("root", random, transforms);
+      ReferenceFrameTree tree = ReferenceFrameTree.fromSubtree(frames[0].getRootFrame());
+      Path file = Files.createTempFile("sharedTree", ".bin");
+
+      try
+      {
+         tree.updateAll();
+         new SharedReferenceFrameTreePublisher(tree, file);
+         SharedReferenceFrameTreeSubscriber subscriber = new SharedReferenceFrameTreeSubscriber(file, ReferenceFrame.constructARootFrame("root"));
+         long sizeBeforeRestart = Files.size(file);
+
+         // The same tree is published again by a new publisher, the subscriber keeps going.
+         for (RigidBodyTransform transform : transforms)
+            transform.set(EuclidCoreRandomTools.nextRigidBodyTransform(random));
+         tree.updateAll();
+         SharedReferenceFrameTreePublisher publisher = new SharedReferenceFrameTreePublisher(tree, file);
+         assertEquals(1, publisher.getNumberOfPublications());
+         assertEquals(sizeBeforeRestart, Files.size(file));
+         assertTrue(subscriber.update());
+
+         for (int i = 0; i < numberOfFrames; i++)
+         {
+            RigidBodyTransform expected = tree.getFrame(i).getTransformToRoot();
+            EuclidCoreTestTools.assertRigidBodyTransformEquals(expected, subscriber.getFrame(i).getTransformToRoot(), EPSILON);
+         }
+
+         // A smaller tree does not shrink the file, but the subscriber cannot follow it.
+         ReferenceFrameTree otherTree = ReferenceFrameTree.fromSubtree(createMovingTree("root", random, new RigidBodyTransform[2])[0].getRootFrame());
+         otherTree.updateAll();
+         new SharedReferenceFrameTreePublisher(otherTree, file);
+         assertEquals(sizeBeforeRestart, Files.size(file));
+
+         try
+         {
+            subscriber.update();
+            fail("Should have thrown an exception");
+         }
+         catch (IllegalStateException e)
+         {
+            // good
+         }
+      }
+      finally
+      {
+         Files.deleteIfExists(file);
+      }
+   }
+
+   private static ReferenceFrame[] createMovingTree(String rootName, Random random, RigidBodyTransform[] transforms)
+   {
+      ReferenceFrame root = ReferenceFrame.constructARootFrame(rootName);
+      ReferenceFrame[] frames = new ReferenceFrame[transforms.length];
+
+      for (int i = 0; i < transforms.length; i++)
+      {
+         RigidBodyTransform transform = EuclidCoreRandomTools.nextRigidBodyTransform(random);
+         transforms[i] = transform;
+         ReferenceFrame parent = i == 0 || random.nextInt(4) == 0 ? root : frames[random.nextInt(i)];
+         frames[i] = new ReferenceFrame("frame" + i, parent)
+         {
+            @Override
+            protected void updateTransformToParent(RigidBodyTransform transformToParent)
+            {
+               transformToParent.set(transform);
+            }
+         };
+      }
+
+      return frames;
+   }
+}
@@ -0,0 +1,178 @@
+package us.ihmc.euclid.referenceFrame.tools;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.referenceFrame.FrameLine3D;
+import us.ihmc.euclid.referenceFrame.FrameLineSegment3D;
+import us.ihmc.euclid.referenceFrame.FramePoint3D;
+import us.ihmc.euclid.referenceFrame.FramePose3D;
+import us.ihmc.euclid.referenceFrame.FrameVector3D;
+import us.ihmc.euclid.referenceFrame.ReferenceFrame;
+import us.ihmc.euclid.referenceFrame.interfaces.FrameChangeable;
+
+public class EuclidFrameChangeToolsTest
+{
+   private static final int ITERATIONS = 100;
+   private static final double EPSILON = 1.0e-12;
+
+   @Test
+   public void testChangeFrame() throws Exception
+   {
+      Random random = new Random(3453);
+      ReferenceFrame[] frames = EuclidFrameRandomTools.nextReferenceFrameTree(random);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ReferenceFrame desiredFrame = frames[random.nextInt(frames.length)];
+         int size = random.nextInt(100);
+         List<FrameChangeable> objects = new ArrayList<>();
+         List<FrameChangeable> expected = new ArrayList<>();
+
+         for (int j = 0; j < size; j++)
+         {
+            // Creating runs of objects expressed in the same frame.
+            ReferenceFrame frame = j > 0 && random.nextBoolean() ? objects.get(j - 1).getReferenceFrame() : frames[random.nextInt(frames.length)];
+
+            if (random.nextBoolean())
+            {
+               FramePoint3D point = EuclidFrameRandomTools.nextFramePoint3D(random, frame);
+               objects.add(point);
+               expected.add(new FramePoint3D(point));
+            }
+            else
+            {
+               FrameVector3D vector = EuclidFrameRandomTools.nextFrameVector3D(random, frame);
+               objects.add(vector);
+               expected.add(new FrameVector3D(vector));
+            }
+
+            expected.get(j).changeFrame(desiredFrame);
+         }
+
+         if (random.nextBoolean())
+         {
+            EuclidFrameChangeTools.changeFrame(objects, desiredFrame);
+         }
+         else
+         {
+            FrameChangeable[] array = objects.toArray(new FrameChangeable[size]);
+            EuclidFrameChangeTools.changeFrame(array, desiredFrame);
+         }
+
+         assertObjectsEqual(expected, objects);
+      }
+   }
+
+   @Test
+   public void testChangeFrameOfGeometries() throws Exception
+   {
+      Random random = new Random(8734);
+      ReferenceFrame[] frames = EuclidFrameRandomTools.nextReferenceFrameTree(random);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         ReferenceFrame frame = frames[random.nextInt(frames.length)];
+         ReferenceFrame desiredFrame = frames[random.nextInt(frames.length)];
+         int size = random.nextInt(100);
+         List<FrameChangeable> objects = new ArrayList<>();
+         List<FrameChangeable> expected = new ArrayList<>();
+
+         for (int j = 0; j < size; j++)
+         {
+            switch (random.nextInt(3))
+            {
+            case 0:
+               FrameLine3D line = EuclidFrameRandomTools.nextFrameLine3D(random, frame);
+               objects.add(line);
+               expected.add(new FrameLine3D(line));
+               break;
+            case 1:
+               FrameLineSegment3D lineSegment = EuclidFrameRandomTools.nextFrameLineSegment3D(random, frame);
+               objects.add(lineSegment);
+               expected.add(new FrameLineSegment3D(lineSegment));
+               break;
+            default:
+               FramePose3D pose = EuclidFrameRandomTools.nextFramePose3D(random, frame);
+               objects.add(pose);
+               expected.add(new FramePose3D(pose));
+               break;
+            }
+
+            expected.get(j).changeFrame(desiredFrame);
+         }
+
+         EuclidFrameChangeTools.changeFrame(objects, desiredFrame);
+         assertObjectsEqual(expected, objects);
+      }
+   }
+
+   @Test
+   public void testChangeFrameInParallel() throws Exception
+   {
+      Random random = new Random(5674);
+      ReferenceFrame[] frames = EuclidFrameRandomTools.nextReferenceFrameTree(random);
+
+      for (int i = 0; i < 5; i++)
+      {
+         ReferenceFrame frame = frames[random.nextInt(frames.length)];
+         ReferenceFrame desiredFrame = frames[random.nextInt(frames.length)];
+         int size = EuclidFrameChangeTools.PARALLEL_CHANGE_FRAME_THRESHOLD + random.nextInt(10000);
+         // Every other iteration, one object is expressed in a different frame which prevents the parallel processing.
+         boolean singleFrame = i % 2 == 0;
+
+         FramePoint3D[] points = new FramePoint3D[size];
+         List<FrameChangeable> expected = new ArrayList<>();
+
+         for (int j = 0; j < size; j++)
+         {
+            ReferenceFrame pointFrame = !singleFrame && j == size / 2 ? frames[random.nextInt(frames.length)] : frame;
+            points[j] = EuclidFrameRandomTools.nextFramePoint3D(random, pointFrame);
+            expected.add(new FramePoint3D(points[j]));
+            expected.get(j).changeFrame(desiredFrame);
+         }
+
+         if (random.nextBoolean())
+         {
+            EuclidFrameChangeTools.changeFrameInParallel(points, desiredFrame);
+         }
+         else
+         {
+            List<FramePoint3D> list = new ArrayList<>();
+            for (FramePoint3D point : points)
+               list.add(point);
+            EuclidFrameChangeTools.changeFrameInParallel(list, desiredFrame);
+         }
+
+         List<FrameChangeable> actual = new ArrayList<>();
+         for (FramePoint3D point : points)
+            actual.add(point);
+         assertObjectsEqual(expected, actual);
+      }
+   }
+
+   private static void assertObjectsEqual(List<FrameChangeable> expected, List<FrameChangeable> actual)
+   {
+      for (int i = 0; i < expected.size(); i++)
+      {
+         FrameChangeable expectedObject = expected.get(i);
+         FrameChangeable actualObject = actual.get(i);
+
+         if (expectedObject instanceof FramePoint3D)
+            assertTrue(((FramePoint3D) expectedObject).epsilonEquals((FramePoint3D) actualObject, EPSILON));
+         else if (expectedObject instanceof FrameVector3D)
+            assertTrue(((FrameVector3D) expectedObject).epsilonEquals((FrameVector3D) actualObject, EPSILON));
+         else if (expectedObject instanceof FrameLine3D)
+            assertTrue(((FrameLine3D) expectedObject).epsilonEquals((FrameLine3D) actualObject, EPSILON));
+         else if (expectedObject instanceof FrameLineSegment3D)
+            assertTrue(((FrameLineSegment3D) expectedObject).epsilonEquals((FrameLineSegment3D) actualObject, EPSILON));
+         else
+            assertTrue(((FramePose3D) expectedObject).epsilonEquals((FramePose3D) actualObject, EPSILON));
+      }
+   }
+}
@@ -0,0 +1,207 @@
+package us.ihmc.euclid.referenceFrame.tools;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import us.ihmc.euclid.referenceFrame.FramePoint3D;
+import us.ihmc.euclid.referenceFrame.FramePose3D;
+import us.ihmc.euclid.referenceFrame.FrameQuaternion;
+import us.ihmc.euclid.referenceFrame.FrameVector3D;
+import us.ihmc.euclid.referenceFrame.ReferenceFrame;
+
+public class FrameObjectPoolTest
+{
+   private static final int ITERATIONS = 100;
+
+   @Test
+   public void testAcquireAndRelease() throws Exception
+   {
+      Random random = new Random(4366);
+      ReferenceFrame[] frames = EuclidFrameRandomTools.nextReferenceFrameTree(random);
+      FrameObjectPool pool = new FrameObjectPool(false);
+
+      FramePoint3D firstPoint;
+
+      try (FrameObjectPool.Scope scope = pool.openScope())
+      {
+         ReferenceFrame frame = frames[random.nextInt(frames.length)];
+         firstPoint = pool.getFramePoint3D(frame);
+         assertSame(frame, firstPoint.getReferenceFrame());
+         assertTrue(firstPoint.getX() == 0.0 && firstPoint.getY() == 0.0 && firstPoint.getZ() == 0.0);
+
+         FramePoint3D secondPoint = pool.getFramePoint3D(frame);
+         assertNotSame(firstPoint, secondPoint);
+
+         FrameVector3D vector = pool.getFrameVector3D(frame);
+         assertSame(frame, vector.getReferenceFrame());
+         assertTrue(vector.getX() == 0.0 && vector.getY() == 0.0 && vector.getZ() == 0.0);
+
+         FrameQuaternion quaternion = pool.getFrameQuaternion(frame);
+         assertSame(frame, quaternion.getReferenceFrame());
+         assertTrue(quaternion.getS() == 1.0 && quaternion.getX() == 0.0 && quaternion.getY() == 0.0 && quaternion.getZ() == 0.0);
+
+         FramePose3D pose = pool.getFramePose3D(frame);
+         assertSame(frame, pose.getReferenceFrame());
+         assertTrue(pose.getX() == 0.0 && pose.getY() == 0.0 && pose.getZ() == 0.0);
+         assertTrue(pose.getOrientation().getS() == 1.0);
+
+         firstPoint.set(1.0, 2.0, 3.0);
+         assertEquals(5, pool.getNumberOfObjectsInUse());
+         assertEquals(1, pool.getScopeDepth());
+      }
+
+      assertEquals(0, pool.getNumberOfObjectsInUse());
+      assertEquals(0, pool.getScopeDepth());
+      assertEquals(5, pool.getNumberOfAllocatedObjects());
+      assertEquals(5, pool.getNumberOfAcquisitions());
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         try (FrameObjectPool.Scope scope = pool.openScope())
+         {
+            ReferenceFrame frame = frames[random.nextInt(frames.length)];
+            FramePoint3D point = pool.getFramePoint3D(frame);
+            // The objects are recycled and reinitialized.
+            assertSame(firstPoint, point);
+            assertSame(frame, point.getReferenceFrame());
+            assertTrue(point.getX() == 0.0 && point.getY() == 0.0 && point.getZ() == 0.0);
+            point.set(random.nextDouble(), random.nextDouble(), random.nextDouble());
+         }
+      }
+
+      assertEquals(5, pool.getNumberOfAllocatedObjects());
+      assertEquals(5 + ITERATIONS, pool.getNumberOfAcquisitions());
+   }
+
+   @Test
+   public void testNestedScopes() throws Exception
+   {
+      Random random = new Random(9823);
+      ReferenceFrame[] frames = EuclidFrameRandomTools.nextReferenceFrameTree(random);
+      FrameObjectPool pool = new FrameObjectPool(true);
+
+      for (int i = 0; i < ITERATIONS; i++)
+      {
+         int depth = random.nextInt(10) + 1;
+         FrameObjectPool.Scope[] scopes = new FrameObjectPool.Scope[depth];
+         int[] objectsInUse = new int[depth];
+
+         for (int j = 0; j < depth; j++)
+         {
+            objectsInUse[j] = pool.getNumberOfObjectsInUse();
+            scopes[j] = pool.openScope();
+            int numberOfObjects = random.nextInt(5);
+
+            for (int k = 0; k < numberOfObjects; k++)
+               pool.getFrameVector3D(frames[random.nextInt(frames.length)]);
+         }
+
+         for (int j = depth - 1; j >= 0; j--)
+         {
+            scopes[j].close();
+            assertEquals(objectsInUse[j], pool.getNumberOfObjectsInUse());
+            assertEquals(j, pool.getScopeDepth());
+         }
+      }
+
+      assertTrue(pool.getMaximumScopeDepth() <= 10);
+      assertEquals(0, pool.getNumberOfObjectsInUse());
+   }
+
+   @Test
+   public void testDebugMode() throws Exception
+   {
+      FrameObjectPool pool = new FrameObjectPool(true);
+      ReferenceFrame worldFrame = ReferenceFrame.getWorldFrame();
+
+      // Acquiring outside a scope.
+      try
+      {
+         pool.getFramePoint3D(worldFrame);
+         fail("Should have thrown an IllegalStateException.");
+      }
+      catch (IllegalStateException e)
+      {
+         // good
+      }
+
+      // Leaked scope.
+      FrameObjectPool.Scope outerScope = pool.openScope();
+      FrameObjectPool.Scope innerScope = pool.openScope();
+
+      try
+      {
+         outerScope.close();
+         fail("Should have thrown an IllegalStateException.");
+      }
+      catch (IllegalStateException e)
+      {
+         assertTrue(e.getCause() != null);
+      }
+
+      innerScope.close();
+
+      // Closing twice.
+      try
+      {
+         innerScope.close();
+         fail("Should have thrown an IllegalStateException.");
+      }
+      catch (IllegalStateException e)
+      {
+         // good
+      }
+
+      // Released objects are poisoned.
+      FramePoint3D point = pool.getFramePoint3D(worldFrame);
+      outerScope.close();
+      assertTrue(point.containsNaN());
+
+      // Thread confinement.
+      AtomicReference<Throwable> error = new AtomicReference<>();
+      Thread thread = new Thread(() ->
+      {
+         try
+         {
+            pool.openScope();
+         }
+         catch (Throwable e)
+         {
+            error.set(e);
+         }
+      });
+      thread.start();
+      thread.join();
+      assertTrue(error.get() instanceof IllegalStateException);
+
+      // Non-debug pools do not poison released objects.
+      FrameObjectPool releasePool = new FrameObjectPool(false);
+      assertFalse(releasePool.isDebugEnabled());
+      FrameObjectPool.Scope scope = releasePool.openScope();
+      point = releasePool.getFramePoint3D(worldFrame);
+      scope.close();
+      assertFalse(point.containsNaN());
+   }
+
+   @Test
+   public void testThreadLocalPool() throws Exception
+   {
+      FrameObjectPool pool = FrameObjectPool.getThreadLocalPool();
+      assertSame(pool, FrameObjectPool.getThreadLocalPool());
+
+      AtomicReference<FrameObjectPool> otherPool = new AtomicReference<>();
+      Thread thread = new Thread(() -> otherPool.set(FrameObjectPool.getThreadLocalPool()));
+      thread.start();
+      thread.join();
+      assertNotSame(pool, otherPool.get());
+   }
+}
@@ -33,6 +33,7 @@ import us.ihmc.euclid.geometry.exceptions.BoundingBoxExceptionTest;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryPolygonToolsTest;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryTestToolsTest;
 import us.ihmc.euclid.geometry.tools.EuclidGeometryToolsTest;
+import us.ihmc.euclid.referenceFrame.BufferedReferenceFrameTreeTest;
 import us.ihmc.euclid.referenceFrame.FrameLine2DTest;
 import us.ihmc.euclid.referenceFrame.FrameLine3DTest;
 import us.ihmc.euclid.referenceFrame.FrameLineSegment2DTest;
@@ -40,15 +41,21 @@ import us.ihmc.euclid.referenceFrame.FrameLineSegment3DTest;
 import us.ihmc.euclid.referenceFrame.FrameOrientation2DTest;
 import us.ihmc.euclid.referenceFrame.FramePoint2DTest;
 import us.ihmc.euclid.referenceFrame.FramePoint3DTest;
+import us.ihmc.euclid.referenceFrame.FramePointCloud3DTest;
 import us.ihmc.euclid.referenceFrame.FramePose2DTest;
 import us.ihmc.euclid.referenceFrame.FramePose3DTest;
 import us.ihmc.euclid.referenceFrame.FrameQuaternionTest;
 import us.ihmc.euclid.referenceFrame.FrameVector2DTest;
 import us.ihmc.euclid.referenceFrame.FrameVector3DTest;
 import us.ihmc.euclid.referenceFrame.FrameVector4DTest;
+import us.ihmc.euclid.referenceFrame.ReferenceFrameAllocationTest;
 import us.ihmc.euclid.referenceFrame.ReferenceFrameTest;
+import us.ihmc.euclid.referenceFrame.ReferenceFrameTreeTest;
+import us.ihmc.euclid.referenceFrame.SharedReferenceFrameTreeTest;
+import us.ihmc.euclid.referenceFrame.tools.EuclidFrameChangeToolsTest;
 import us.ihmc.euclid.referenceFrame.tools.EuclidFrameTestToolsTest;
 import us.ihmc.euclid.referenceFrame.tools.EuclidFrameToolsTest;
+import us.ihmc.euclid.referenceFrame.tools.FrameObjectPoolTest;
 import us.ihmc.euclid.utils.NameBasedHashCodeToolsTest;
 
 @RunWith(Suite.class)
@@ -64,16 +71,18 @@ import us.ihmc.euclid.utils.NameBasedHashCodeToolsTest;
       // Tools tests
       EuclidGeometryToolsTest.class, EuclidGeometryPolygonToolsTest.class, EuclidGeometryTestToolsTest.class,
       // Reference frame framework tests
-      ReferenceFrameTest.class,
+      ReferenceFrameTest.class, ReferenceFrameTreeTest.class, ReferenceFrameAllocationTest.class, SharedReferenceFrameTreeTest.class,
+      BufferedReferenceFrameTreeTest.class,
       // 1D
       // 2D
       FramePoint2DTest.class, FrameVector2DTest.class, FramePose2DTest.class, FrameOrientation2DTest.class, FrameLineSegment2DTest.class, FrameLine2DTest.class,
       // 3D
-      FramePoint3DTest.class, FrameVector3DTest.class, FramePose3DTest.class, FrameLineSegment3DTest.class, FrameLine3DTest.class,
+      FramePoint3DTest.class, FrameVector3DTest.class, FramePose3DTest.class, FrameLineSegment3DTest.class, FrameLine3DTest.class, FramePointCloud3DTest.class,
       // 4D
       FrameQuaternionTest.class, FrameVector4DTest.class,
       // Tools tests
-      EuclidFrameToolsTest.class, NameBasedHashCodeToolsTest.class, EuclidFrameTestToolsTest.class,
+      EuclidFrameToolsTest.class, NameBasedHashCodeToolsTest.class, EuclidFrameTestToolsTest.class, EuclidFrameChangeToolsTest.class,
+      FrameObjectPoolTest.class,
       // Exceptions tests
       BoundingBoxExceptionTest.class,
       // Axis test